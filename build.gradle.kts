@@ -57,10 +57,23 @@ allprojects {
     }
 }
 
+// Precompiled binary registries, see RegistrySnapshotGenerator
+val registryCodegen: Configuration by configurations.creating
+val generateRegistrySnapshots by tasks.registering(JavaExec::class) {
+    val outputDir = layout.buildDirectory.dir("generated/registry")
+    // The snapshots to generate are listed by Registry.Resource, read from the compiled server classes
+    classpath = registryCodegen + sourceSets.main.get().output.classesDirs
+    mainClass.set("net.minestom.codegen.registry.RegistrySnapshotGenerator")
+    argumentProviders.add(CommandLineArgumentProvider { listOf(outputDir.get().asFile.absolutePath) })
+    inputs.files(registryCodegen)
+    outputs.dir(outputDir)
+}
+
 sourceSets {
     main {
         java.srcDir(file("src/main/java"))
         java.srcDir(file("src/autogenerated/java"))
+        resources.srcDir(generateRegistrySnapshots)
     }
 }
 
@@ -78,6 +91,9 @@ dependencies {
     api(libs.gson)
     implementation(libs.jcTools)
 
+    // Registry snapshot generation
+    registryCodegen(project(":code-generators"))
+
     // Testing
     testImplementation(libs.bundles.junit)
     testImplementation(project(":testing"))
@@ -16,6 +16,20 @@ dependencies {
     implementation(libs.javaPoet)
 }
 
+// The binary registry format is shared with the server, see RegistrySnapshotGenerator
+val registryFormatSource by tasks.registering(Sync::class) {
+    from(rootProject.file("src/main/java/net/minestom/server/registry/BinaryRegistryFormat.java")) {
+        into("net/minestom/server/registry")
+    }
+    into(layout.buildDirectory.dir("generated/sources/registryFormat"))
+}
+
+sourceSets {
+    main {
+        java.srcDir(registryFormatSource)
+    }
+}
+
 tasks {
 
     application {
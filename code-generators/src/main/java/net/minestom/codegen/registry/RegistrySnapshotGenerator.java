@@ -0,0 +1,115 @@
+package net.minestom.codegen.registry;
+
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import net.minestom.server.registry.BinaryRegistryFormat;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Precompiles the json registries into the binary format read by {@link BinaryRegistryFormat}.
+ * <p>
+ * The format class is shared with the server sources, see the {@code registryFormatSource} task.
+ * The resources are those of {@code Registry.Resource}, which must be on the classpath.
+ */
+public final class RegistrySnapshotGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegistrySnapshotGenerator.class);
+
+    // Loaded from the server classes, the generator cannot depend on the server
+    private static final String RESOURCE_CLASS = "net.minestom.server.registry.Registry$Resource";
+
+    private final File outputFolder;
+
+    public RegistrySnapshotGenerator(@NotNull File outputFolder) {
+        this.outputFolder = outputFolder;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            LOGGER.error("Usage: <target folder>");
+            return;
+        }
+        new RegistrySnapshotGenerator(new File(args[0])).generate();
+    }
+
+    public void generate() {
+        for (String resource : resources()) {
+            try (InputStream stream = RegistrySnapshotGenerator.class.getResourceAsStream("/" + resource)) {
+                if (stream == null) {
+                    LOGGER.error("Failed to find {}, skipping its snapshot.", resource);
+                    continue;
+                }
+                final byte[] source = stream.readAllBytes();
+                final Object root;
+                try (JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(source), StandardCharsets.UTF_8))) {
+                    root = readValue(reader);
+                }
+                final File output = new File(outputFolder, BinaryRegistryFormat.binaryFileName(resource));
+                if (!output.getParentFile().exists() && !output.getParentFile().mkdirs()) {
+                    LOGGER.error("Output folder for {} does not exist and could not be created.", resource);
+                    return;
+                }
+                try (OutputStream out = new BufferedOutputStream(new FileOutputStream(output))) {
+                    //noinspection unchecked
+                    BinaryRegistryFormat.write((Map<String, ?>) root, BinaryRegistryFormat.sourceHash(source), out);
+                }
+            } catch (IOException e) {
+                LOGGER.error("An error occurred while generating the snapshot of " + resource, e);
+            }
+        }
+        LOGGER.info("Finished generating registry snapshots");
+    }
+
+    /**
+     * Lists the json resources of {@code Registry.Resource}, without initializing the registries.
+     *
+     * @return the json file names
+     */
+    private static List<String> resources() {
+        try {
+            final Class<?> type = Class.forName(RESOURCE_CLASS);
+            final Method fileName = type.getMethod("fileName");
+            List<String> resources = new ArrayList<>();
+            for (Object resource : type.getEnumConstants()) {
+                final String name = (String) fileName.invoke(resource);
+                // Other formats are not precompiled
+                if (name.endsWith(".json")) resources.add(name);
+            }
+            return resources;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Registry resources are not on the classpath", e);
+        }
+    }
+
+    /**
+     * Mirrors {@code Registry#readObject} but keeps the file order, so that the server fills its maps identically.
+     */
+    private static Object readValue(JsonReader reader) throws IOException {
+        return switch (reader.peek()) {
+            case BEGIN_ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) list.add(readValue(reader));
+                reader.endArray();
+                yield list;
+            }
+            case BEGIN_OBJECT -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                reader.beginObject();
+                while (reader.hasNext()) map.put(reader.nextName(), readValue(reader));
+                reader.endObject();
+                yield map;
+            }
+            case STRING -> reader.nextString();
+            case NUMBER -> ToNumberPolicy.LONG_OR_DOUBLE.readNumber(reader);
+            case BOOLEAN -> reader.nextBoolean();
+            default -> throw new IllegalStateException("Invalid peek: " + reader.peek());
+        };
+    }
+}
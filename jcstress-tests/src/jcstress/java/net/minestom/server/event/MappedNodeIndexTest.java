@@ -0,0 +1,63 @@
+package net.minestom.server.event;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Outcome(id = "0, 0, 1", expect = ACCEPTABLE)
+@Outcome(id = "0, 1, 1", expect = ACCEPTABLE)
+@Outcome(id = "1, 0, 1", expect = ACCEPTABLE)
+@Outcome(id = "1, 1, 1", expect = ACCEPTABLE)
+@Outcome(expect = FORBIDDEN, desc = "Mapped node called twice, or stale mapping after unmap")
+@State
+public class MappedNodeIndexTest {
+    private static final EventFilter<MappedEvent, Object> FILTER =
+            EventFilter.from(MappedEvent.class, Object.class, MappedEvent::owner);
+
+    private final EventNode<Event> node = EventNode.all("main");
+    private final Object ownerA = new Object();
+    private final Object ownerB = new Object();
+    private final AtomicInteger callsA = new AtomicInteger();
+    private final AtomicInteger callsB = new AtomicInteger();
+    // Mapped nodes are weakly referenced by their holder
+    private final EventNode<MappedEvent> nodeA;
+    private volatile EventNode<MappedEvent> nodeB;
+
+    public MappedNodeIndexTest() {
+        this.nodeA = node.map(ownerA, FILTER);
+        nodeA.addListener(MappedEvent.class, event -> callsA.incrementAndGet());
+    }
+
+    @Actor
+    public void dispatch() {
+        node.call(new MappedEvent(ownerB));
+        node.call(new MappedEvent(ownerA));
+    }
+
+    @Actor
+    public void remap() {
+        var nodeB = node.map(ownerB, FILTER);
+        nodeB.addListener(MappedEvent.class, event -> callsB.incrementAndGet());
+        this.nodeB = nodeB;
+        node.unmap(ownerA);
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        r.r1 = callsA.get();
+        r.r2 = callsB.get();
+        // Once both actors are done, only the node of B must be called
+        final int beforeA = callsA.get(), beforeB = callsB.get();
+        node.call(new MappedEvent(ownerA));
+        node.call(new MappedEvent(ownerB));
+        r.r3 = callsA.get() == beforeA && callsB.get() == beforeB + 1 ? 1 : 0;
+    }
+
+    public record MappedEvent(Object owner) implements Event {
+    }
+}
@@ -0,0 +1,95 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.WorldBorder;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates one tick of dropped items, either one by one or in a single {@link PhysicsBatch}.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PhysicsBatchBenchmark {
+    private static final BoundingBox ITEM_BOX = new BoundingBox(0.25, 0.25, 0.25);
+    private static final Aerodynamics ITEM_AERODYNAMICS = new Aerodynamics(0.04, 0.98, 0.98);
+    private static final Block.Getter FLAT_WORLD = (x, y, z, condition) -> y < 40 ? Block.STONE : Block.AIR;
+
+    @Param({"20000"})
+    public int items;
+
+    /**
+     * Percentage of items still falling or sliding, the others are resting on the ground.
+     */
+    @Param({"0", "10", "100"})
+    public int moving;
+
+    private Pos[] positions;
+    private Vec[] velocities;
+    private boolean[] onGround;
+    private PhysicsResult[] previousResults;
+
+    private final PhysicsBatch batch = new PhysicsBatch();
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        this.positions = new Pos[items];
+        this.velocities = new Vec[items];
+        this.onGround = new boolean[items];
+        this.previousResults = new PhysicsResult[items];
+        for (int i = 0; i < items; i++) {
+            final double x = random.nextDouble() * 256, z = random.nextDouble() * 256;
+            if (random.nextInt(100) < moving) {
+                positions[i] = new Pos(x, 40 + random.nextDouble() * 20, z);
+                velocities[i] = new Vec(random.nextDouble() - 0.5, 0.2, random.nextDouble() - 0.5);
+            } else {
+                positions[i] = new Pos(x, 40, z);
+                velocities[i] = new Vec(0, -0.04, 0);
+            }
+        }
+        // Settle resting items so that they go through the cached path
+        for (int tick = 0; tick < 3; tick++) {
+            for (int i = 0; i < items; i++) {
+                if (positions[i].y() != 40) continue;
+                PhysicsResult result = PhysicsUtils.simulateMovement(positions[i], velocities[i], ITEM_BOX,
+                        WorldBorder.DEFAULT_BORDER, FLAT_WORLD, ITEM_AERODYNAMICS, false, true, onGround[i], false, previousResults[i]);
+                previousResults[i] = result;
+                velocities[i] = result.newVelocity();
+                onGround[i] = result.isOnGround();
+            }
+        }
+    }
+
+    @Benchmark
+    public void sequential(Blackhole bh) {
+        for (int i = 0; i < items; i++) {
+            bh.consume(PhysicsUtils.simulateMovement(positions[i], velocities[i], ITEM_BOX,
+                    WorldBorder.DEFAULT_BORDER, FLAT_WORLD, ITEM_AERODYNAMICS, false, true, onGround[i], false, previousResults[i]));
+        }
+    }
+
+    @Benchmark
+    public void batched(Blackhole bh) {
+        final PhysicsBatch batch = this.batch;
+        for (int i = 0; i < items; i++) {
+            batch.add(positions[i], velocities[i], ITEM_BOX, ITEM_AERODYNAMICS, false, true, onGround[i], previousResults[i]);
+        }
+        batch.simulate(WorldBorder.DEFAULT_BORDER, FLAT_WORLD);
+        for (int i = 0; i < items; i++) {
+            bh.consume(batch.result(i));
+        }
+        batch.clear();
+    }
+}
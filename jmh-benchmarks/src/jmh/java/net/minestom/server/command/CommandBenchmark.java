@@ -17,11 +17,14 @@ import static net.minestom.server.command.builder.arguments.ArgumentType.*;
 @Warmup(time = 2, iterations = 3)
 @Measurement(time = 6)
 public class CommandBenchmark {
+    Set<Command> commands;
+    Graph graph;
     Function<String, Object> parser;
+    CommandManager manager;
 
     @Setup
     public void setup() {
-        var graph = Graph.merge(Set.of(
+        this.commands = Set.of(
                 new Command("tp", "teleport") {{
                     addSyntax((sender, context) -> {}, RelativeVec3("pos"));
                     addSyntax((sender, context) -> {}, Entity("entity"), RelativeVec3("pos"));
@@ -49,9 +52,37 @@ public class CommandBenchmark {
                     addSyntax((sender, context) -> {}, Literal("float"), Float("val"));
                     addSyntax((sender, context) -> {}, Literal("long"), Long("val"));
                 }}
-        ));
+        );
+        this.graph = Graph.merge(commands);
         final CommandParser commandParser = CommandParser.parser();
         this.parser = input -> commandParser.parse(null, graph, input);
+        this.manager = new CommandManager();
+        commands.forEach(manager::register);
+    }
+
+    @Benchmark
+    public void graphMerge(Blackhole bh) {
+        bh.consume(Graph.merge(commands));
+    }
+
+    @Benchmark
+    public void declareCommandsPacket(Blackhole bh) {
+        bh.consume(GraphConverter.createPacket(graph, null));
+    }
+
+    @Benchmark
+    public void cachedDeclareCommandsPacket(Blackhole bh) {
+        bh.consume(manager.declareCommandsPacket(null));
+    }
+
+    @Benchmark
+    public void managerParse(Blackhole bh) {
+        bh.consume(manager.parseCommand(manager.getConsoleSender(), "foo bar"));
+    }
+
+    @Benchmark
+    public void completionParse(Blackhole bh) {
+        bh.consume(manager.parseCompletion(manager.getConsoleSender(), "setblock ~ ~ ~ "));
     }
 
     @Benchmark
@@ -0,0 +1,85 @@
+package net.minestom.server.event;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.event.entity.EntityTickEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticks 10k entities, with and without an {@link EntityTickEvent} listener.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EntityTickEventBenchmark {
+
+    @Param({"10000"})
+    public int entities;
+
+    @Param({"false", "true"})
+    public boolean listener;
+
+    private final List<Entity> entityList = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        Instance instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
+        for (int x = -2; x < 2; x++) {
+            for (int z = -2; z < 2; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        for (int i = 0; i < entities; i++) {
+            Entity entity = new Entity(EntityType.ARMOR_STAND);
+            entity.setNoGravity(true);
+            entity.setInstance(instance, new Pos(-32 + (i % 64), 40, -32 + (i / 64) % 64)).join();
+            entityList.add(entity);
+        }
+        if (listener) {
+            MinecraftServer.getGlobalEventHandler().addListener(EntityTickEvent.class, event -> {
+            });
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        MinecraftServer.stopCleanly();
+    }
+
+    @Benchmark
+    public void tick() {
+        final long time = System.currentTimeMillis();
+        for (Entity entity : entityList) {
+            entity.tick(time);
+        }
+    }
+
+    @Benchmark
+    public void eagerEvent() {
+        for (Entity entity : entityList) {
+            EventDispatcher.call(new EntityTickEvent(entity));
+        }
+    }
+
+    @Benchmark
+    public void lazyEvent() {
+        for (Entity entity : entityList) {
+            EventDispatcher.call(EntityTickEvent.class, entity, EntityTickEvent::new);
+        }
+    }
+}
@@ -12,19 +12,29 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 public class MultiNodeBenchmark {
 
-    @Param({"0", "1", "3", "10"})
+    @Param({"0", "1", "3", "10", "100"})
     public int children;
 
+    @Param({"false", "true"})
+    public boolean compiled;
+
     private EventNode<Event> node;
+    private Object[] targets;
+    private EventNode<?>[] mappedNodes; // Mapped nodes are weakly referenced by their parent
 
     record TestEvent() implements Event {
     }
 
+    record MappedEvent(Object target) implements Event {
+    }
+
     record TestEvent2() implements Event {
     }
 
     @Setup
     public void setup() {
+        // Each parameter set runs in its own fork, before ServerFlag is initialized
+        System.setProperty("minestom.event.compiled-dispatch", String.valueOf(compiled));
         node = EventNode.all("node");
         for (int i = 0; i < children; i++) {
             var child = EventNode.all("child-" + i);
@@ -40,10 +50,25 @@ public class MultiNodeBenchmark {
                 // Empty
             }).call(new TestEvent2());
         }
+        // One mapped node per target, like per-instance or per-player nodes
+        final EventFilter<MappedEvent, Object> filter = EventFilter.from(MappedEvent.class, Object.class, MappedEvent::target);
+        this.targets = new Object[Math.max(1, children)];
+        this.mappedNodes = new EventNode[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = new Object();
+            mappedNodes[i] = node.map(targets[i], filter).addListener(MappedEvent.class, e -> {
+                // Empty
+            });
+        }
     }
 
     @Benchmark
     public void call() {
         node.call(new TestEvent());
     }
+
+    @Benchmark
+    public void mappedCall() {
+        node.call(new MappedEvent(targets[targets.length / 2]));
+    }
 }
@@ -15,6 +15,9 @@ public class SingleNodeBenchmark {
     @Param({"0", "1", "2", "3", "5", "10"})
     public int listenerCount;
 
+    @Param({"false", "true"})
+    public boolean compiled;
+
     private EventNode<Event> node;
     private ListenerHandle<TestEvent> handle;
 
@@ -26,6 +29,8 @@ public class SingleNodeBenchmark {
 
     @Setup
     public void setup() {
+        // Each parameter set runs in its own fork, before ServerFlag is initialized
+        System.setProperty("minestom.event.compiled-dispatch", String.valueOf(compiled));
         node = EventNode.all("node");
         for (int i = 0; i < listenerCount; i++) {
             node.addListener(TestEvent.class, e -> {
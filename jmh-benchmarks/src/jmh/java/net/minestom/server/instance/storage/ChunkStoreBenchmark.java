@@ -0,0 +1,92 @@
+package net.minestom.server.instance.storage;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.IChunkLoader;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.anvil.AnvilLoader;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Saves and loads 64 chunks with a {@link ChunkStoreLoader} and an {@link AnvilLoader}.
+ * <p>
+ * A single block of each chunk is changed before saving, as a periodic save would.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ChunkStoreBenchmark {
+
+    @Param({"store", "anvil"})
+    public String format;
+
+    private Path folder;
+    private IChunkLoader loader;
+    private InstanceContainer instance;
+    private final List<Chunk> chunks = new ArrayList<>();
+    private int change;
+
+    @Setup
+    public void setup() throws IOException {
+        MinecraftServer.init();
+        this.folder = Files.createTempDirectory("minestom-chunks");
+        this.loader = switch (format) {
+            case "store" -> new ChunkStoreLoader(folder.resolve("chunks.mcs"));
+            case "anvil" -> new AnvilLoader(folder);
+            default -> throw new IllegalArgumentException(format);
+        };
+        this.instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(-64, 0, Block.STONE);
+            unit.modifier().fillHeight(0, 40, Block.DIRT);
+            unit.modifier().fillHeight(40, 41, Block.GRASS_BLOCK);
+        });
+        for (int x = 0; x < 8; x++) {
+            for (int z = 0; z < 8; z++) {
+                chunks.add(instance.loadChunk(x, z).join());
+            }
+        }
+        loader.saveChunks(chunks).join();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (loader instanceof ChunkStoreLoader storeLoader) storeLoader.store().close();
+        MinecraftServer.stopCleanly();
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) Files.delete(file);
+        }
+    }
+
+    @Benchmark
+    public void save() {
+        final Block block = (change++ & 1) == 0 ? Block.STONE : Block.DIRT;
+        for (Chunk chunk : chunks) {
+            synchronized (chunk) {
+                chunk.setBlock(0, 41, 0, block);
+            }
+        }
+        loader.saveChunks(chunks).join();
+    }
+
+    @Benchmark
+    public void load(Blackhole blackhole) {
+        for (Chunk chunk : chunks) {
+            blackhole.consume(loader.loadChunk(instance, chunk.getChunkX(), chunk.getChunkZ()).join());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package net.minestom.server.inventory;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.item.ItemComponent;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.play.WindowItemsPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refreshes a 54 slots shop inventory rebuilding all of its items, then compares them with the previously
+ * sent contents and encodes the full window.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class InventorySyncBenchmark {
+    private static final int SIZE = InventoryType.CHEST_6_ROW.getSize();
+
+    @Param({"false", "true"})
+    public boolean interned;
+
+    private ItemStack[] sent;
+    private NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        // Each parameter set runs in its own fork, before ServerFlag is initialized
+        System.setProperty("minestom.item.intern-components", String.valueOf(interned));
+        MinecraftServer.init();
+        this.sent = createContents();
+        this.buffer = new NetworkBuffer(64 * 1024);
+    }
+
+    @Benchmark
+    public int diff() {
+        final ItemStack[] contents = createContents();
+        int changed = 0;
+        for (int i = 0; i < SIZE; i++) {
+            final ItemStack known = sent[i];
+            final ItemStack item = contents[i];
+            if (known != item && !known.equals(item)) changed++;
+        }
+        return changed;
+    }
+
+    @Benchmark
+    public int encode() {
+        buffer.clear();
+        final WindowItemsPacket packet = new WindowItemsPacket((byte) 1, 0, List.of(sent), ItemStack.AIR);
+        packet.write(buffer);
+        return buffer.writeIndex();
+    }
+
+    private static ItemStack[] createContents() {
+        ItemStack[] contents = new ItemStack[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            contents[i] = ItemStack.builder(i % 2 == 0 ? Material.DIAMOND : Material.EMERALD)
+                    .customName(Component.text("Offer #" + i))
+                    .lore(Component.text("Price: " + (i * 10)), Component.text("Click to buy"))
+                    .set(ItemComponent.MAX_STACK_SIZE, 16)
+                    .build();
+        }
+        return contents;
+    }
+}
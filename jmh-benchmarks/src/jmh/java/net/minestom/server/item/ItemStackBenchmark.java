@@ -0,0 +1,70 @@
+package net.minestom.server.item;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.NetworkBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares equal item stacks built separately, as done by GUIs rebuilding their items on every refresh.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ItemStackBenchmark {
+
+    @Param({"false", "true"})
+    public boolean interned;
+
+    private ItemStack first;
+    private ItemStack second;
+    private ItemStack different;
+    private NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        // Each parameter set runs in its own fork, before ServerFlag is initialized
+        System.setProperty("minestom.item.intern-components", String.valueOf(interned));
+        MinecraftServer.init();
+        this.first = createItem("Shop item");
+        this.second = createItem("Shop item");
+        this.different = createItem("Other item");
+        this.buffer = new NetworkBuffer(4096);
+    }
+
+    @Benchmark
+    public ItemStack build() {
+        return createItem("Shop item");
+    }
+
+    @Benchmark
+    public boolean isSimilar() {
+        return first.isSimilar(second);
+    }
+
+    @Benchmark
+    public boolean equalsDifferent() {
+        return first.equals(different);
+    }
+
+    @Benchmark
+    public int networkWrite() {
+        buffer.clear();
+        buffer.write(ItemStack.NETWORK_TYPE, first);
+        return buffer.writeIndex();
+    }
+
+    static ItemStack createItem(String name) {
+        return ItemStack.builder(Material.DIAMOND_SWORD)
+                .customName(Component.text(name))
+                .lore(Component.text("Price: 100"), Component.text("Click to buy"))
+                .set(ItemComponent.MAX_STACK_SIZE, 16)
+                .glowing()
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading movement packets through a {@link NetworkBuffer} and straight from the frame.
+ * <p>
+ * Run with {@code -prof gc} to get the allocation rate per packet.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MovementPacketReadBenchmark {
+
+    @Param({"position", "position_rotation", "rotation", "on_ground"})
+    public String packet;
+
+    private ByteBuffer body;
+
+    @Setup
+    public void setup() {
+        final ClientPacket clientPacket = switch (packet) {
+            case "position" -> new ClientPlayerPositionPacket(new Vec(12.5, 64, -3.25), true);
+            case "position_rotation" -> new ClientPlayerPositionAndRotationPacket(new Pos(12.5, 64, -3.25, 90, 10), true);
+            case "rotation" -> new ClientPlayerRotationPacket(90, 10, false);
+            case "on_ground" -> new ClientPlayerPacket(true);
+            default -> throw new IllegalArgumentException(packet);
+        };
+        this.body = ByteBuffer.wrap(NetworkBuffer.makeArray(buffer -> buffer.write(clientPacket)));
+    }
+
+    @Benchmark
+    public ClientPacket networkBuffer() {
+        final NetworkBuffer buffer = new NetworkBuffer(body.position(0));
+        return switch (packet) {
+            case "position" -> new ClientPlayerPositionPacket(buffer);
+            case "position_rotation" -> new ClientPlayerPositionAndRotationPacket(buffer);
+            case "rotation" -> new ClientPlayerRotationPacket(buffer);
+            default -> new ClientPlayerPacket(buffer);
+        };
+    }
+
+    @Benchmark
+    public ClientPacket direct() {
+        final ByteBuffer body = this.body.position(0);
+        return switch (packet) {
+            case "position" -> ClientPlayerPositionPacket.read(body);
+            case "position_rotation" -> ClientPlayerPositionAndRotationPacket.read(body);
+            case "rotation" -> ClientPlayerRotationPacket.read(body);
+            default -> ClientPlayerPacket.read(body);
+        };
+    }
+}
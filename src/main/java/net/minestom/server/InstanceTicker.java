@@ -0,0 +1,62 @@
+package net.minestom.server;
+
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
+
+/**
+ * Ticks every instance once per server tick, in parallel when given threads.
+ * <p>
+ * An instance is only ticked by a single thread at once, and all instances are done ticking
+ * before {@link #tick(Collection, long)} returns. Listeners of instance ticks must however be safe to call
+ * from multiple threads.
+ *
+ * @see ServerFlag#INSTANCE_TICK_THREADS
+ */
+final class InstanceTicker {
+    // Pool ticking instances in parallel, null to tick them on the calling thread
+    private final ForkJoinPool pool;
+    private final Consumer<Throwable> exceptionHandler;
+
+    InstanceTicker(int threads, @NotNull Consumer<Throwable> exceptionHandler) {
+        this.pool = threads > 0 ? new ForkJoinPool(threads, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Ms-InstanceTick-" + thread.getPoolIndex());
+            return thread;
+        }, null, false) : null;
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    void tick(@NotNull Collection<Instance> instances, long tickStart) {
+        final ForkJoinPool pool = this.pool;
+        if (pool == null || instances.size() <= 1) {
+            for (Instance instance : instances) tickInstance(instance, tickStart);
+            return;
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(instances.size());
+        for (Instance instance : instances) {
+            tasks.add(pool.submit(() -> tickInstance(instance, tickStart)));
+        }
+        // Joining also makes the changes of this tick visible to the next one
+        for (ForkJoinTask<?> task : tasks) task.join();
+    }
+
+    void shutdown() {
+        if (pool != null) pool.shutdownNow();
+    }
+
+    private void tickInstance(Instance instance, long tickStart) {
+        try {
+            instance.tick(tickStart);
+        } catch (Exception e) {
+            exceptionHandler.accept(e);
+        }
+    }
+}
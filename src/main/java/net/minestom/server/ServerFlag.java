@@ -25,11 +25,13 @@ public final class ServerFlag {
     public static final int SOCKET_RECEIVE_BUFFER_SIZE = intProperty("minestom.receive-buffer-size", 32_767);
     public static final boolean SOCKET_NO_DELAY = booleanProperty("minestom.tcp-no-delay", true);
     public static final int POOLED_BUFFER_SIZE = intProperty("minestom.pooled-buffer-size", 262_143);
+    public static final long NETWORK_BUFFER_MEMORY_LIMIT = longProperty("minestom.network.buffer-memory-limit", 0); // 0 = unlimited
     public static final int SEND_LIGHT_AFTER_BLOCK_PLACEMENT_DELAY = intProperty("minestom.send-light-after-block-placement-delay", 100);
     public static final long LOGIN_PLUGIN_MESSAGE_TIMEOUT = longProperty("minestom.login-plugin-message-timeout", 5_000);
 
     // Network rate limiting
     public static final int PLAYER_PACKET_PER_TICK = intProperty("minestom.packet-per-tick", 50);
+    public static final int PLAYER_PACKET_PER_TICK_MAX = intProperty("minestom.packet-per-tick-max", PLAYER_PACKET_PER_TICK * 4);
     public static final int PLAYER_PACKET_QUEUE_SIZE = intProperty("minestom.packet-queue-size", 1000);
     public static final long KEEP_ALIVE_DELAY = longProperty("minestom.keep-alive-delay", 10_000);
     public static final long KEEP_ALIVE_KICK = longProperty("minestom.keep-alive-kick", 15_000);
@@ -38,11 +40,16 @@ public final class ServerFlag {
     public static final float MIN_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.min-per-tick", 0.01f);
     public static final float MAX_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.max-per-tick", 64.0f);
     public static final float CHUNKS_PER_TICK_MULTIPLIER = floatProperty("minestom.chunk-queue.multiplier", 1f);
+    public static final int CHUNK_PREFETCH_TICKS = intProperty("minestom.chunk-queue.prefetch-ticks", 20);
+    public static final long CHUNK_BANDWIDTH_PER_TICK = longProperty("minestom.chunk-queue.bandwidth-per-tick", 0); // 0 = unlimited
+    public static final long CHUNK_BACKPRESSURE_BYTES = longProperty("minestom.chunk-queue.backpressure-bytes", 0); // 0 = disabled
 
     // Packet sending optimizations
     public static final boolean GROUPED_PACKET = booleanProperty("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = booleanProperty("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = booleanProperty("minestom.viewable-packet", true);
+    public static final int INVENTORY_SYNC_THRESHOLD = intProperty("minestom.inventory.sync-threshold", 16);
+    public static final int ITEM_COMPONENT_INTERN_SIZE = intProperty("minestom.item.intern-size", 65_536);
 
     // Tags
     public static final boolean TAG_HANDLER_CACHE_ENABLED = booleanProperty("minestom.tag-handler-cache", true);
@@ -50,9 +57,16 @@ public final class ServerFlag {
 
     // Online Mode
     public static final @NotNull String AUTH_URL = stringProperty("minestom.auth.url", "https://sessionserver.mojang.com/session/minecraft/hasJoined");
+    public static final int AUTH_MAX_CONCURRENT_REQUESTS = intProperty("minestom.auth.max-concurrent-requests", 64);
+    public static final long AUTH_CACHE_DURATION = longProperty("minestom.auth.cache-duration", 30_000);
 
     // World
     public static final int WORLD_BORDER_SIZE = intProperty("minestom.world-border-size", 29999984);
+    public static final int EXPLOSIONS_PER_TICK = intProperty("minestom.explosion.per-tick", 64);
+    public static final long AUTOSAVE_TICK_BUDGET = longProperty("minestom.autosave.tick-budget", 2_000_000); // nanoseconds
+
+    // Registry
+    public static final boolean REGISTRY_BINARY_SNAPSHOT = booleanProperty("minestom.registry.binary-snapshot", true);
 
     // Maps
     public static final @NotNull String MAP_RGB_MAPPING = stringProperty("minestom.map.rgbmapping", "lazy");
@@ -62,6 +76,16 @@ public final class ServerFlag {
     public static final boolean REGISTRY_LATE_REGISTER = booleanProperty("minestom.registry.late-register");
     public static final boolean REGISTRY_UNSAFE_OPS = booleanProperty("minestom.registry.unsafe-ops");
     public static final boolean EVENT_NODE_ALLOW_MULTIPLE_PARENTS = booleanProperty("minestom.event.multiple-parents");
+    public static final boolean EVENT_NODE_COMPILED_DISPATCH = booleanProperty("minestom.event.compiled-dispatch");
+    public static final boolean REGISTRY_PARALLEL_INIT = booleanProperty("minestom.registry.parallel-init");
+    public static final boolean REGISTRY_LAZY_INIT = booleanProperty("minestom.registry.lazy-init");
+    public static final boolean PLAYER_PACKET_ADAPTIVE_BUDGET = booleanProperty("minestom.packet-adaptive-budget");
+    public static final boolean ENTITY_BATCHED_PHYSICS = booleanProperty("minestom.entity.batched-physics");
+    public static final boolean ITEM_COMPONENT_INTERNING = booleanProperty("minestom.item.intern-components");
+    public static final boolean SCOREBOARD_BATCHING = booleanProperty("minestom.scoreboard.batch-updates");
+    public static final boolean ENTITY_METADATA_COALESCING = booleanProperty("minestom.entity.coalesce-metadata");
+    public static final boolean CHUNK_QUEUE_DIRECTIONAL = booleanProperty("minestom.chunk-queue.directional");
+    public static final int INSTANCE_TICK_THREADS = intProperty("minestom.instance-tick-threads", 0); // 0 = tick thread
 
     public static boolean INSIDE_TEST = booleanProperty("minestom.inside-test", false);
 
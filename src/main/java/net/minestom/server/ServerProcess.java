@@ -12,6 +12,7 @@ import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.BenchmarkManager;
+import net.minestom.server.monitoring.StartupReport;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.socket.Server;
@@ -120,6 +121,11 @@ public interface ServerProcess extends Registries, Snapshotable {
      */
     @NotNull Ticker ticker();
 
+    /**
+     * Gets the time spent initializing each registry and subsystem of this process.
+     */
+    @NotNull StartupReport startupReport();
+
     void start(@NotNull SocketAddress socketAddress);
 
     void stop();
@@ -5,6 +5,8 @@ import net.minestom.server.advancements.AdvancementManager;
 import net.minestom.server.adventure.bossbar.BossBarManager;
 import net.minestom.server.command.CommandManager;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.attribute.Attribute;
 import net.minestom.server.entity.damage.DamageType;
 import net.minestom.server.entity.metadata.animal.tameable.WolfMeta;
 import net.minestom.server.entity.metadata.other.PaintingMeta;
@@ -16,23 +18,29 @@ import net.minestom.server.gamedata.tags.TagManager;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceManager;
+import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.instance.block.banner.BannerPattern;
 import net.minestom.server.instance.block.jukebox.JukeboxSong;
+import net.minestom.server.item.Material;
 import net.minestom.server.item.armor.TrimMaterial;
 import net.minestom.server.item.armor.TrimPattern;
 import net.minestom.server.item.enchant.*;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.message.ChatType;
 import net.minestom.server.monitoring.BenchmarkManager;
+import net.minestom.server.monitoring.StartupReport;
 import net.minestom.server.monitoring.TickMonitor;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.socket.Server;
+import net.minestom.server.particle.Particle;
+import net.minestom.server.potion.PotionEffect;
 import net.minestom.server.recipe.RecipeManager;
 import net.minestom.server.registry.DynamicRegistry;
 import net.minestom.server.scoreboard.TeamManager;
 import net.minestom.server.snapshot.*;
+import net.minestom.server.sound.SoundEvent;
 import net.minestom.server.thread.Acquirable;
 import net.minestom.server.thread.ThreadDispatcher;
 import net.minestom.server.thread.ThreadProvider;
@@ -50,8 +58,13 @@ import java.io.IOException;
 import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static net.minestom.server.monitoring.StartupReport.Category.*;
 
 final class ServerProcessImpl implements ServerProcess {
     private static final Logger LOGGER = LoggerFactory.getLogger(ServerProcessImpl.class);
@@ -63,17 +76,17 @@ final class ServerProcessImpl implements ServerProcess {
     private final DynamicRegistry<BinaryTagSerializer<? extends EntityEffect>> enchantmentEntityEffects;
     private final DynamicRegistry<BinaryTagSerializer<? extends LocationEffect>> enchantmentLocationEffects;
 
-    private final DynamicRegistry<ChatType> chatType;
-    private final DynamicRegistry<DimensionType> dimensionType;
-    private final DynamicRegistry<Biome> biome;
-    private final DynamicRegistry<DamageType> damageType;
-    private final DynamicRegistry<TrimMaterial> trimMaterial;
-    private final DynamicRegistry<TrimPattern> trimPattern;
-    private final DynamicRegistry<BannerPattern> bannerPattern;
-    private final DynamicRegistry<WolfMeta.Variant> wolfVariant;
+    private final Supplier<DynamicRegistry<ChatType>> chatType;
+    private final Supplier<DynamicRegistry<DimensionType>> dimensionType;
+    private final Supplier<DynamicRegistry<Biome>> biome;
+    private final Supplier<DynamicRegistry<DamageType>> damageType;
+    private final Supplier<DynamicRegistry<TrimMaterial>> trimMaterial;
+    private final Supplier<DynamicRegistry<TrimPattern>> trimPattern;
+    private final Supplier<DynamicRegistry<BannerPattern>> bannerPattern;
+    private final Supplier<DynamicRegistry<WolfMeta.Variant>> wolfVariant;
     private final DynamicRegistry<Enchantment> enchantment;
-    private final DynamicRegistry<PaintingMeta.Variant> paintingVariant;
-    private final DynamicRegistry<JukeboxSong> jukeboxSong;
+    private final Supplier<DynamicRegistry<PaintingMeta.Variant>> paintingVariant;
+    private final Supplier<DynamicRegistry<JukeboxSong>> jukeboxSong;
 
     private final ConnectionManager connection;
     private final PacketListenerManager packetListener;
@@ -93,52 +106,95 @@ final class ServerProcessImpl implements ServerProcess {
     private final Server server;
 
     private final ThreadDispatcher<Chunk> dispatcher;
-    private final Ticker ticker;
+    private final StartupReport startupReport;
+    private final TickerImpl ticker;
 
     private final AtomicBoolean started = new AtomicBoolean();
     private final AtomicBoolean stopped = new AtomicBoolean();
 
     public ServerProcessImpl() throws IOException {
+        final StartupReport report = new StartupReport();
+        this.startupReport = report;
         this.exception = new ExceptionManager();
 
+        // Static registries, loaded sequentially as their class initializers depend on each other
+        report.time("blocks", STATIC_REGISTRY, Block::values);
+        report.time("entity_types", STATIC_REGISTRY, EntityType::values);
+        report.time("materials", STATIC_REGISTRY, Material::values);
+        report.time("sound_events", STATIC_REGISTRY, SoundEvent::values);
+        report.time("particles", STATIC_REGISTRY, Particle::values);
+        report.time("potion_effects", STATIC_REGISTRY, PotionEffect::values);
+        report.time("attributes", STATIC_REGISTRY, Attribute::values);
+
         // The order of initialization here is relevant, we must load the enchantment util registries before the vanilla data is loaded.
 
-        this.enchantmentLevelBasedValues = LevelBasedValue.createDefaultRegistry();
-        this.enchantmentValueEffects = ValueEffect.createDefaultRegistry();
-        this.enchantmentEntityEffects = EntityEffect.createDefaultRegistry();
-        this.enchantmentLocationEffects = LocationEffect.createDefaultRegistry();
-
-        this.chatType = ChatType.createDefaultRegistry();
-        this.dimensionType = DimensionType.createDefaultRegistry();
-        this.biome = Biome.createDefaultRegistry();
-        this.damageType = DamageType.createDefaultRegistry();
-        this.trimMaterial = TrimMaterial.createDefaultRegistry();
-        this.trimPattern = TrimPattern.createDefaultRegistry();
-        this.bannerPattern = BannerPattern.createDefaultRegistry();
-        this.wolfVariant = WolfMeta.Variant.createDefaultRegistry();
-        this.enchantment = Enchantment.createDefaultRegistry(this);
-        this.paintingVariant = PaintingMeta.Variant.createDefaultRegistry();
-        this.jukeboxSong = JukeboxSong.createDefaultRegistry();
-
-        this.connection = new ConnectionManager();
-        this.packetListener = new PacketListenerManager();
-        this.packetProcessor = new PacketProcessor(packetListener);
-        this.instance = new InstanceManager(this);
-        this.block = new BlockManager();
-        this.command = new CommandManager();
-        this.recipe = new RecipeManager();
-        this.team = new TeamManager();
-        this.eventHandler = new GlobalEventHandler();
-        this.scheduler = new SchedulerManager();
-        this.benchmark = new BenchmarkManager();
-        this.advancement = new AdvancementManager();
-        this.bossBar = new BossBarManager();
-        this.tag = new TagManager();
+        this.enchantmentLevelBasedValues = report.time("enchantment_level_based_values", DYNAMIC_REGISTRY, LevelBasedValue::createDefaultRegistry);
+        this.enchantmentValueEffects = report.time("enchantment_value_effects", DYNAMIC_REGISTRY, ValueEffect::createDefaultRegistry);
+        this.enchantmentEntityEffects = report.time("enchantment_entity_effects", DYNAMIC_REGISTRY, EntityEffect::createDefaultRegistry);
+        this.enchantmentLocationEffects = report.time("enchantment_location_effects", DYNAMIC_REGISTRY, LocationEffect::createDefaultRegistry);
+
+        // Independent registries, optionally loaded in parallel or on first access
+        List<CompletableFuture<?>> pendingRegistries = new ArrayList<>();
+        this.chatType = dynamicRegistry("chat_types", false, ChatType::createDefaultRegistry, pendingRegistries);
+        this.dimensionType = dynamicRegistry("dimension_types", false, DimensionType::createDefaultRegistry, pendingRegistries);
+        this.biome = dynamicRegistry("biomes", false, Biome::createDefaultRegistry, pendingRegistries);
+        this.damageType = dynamicRegistry("damage_types", false, DamageType::createDefaultRegistry, pendingRegistries);
+        this.trimMaterial = dynamicRegistry("trim_materials", true, TrimMaterial::createDefaultRegistry, pendingRegistries);
+        this.trimPattern = dynamicRegistry("trim_patterns", true, TrimPattern::createDefaultRegistry, pendingRegistries);
+        this.bannerPattern = dynamicRegistry("banner_patterns", true, BannerPattern::createDefaultRegistry, pendingRegistries);
+        this.wolfVariant = dynamicRegistry("wolf_variants", false, WolfMeta.Variant::createDefaultRegistry, pendingRegistries);
+        this.paintingVariant = dynamicRegistry("painting_variants", false, PaintingMeta.Variant::createDefaultRegistry, pendingRegistries);
+        this.jukeboxSong = dynamicRegistry("jukebox_songs", true, JukeboxSong::createDefaultRegistry, pendingRegistries);
+        try {
+            CompletableFuture.allOf(pendingRegistries.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw e;
+        }
+        // Enchantments may reference any other registry
+        this.enchantment = report.time("enchantments", DYNAMIC_REGISTRY, () -> Enchantment.createDefaultRegistry(this));
+
+        this.connection = report.time("connection", SUBSYSTEM, ConnectionManager::new);
+        this.packetListener = report.time("packet_listener", SUBSYSTEM, PacketListenerManager::new);
+        this.packetProcessor = report.time("packet_processor", SUBSYSTEM, () -> new PacketProcessor(packetListener));
+        this.instance = report.time("instance", SUBSYSTEM, () -> new InstanceManager(this));
+        this.block = report.time("block", SUBSYSTEM, BlockManager::new);
+        this.command = report.time("command", SUBSYSTEM, CommandManager::new);
+        this.recipe = report.time("recipe", SUBSYSTEM, RecipeManager::new);
+        this.team = report.time("team", SUBSYSTEM, TeamManager::new);
+        this.eventHandler = report.time("event_handler", SUBSYSTEM, GlobalEventHandler::new);
+        this.scheduler = report.time("scheduler", SUBSYSTEM, SchedulerManager::new);
+        this.benchmark = report.time("benchmark", SUBSYSTEM, BenchmarkManager::new);
+        this.advancement = report.time("advancement", SUBSYSTEM, AdvancementManager::new);
+        this.bossBar = report.time("boss_bar", SUBSYSTEM, BossBarManager::new);
+        this.tag = report.time("tag", SUBSYSTEM, TagManager::new);
 
         this.server = new Server(packetProcessor);
 
-        this.dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), ServerFlag.DISPATCHER_THREADS);
+        this.dispatcher = report.time("dispatcher", SUBSYSTEM, () -> ThreadDispatcher.of(ThreadProvider.counter(), ServerFlag.DISPATCHER_THREADS));
         this.ticker = new TickerImpl();
+
+        report.complete();
+        LOGGER.debug("{}", report);
+    }
+
+    /**
+     * Creates a dynamic registry with no dependency on other dynamic registries.
+     * <p>
+     * Loaded on first access if {@code rarelyUsed} and {@link ServerFlag#REGISTRY_LAZY_INIT} is enabled,
+     * in the common pool if {@link ServerFlag#REGISTRY_PARALLEL_INIT} is enabled, or immediately otherwise.
+     */
+    private <T> Supplier<T> dynamicRegistry(String name, boolean rarelyUsed, Supplier<T> loader,
+                                            List<CompletableFuture<?>> pending) {
+        final Supplier<T> timedLoader = () -> startupReport.time(name, DYNAMIC_REGISTRY, loader);
+        if (rarelyUsed && ServerFlag.REGISTRY_LAZY_INIT) return new LazyRegistry<>(timedLoader);
+        if (ServerFlag.REGISTRY_PARALLEL_INIT) {
+            final CompletableFuture<T> future = CompletableFuture.supplyAsync(timedLoader);
+            pending.add(future);
+            return future::join;
+        }
+        final T registry = timedLoader.get();
+        return () -> registry;
     }
 
     @Override
@@ -148,27 +204,27 @@ final class ServerProcessImpl implements ServerProcess {
 
     @Override
     public @NotNull DynamicRegistry<DamageType> damageType() {
-        return damageType;
+        return damageType.get();
     }
 
     @Override
     public @NotNull DynamicRegistry<TrimMaterial> trimMaterial() {
-        return trimMaterial;
+        return trimMaterial.get();
     }
 
     @Override
     public @NotNull DynamicRegistry<TrimPattern> trimPattern() {
-        return trimPattern;
+        return trimPattern.get();
     }
 
     @Override
     public @NotNull DynamicRegistry<BannerPattern> bannerPattern() {
-        return bannerPattern;
+        return bannerPattern.get();
     }
 
     @Override
     public @NotNull DynamicRegistry<WolfMeta.Variant> wolfVariant() {
-        return wolfVariant;
+        return wolfVariant.get();
     }
 
     @Override
@@ -178,12 +234,12 @@ final class ServerProcessImpl implements ServerProcess {
 
     @Override
     public @NotNull DynamicRegistry<PaintingMeta.Variant> paintingVariant() {
-        return paintingVariant;
+        return paintingVariant.get();
     }
 
     @Override
     public @NotNull DynamicRegistry<JukeboxSong> jukeboxSong() {
-        return jukeboxSong;
+        return jukeboxSong.get();
     }
 
     @Override
@@ -268,17 +324,17 @@ final class ServerProcessImpl implements ServerProcess {
 
     @Override
     public @NotNull DynamicRegistry<ChatType> chatType() {
-        return chatType;
+        return chatType.get();
     }
 
     @Override
     public @NotNull DynamicRegistry<DimensionType> dimensionType() {
-        return dimensionType;
+        return dimensionType.get();
     }
 
     @Override
     public @NotNull DynamicRegistry<Biome> biome() {
-        return biome;
+        return biome.get();
     }
 
     @Override
@@ -306,6 +362,11 @@ final class ServerProcessImpl implements ServerProcess {
         return ticker;
     }
 
+    @Override
+    public @NotNull StartupReport startupReport() {
+        return startupReport;
+    }
+
     @Override
     public void start(@NotNull SocketAddress socketAddress) {
         if (!started.compareAndSet(false, true)) {
@@ -342,6 +403,7 @@ final class ServerProcessImpl implements ServerProcess {
         LOGGER.info("Shutting down all thread pools.");
         benchmark.disable();
         dispatcher.shutdown();
+        ticker.shutdown();
         LOGGER.info(MinecraftServer.getBrandName() + " server stopped successfully.");
     }
 
@@ -363,7 +425,31 @@ final class ServerProcessImpl implements ServerProcess {
         return new SnapshotImpl.Server(MappedCollection.plainReferences(instanceRefs), entityRefs);
     }
 
+    private static final class LazyRegistry<T> implements Supplier<T> {
+        private final Supplier<T> loader;
+        private volatile T registry;
+
+        private LazyRegistry(Supplier<T> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public T get() {
+            T registry = this.registry;
+            if (registry == null) {
+                synchronized (this) {
+                    registry = this.registry;
+                    if (registry == null) this.registry = registry = loader.get();
+                }
+            }
+            return registry;
+        }
+    }
+
     private final class TickerImpl implements Ticker {
+        private final InstanceTicker instanceTicker = new InstanceTicker(ServerFlag.INSTANCE_TICK_THREADS,
+                throwable -> exception().handleException(throwable));
+
         @Override
         public void tick(long nanoTime) {
             final long msTime = System.currentTimeMillis();
@@ -388,20 +474,17 @@ final class ServerProcessImpl implements ServerProcess {
             {
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
                 final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
-                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
-                EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
+                connection().updatePacketBudget(tickTimeMs);
+                if (EventDispatcher.hasListener(ServerTickMonitorEvent.class)) {
+                    final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
+                    EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
+                }
             }
         }
 
         private void serverTick(long tickStart) {
             // Tick all instances
-            for (Instance instance : instance().getInstances()) {
-                try {
-                    instance.tick(tickStart);
-                } catch (Exception e) {
-                    exception().handleException(e);
-                }
-            }
+            instanceTicker.tick(instance().getInstances(), tickStart);
             // Tick all chunks (and entities inside)
             dispatcher().updateAndAwait(tickStart);
 
@@ -409,5 +492,9 @@ final class ServerProcessImpl implements ServerProcess {
             final long tickTime = System.currentTimeMillis() - tickStart;
             dispatcher().refreshThreads(tickTime);
         }
+
+        void shutdown() {
+            instanceTicker.shutdown();
+        }
     }
 }
@@ -0,0 +1,237 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.WorldBorder;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Simulates the movement of many bodies at once, producing the same {@link PhysicsResult}s as
+ * {@link PhysicsUtils#simulateMovement(Pos, Vec, BoundingBox, WorldBorder, Block.Getter, Aerodynamics, boolean, boolean, boolean, boolean, PhysicsResult)}
+ * for non-flying bodies.
+ * <p>
+ * State is kept in a structure-of-arrays layout and all buffers are reused between simulations,
+ * a batch should therefore be kept around and {@link #clear() cleared} after each use.
+ * Bodies resting on the ground reuse their previous result instead of allocating a new one.
+ * <p>
+ * Not thread-safe.
+ */
+@ApiStatus.Experimental
+public final class PhysicsBatch {
+    private static final double FRICTION_OFFSET = 0.5000001;
+
+    private int size;
+
+    // Inputs
+    private Pos[] positions;
+    private Vec[] velocities;
+    private BoundingBox[] boundingBoxes;
+    private PhysicsResult[] previousResults;
+    private double[] gravity, horizontalAirResistance, verticalAirResistance;
+    private boolean[] noGravity, hasPhysics, onGround;
+
+    // Scratch buffers
+    private PhysicsResult[] collisions;
+    private Pos[] borderPositions;
+    private boolean[] moved;
+    private double[] drag, velocityX, velocityY, velocityZ;
+
+    // Outputs
+    private PhysicsResult[] results;
+
+    public PhysicsBatch(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    public PhysicsBatch() {
+        this(64);
+    }
+
+    /**
+     * Adds a body to the batch.
+     *
+     * @param position              the current position
+     * @param velocityPerTick       the current velocity in blocks/tick
+     * @param boundingBox           the current bounding box
+     * @param aerodynamics          the current aerodynamics
+     * @param noGravity             whether the body has no gravity
+     * @param hasPhysics            whether the body collides with blocks
+     * @param onGround              whether the body is on the ground
+     * @param previousPhysicsResult the physics result from the previous simulation or null
+     * @return the index of the body, to be used with {@link #result(int)}
+     */
+    public int add(@NotNull Pos position, @NotNull Vec velocityPerTick, @NotNull BoundingBox boundingBox,
+                   @NotNull Aerodynamics aerodynamics, boolean noGravity, boolean hasPhysics, boolean onGround,
+                   @Nullable PhysicsResult previousPhysicsResult) {
+        final int index = size;
+        if (index == positions.length) allocate(index * 2);
+        this.positions[index] = position;
+        this.velocities[index] = velocityPerTick;
+        this.boundingBoxes[index] = boundingBox;
+        this.previousResults[index] = previousPhysicsResult;
+        this.gravity[index] = aerodynamics.gravity();
+        this.horizontalAirResistance[index] = aerodynamics.horizontalAirResistance();
+        this.verticalAirResistance[index] = aerodynamics.verticalAirResistance();
+        this.noGravity[index] = noGravity;
+        this.hasPhysics[index] = hasPhysics;
+        this.onGround[index] = onGround;
+        this.size = index + 1;
+        return index;
+    }
+
+    /**
+     * Simulates every body added since the last {@link #clear()}.
+     *
+     * @param worldBorder the world border to test bounds against
+     * @param blockGetter the block getter to test block collisions against, reused for all bodies
+     */
+    public void simulate(@NotNull WorldBorder worldBorder, @NotNull Block.Getter blockGetter) {
+        final int size = this.size;
+        // Block collisions
+        for (int i = 0; i < size; i++) {
+            final Pos position = positions[i];
+            final Vec velocity = velocities[i];
+            final PhysicsResult collision = hasPhysics[i] ?
+                    CollisionUtils.handlePhysics(blockGetter, boundingBoxes[i], position, velocity, previousResults[i], false) :
+                    CollisionUtils.blocklessCollision(position, velocity);
+            final Pos borderPosition = CollisionUtils.applyWorldBorder(worldBorder, position, collision.newPosition());
+            final boolean positionChanged = !borderPosition.samePoint(position);
+            final Vec newVelocity = collision.newVelocity();
+            this.collisions[i] = collision;
+            this.borderPositions[i] = borderPosition;
+            this.moved[i] = positionChanged;
+            this.velocityX[i] = newVelocity.x();
+            this.velocityY[i] = newVelocity.y();
+            this.velocityZ[i] = newVelocity.z();
+            // Ground friction requires a block lookup, everything else is computed below
+            if (positionChanged && onGround[i]) {
+                final Block below = blockGetter.getBlock((int) Math.floor(position.x()),
+                        (int) Math.floor(position.y() - FRICTION_OFFSET), (int) Math.floor(position.z()),
+                        Block.Getter.Condition.TYPE);
+                this.drag[i] = below.registry().friction() * horizontalAirResistance[i];
+            } else {
+                this.drag[i] = horizontalAirResistance[i];
+            }
+        }
+        // Velocity update, branch-light loop over primitive arrays
+        for (int i = 0; i < size; i++) {
+            final double g = gravity[i];
+            final double verticalDrag = verticalAirResistance[i];
+            if (!moved[i]) {
+                this.velocityX[i] = 0;
+                this.velocityY[i] = noGravity[i] ? 0 : -g * verticalDrag;
+                this.velocityZ[i] = 0;
+                continue;
+            }
+            final double d = drag[i];
+            final double x = velocityX[i] * d;
+            final double y = noGravity[i] ? velocityY[i] : (velocityY[i] - g) * verticalDrag;
+            final double z = velocityZ[i] * d;
+            this.velocityX[i] = Math.abs(x) < Vec.EPSILON ? 0 : x;
+            this.velocityY[i] = Math.abs(y) < Vec.EPSILON ? 0 : y;
+            this.velocityZ[i] = Math.abs(z) < Vec.EPSILON ? 0 : z;
+        }
+        // Results
+        for (int i = 0; i < size; i++) {
+            final PhysicsResult collision = collisions[i];
+            final PhysicsResult previous = previousResults[i];
+            final Pos borderPosition = borderPositions[i];
+            final double x = velocityX[i], y = velocityY[i], z = velocityZ[i];
+            if (collision == previous && previous != null && borderPosition.equals(previous.newPosition()) &&
+                    sameVelocity(previous.newVelocity(), x, y, z)) {
+                // Cached collision with identical output, the previous result can be reused as is
+                this.results[i] = previous;
+                continue;
+            }
+            this.results[i] = new PhysicsResult(borderPosition, new Vec(x, y, z), collision.isOnGround(),
+                    collision.collisionX(), collision.collisionY(), collision.collisionZ(),
+                    collision.originalDelta(), collision.collisionPoints(), collision.collisionShapes(),
+                    collision.collisionShapePositions(), collision.hasCollision(), collision.res());
+        }
+    }
+
+    /**
+     * Gets the result of a body after {@link #simulate(WorldBorder, Block.Getter)}.
+     *
+     * @param index the index returned by {@link #add(Pos, Vec, BoundingBox, Aerodynamics, boolean, boolean, boolean, PhysicsResult)}
+     * @return the simulation result
+     */
+    public @NotNull PhysicsResult result(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        final PhysicsResult result = results[index];
+        if (result == null) throw new IllegalStateException("Batch has not been simulated");
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all bodies from the batch, keeping the allocated buffers.
+     */
+    public void clear() {
+        final int size = this.size;
+        Arrays.fill(positions, 0, size, null);
+        Arrays.fill(velocities, 0, size, null);
+        Arrays.fill(boundingBoxes, 0, size, null);
+        Arrays.fill(previousResults, 0, size, null);
+        Arrays.fill(collisions, 0, size, null);
+        Arrays.fill(borderPositions, 0, size, null);
+        Arrays.fill(results, 0, size, null);
+        this.size = 0;
+    }
+
+    private static boolean sameVelocity(Vec velocity, double x, double y, double z) {
+        return Double.compare(velocity.x(), x) == 0 &&
+                Double.compare(velocity.y(), y) == 0 &&
+                Double.compare(velocity.z(), z) == 0;
+    }
+
+    private void allocate(int capacity) {
+        if (positions == null) {
+            this.positions = new Pos[capacity];
+            this.velocities = new Vec[capacity];
+            this.boundingBoxes = new BoundingBox[capacity];
+            this.previousResults = new PhysicsResult[capacity];
+            this.gravity = new double[capacity];
+            this.horizontalAirResistance = new double[capacity];
+            this.verticalAirResistance = new double[capacity];
+            this.noGravity = new boolean[capacity];
+            this.hasPhysics = new boolean[capacity];
+            this.onGround = new boolean[capacity];
+            this.collisions = new PhysicsResult[capacity];
+            this.borderPositions = new Pos[capacity];
+            this.moved = new boolean[capacity];
+            this.drag = new double[capacity];
+            this.velocityX = new double[capacity];
+            this.velocityY = new double[capacity];
+            this.velocityZ = new double[capacity];
+            this.results = new PhysicsResult[capacity];
+            return;
+        }
+        this.positions = Arrays.copyOf(positions, capacity);
+        this.velocities = Arrays.copyOf(velocities, capacity);
+        this.boundingBoxes = Arrays.copyOf(boundingBoxes, capacity);
+        this.previousResults = Arrays.copyOf(previousResults, capacity);
+        this.gravity = Arrays.copyOf(gravity, capacity);
+        this.horizontalAirResistance = Arrays.copyOf(horizontalAirResistance, capacity);
+        this.verticalAirResistance = Arrays.copyOf(verticalAirResistance, capacity);
+        this.noGravity = Arrays.copyOf(noGravity, capacity);
+        this.hasPhysics = Arrays.copyOf(hasPhysics, capacity);
+        this.onGround = Arrays.copyOf(onGround, capacity);
+        this.collisions = Arrays.copyOf(collisions, capacity);
+        this.borderPositions = Arrays.copyOf(borderPositions, capacity);
+        this.moved = Arrays.copyOf(moved, capacity);
+        this.drag = Arrays.copyOf(drag, capacity);
+        this.velocityX = Arrays.copyOf(velocityX, capacity);
+        this.velocityY = Arrays.copyOf(velocityY, capacity);
+        this.velocityZ = Arrays.copyOf(velocityZ, capacity);
+        this.results = Arrays.copyOf(results, capacity);
+    }
+}
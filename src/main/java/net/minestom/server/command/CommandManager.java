@@ -1,5 +1,7 @@
 package net.minestom.server.command;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandDispatcher;
 import net.minestom.server.command.builder.CommandResult;
@@ -7,13 +9,17 @@ import net.minestom.server.command.builder.ParsedCommand;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.PlayerCommandEvent;
+import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import net.minestom.server.utils.callback.CommandCallback;
 import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manager used to register {@link Command commands}.
@@ -24,6 +30,10 @@ public final class CommandManager {
 
     public static final String COMMAND_PREFIX = "/";
 
+    // Number of distinct declare commands packets kept before clearing the cache
+    private static final int MAX_CACHED_PACKETS = 256;
+    private static final Duration COMPLETION_CACHE_DURATION = Duration.ofSeconds(1);
+
     private final ServerSender serverSender = new ServerSender();
     private final ConsoleSender consoleSender = new ConsoleSender();
     private final CommandParser parser = CommandParser.parser();
@@ -31,6 +41,14 @@ public final class CommandManager {
     private final Map<String, Command> commandMap = new HashMap<>();
     private final Set<Command> commands = new HashSet<>();
 
+    // Merged graph of the registered commands, null when outdated
+    private volatile CompiledGraph compiledGraph;
+    private long graphGeneration;
+    private final Cache<CompletionKey, CommandParser.Result> completions = Caffeine.newBuilder()
+            .expireAfterWrite(COMPLETION_CACHE_DURATION)
+            .maximumSize(1024)
+            .build();
+
     private CommandCallback unknownCommandCallback;
 
     public CommandManager() {
@@ -55,6 +73,7 @@ public final class CommandManager {
         for (String name : command.getNames()) {
             commandMap.put(name, command);
         }
+        this.compiledGraph = null;
     }
 
     /**
@@ -63,11 +82,12 @@ public final class CommandManager {
      *
      * @param command the command to remove
      */
-    public void unregister(@NotNull Command command) {
+    public synchronized void unregister(@NotNull Command command) {
         commands.remove(command);
         for (String name : command.getNames()) {
             commandMap.remove(name);
         }
+        this.compiledGraph = null;
     }
 
     /**
@@ -166,12 +186,37 @@ public final class CommandManager {
      * Gets the {@link DeclareCommandsPacket} for a specific player.
      * <p>
      * Can be used to update a player auto-completion list.
+     * <p>
+     * A new packet is created on every call, it can be modified by the caller.
      *
      * @param player the player to get the commands packet
      * @return the {@link DeclareCommandsPacket} for {@code player}
      */
     public @NotNull DeclareCommandsPacket createDeclareCommandsPacket(@NotNull Player player) {
-        return GraphConverter.createPacket(getGraph(), player);
+        return GraphConverter.createPacket(compiledGraph().graph(), player);
+    }
+
+    /**
+     * Gets the declare commands packet to send to a player.
+     * <p>
+     * Packets are cached by the result of the command conditions, and shared by all players seeing the same commands.
+     * The packet must not be modified.
+     *
+     * @param player the player to get the commands packet, null to ignore the command conditions
+     * @return the shared packet for {@code player}
+     */
+    @ApiStatus.Internal
+    public @NotNull CachedPacket declareCommandsPacket(@Nullable Player player) {
+        final CompiledGraph compiled = compiledGraph();
+        final BitSet fingerprint = GraphConverter.fingerprint(compiled.graph(), player);
+        final Map<BitSet, CachedPacket> packets = compiled.packets();
+        CachedPacket packet = packets.get(fingerprint);
+        if (packet == null) {
+            packet = new CachedPacket(GraphConverter.createPacket(compiled.graph(), player));
+            if (packets.size() >= MAX_CACHED_PACKETS) packets.clear();
+            packets.put(fingerprint, packet);
+        }
+        return packet;
     }
 
     public @NotNull Set<@NotNull Command> getCommands() {
@@ -185,12 +230,39 @@ public final class CommandManager {
      * @return the parsing result
      */
     public CommandParser.Result parseCommand(@NotNull CommandSender sender, String input) {
-        return parser.parse(sender, getGraph(), input);
+        return parser.parse(sender, compiledGraph().graph(), input);
     }
 
-    private Graph getGraph() {
-        //todo cache
-        return Graph.merge(commands);
+    /**
+     * Parses the command for tab-completion.
+     * <p>
+     * Results are memoized for a short time per sender and input, as clients repeat the same requests while typing.
+     *
+     * @param input commands string without prefix
+     * @return the parsing result, not to be executed
+     */
+    @ApiStatus.Internal
+    public CommandParser.Result parseCompletion(@NotNull CommandSender sender, @NotNull String input) {
+        final CompiledGraph compiled = compiledGraph();
+        return completions.get(new CompletionKey(sender, input, compiled.generation()),
+                key -> parser.parse(sender, compiled.graph(), input));
+    }
+
+    private CompiledGraph compiledGraph() {
+        final long version = Command.version();
+        CompiledGraph compiled = this.compiledGraph;
+        if (compiled == null || compiled.version() != version) {
+            synchronized (this) {
+                compiled = this.compiledGraph;
+                if (compiled == null || compiled.version() != version) {
+                    // The version is read before merging, changes made meanwhile trigger another merge
+                    compiled = new CompiledGraph(Graph.merge(commands), version, ++graphGeneration,
+                            new ConcurrentHashMap<>());
+                    this.compiledGraph = compiled;
+                }
+            }
+        }
+        return compiled;
     }
 
     private static CommandResult resultConverter(ExecutableCommand executable,
@@ -203,4 +275,11 @@ public final class CommandManager {
             case UNKNOWN -> CommandResult.Type.UNKNOWN;
         }, input, ParsedCommand.fromExecutable(executable), newResult.commandData());
     }
+
+    private record CompiledGraph(Graph graph, long version, long generation,
+                                 Map<BitSet, CachedPacket> packets) {
+    }
+
+    private record CompletionKey(CommandSender sender, String input, long generation) {
+    }
 }
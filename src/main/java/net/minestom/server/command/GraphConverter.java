@@ -29,6 +29,30 @@ final class GraphConverter {
         return new DeclareCommandsPacket(nodes, rootId);
     }
 
+    /**
+     * Evaluates the conditions the packet of a player depends on, in the same order as {@link #createPacket(Graph, Player)}.
+     * <p>
+     * Players with equal fingerprints receive the same packet.
+     *
+     * @return the result of each evaluated condition
+     */
+    static BitSet fingerprint(Graph graph, @Nullable Player player) {
+        BitSet fingerprint = new BitSet();
+        if (player != null) fingerprint(graph.root(), player, fingerprint, new int[1]);
+        return fingerprint;
+    }
+
+    private static void fingerprint(Graph.Node graphNode, Player player, BitSet fingerprint, int[] index) {
+        final Graph.Execution execution = graphNode.execution();
+        if (execution != null) {
+            final int i = index[0]++;
+            // Children of a hidden node are skipped, the same way they are when creating the packet
+            if (!execution.test(player)) return;
+            fingerprint.set(i);
+        }
+        for (Graph.Node child : graphNode.next()) fingerprint(child, player, fingerprint, index);
+    }
+
     private static int[] append(Graph.Node graphNode, List<DeclareCommandsPacket.Node> to,
                                 List<BiConsumer<Graph, Integer>> redirects, AtomicInteger id, @Nullable AtomicInteger redirect,
                                 @Nullable Player player, Map<Argument<?>, Integer> argToPacketId) {
@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.*;
 import java.util.stream.Stream;
 
@@ -42,6 +43,8 @@ import java.util.stream.Stream;
 public class Command {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(Command.class);
+    // Incremented on every command change, used to invalidate cached command graphs
+    private static final AtomicLong VERSION = new AtomicLong();
 
     private final String name;
     private final String[] aliases;
@@ -102,6 +105,7 @@ public class Command {
      */
     public void setCondition(@Nullable CommandCondition commandCondition) {
         this.condition = commandCondition;
+        modified();
     }
 
     /**
@@ -118,6 +122,7 @@ public class Command {
 
     public void addSubcommand(@NotNull Command command) {
         this.subcommands.add(command);
+        modified();
     }
 
     @NotNull
@@ -158,6 +163,7 @@ public class Command {
         if (!hasOptional) {
             final CommandSyntax syntax = new CommandSyntax(commandCondition, executor, args);
             this.syntaxes.add(syntax);
+            modified();
             return List.of(syntax);
         } else {
             List<CommandSyntax> optionalSyntaxes = new ArrayList<>();
@@ -196,6 +202,7 @@ public class Command {
             }
 
             this.syntaxes.addAll(optionalSyntaxes);
+            modified();
             return optionalSyntaxes;
         }
     }
@@ -272,6 +279,7 @@ public class Command {
      */
     public void setDefaultExecutor(@Nullable CommandExecutor executor) {
         this.defaultExecutor = executor;
+        modified();
     }
 
     /**
@@ -394,6 +402,24 @@ public class Command {
         return jsonObject.toString();
     }
 
+    /**
+     * Gets the number of changes made to all commands, their syntaxes, arguments and subcommands.
+     *
+     * @return the current command version
+     */
+    @ApiStatus.Internal
+    public static long version() {
+        return VERSION.get();
+    }
+
+    /**
+     * Invalidates the cached command graphs, called when a command, syntax or argument is changed.
+     */
+    @ApiStatus.Internal
+    public static void modified() {
+        VERSION.incrementAndGet();
+    }
+
     public static boolean isValidName(@NotNull Command command, @NotNull String name) {
         for (String commandName : command.getNames()) {
             if (commandName.equals(name)) {
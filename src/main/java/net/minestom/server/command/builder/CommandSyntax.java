@@ -67,6 +67,7 @@ public class CommandSyntax {
      */
     public void setCommandCondition(@Nullable CommandCondition commandCondition) {
         this.commandCondition = commandCondition;
+        Command.modified();
     }
 
     /**
@@ -86,6 +87,7 @@ public class CommandSyntax {
      */
     public void setExecutor(@NotNull CommandExecutor executor) {
         this.executor = executor;
+        Command.modified();
     }
 
     @Nullable
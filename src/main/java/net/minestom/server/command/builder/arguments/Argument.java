@@ -164,6 +164,7 @@ public abstract class Argument<T> {
      */
     public void setCallback(@Nullable ArgumentCallback callback) {
         this.callback = callback;
+        Command.modified();
     }
 
     /**
@@ -204,12 +205,14 @@ public abstract class Argument<T> {
     @NotNull
     public Argument<T> setDefaultValue(@Nullable Supplier<T> defaultValue) {
         this.defaultValue = unused -> defaultValue.get();
+        Command.modified();
         return this;
     }
 
     @NotNull
     public Argument<T> setDefaultValue(@Nullable Function<CommandSender, T> defaultValue) {
         this.defaultValue = defaultValue;
+        Command.modified();
         return this;
     }
 
@@ -222,6 +225,7 @@ public abstract class Argument<T> {
     @NotNull
     public Argument<T> setDefaultValue(@NotNull T defaultValue) {
         this.defaultValue = unused -> defaultValue;
+        Command.modified();
         return this;
     }
 
@@ -247,6 +251,7 @@ public abstract class Argument<T> {
     public Argument<T> setSuggestionCallback(@NotNull SuggestionCallback suggestionCallback) {
         this.suggestionCallback = suggestionCallback;
         this.suggestionType = SuggestionType.ASK_SERVER;
+        Command.modified();
         return this;
     }
 
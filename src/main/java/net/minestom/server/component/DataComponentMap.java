@@ -62,6 +62,7 @@ public sealed interface DataComponentMap extends DataComponent.Holder permits Da
     static @NotNull DataComponentMap diff(@NotNull DataComponentMap prototype, @NotNull DataComponentMap patch) {
         final DataComponentMapImpl patchImpl = (DataComponentMapImpl) patch;
         if (patchImpl.components().isEmpty()) return EMPTY;
+        if (patchImpl.isMinimalFor(prototype)) return patch;
 
         final DataComponentMapImpl protoImpl = (DataComponentMapImpl) prototype;
 
@@ -84,6 +85,34 @@ public sealed interface DataComponentMap extends DataComponent.Holder permits Da
         return new DataComponentMapImpl(diff);
     }
 
+    /**
+     * Gets the canonical instance of a map, shared by all the equal maps interned before.
+     * <p>
+     * Interned maps have their hash computed once, making equality checks between them mostly an identity or hash check,
+     * and cache their network and NBT encodings. The canonical instances are kept in a bounded cache,
+     * see {@link net.minestom.server.ServerFlag#ITEM_COMPONENT_INTERN_SIZE}.
+     *
+     * @param map the map to intern
+     * @return the canonical map
+     */
+    static @NotNull DataComponentMap intern(@NotNull DataComponentMap map) {
+        return DataComponentMapImpl.intern((DataComponentMapImpl) map);
+    }
+
+    /**
+     * Interns the minimal diff of {@code patch} against {@code prototype}.
+     * <p>
+     * The result is remembered as minimal for {@code prototype}, so that diffing it again is free.
+     *
+     * @see #diff(DataComponentMap, DataComponentMap)
+     * @see #intern(DataComponentMap)
+     */
+    static @NotNull DataComponentMap internDiff(@NotNull DataComponentMap prototype, @NotNull DataComponentMap patch) {
+        final DataComponentMapImpl diff = DataComponentMapImpl.intern((DataComponentMapImpl) diff(prototype, patch));
+        diff.markMinimalFor(prototype);
+        return diff;
+    }
+
     /**
      * Does a 'patch'ed has against the given prototype. That is, this map is treated as the primary source, but if
      * unspecified, the given prototype is used as a fallback.
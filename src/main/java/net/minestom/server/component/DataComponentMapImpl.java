@@ -1,9 +1,12 @@
 package net.minestom.server.component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import net.kyori.adventure.nbt.BinaryTag;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.utils.nbt.BinaryTagSerializer;
 import net.minestom.server.utils.validate.Check;
@@ -19,11 +22,63 @@ import java.util.function.IntFunction;
  *
  * <p>The inner map contains the value for added components, null for removed components, and no entry for unmodified components.</p>
  *
- * @param components The component patch.
+ * <p>Interned instances (see {@link DataComponentMap#intern(DataComponentMap)}) have their hash computed once,
+ * and cache their network and NBT encodings.</p>
  */
-record DataComponentMapImpl(@NotNull Int2ObjectMap<Object> components) implements DataComponentMap {
+final class DataComponentMapImpl implements DataComponentMap {
     private static final char REMOVAL_PREFIX = '!';
 
+    private static final Cache<DataComponentMapImpl, DataComponentMapImpl> INTERNED = Caffeine.newBuilder()
+            .maximumSize(ServerFlag.ITEM_COMPONENT_INTERN_SIZE)
+            .build();
+
+    private final Int2ObjectMap<Object> components;
+    private final boolean interned;
+    private final int hash;
+
+    // Caches, only used by interned instances
+    private volatile DataComponentMap minimalFor;
+    private volatile EncodedNetwork encodedNetwork;
+    private volatile EncodedNbt encodedNbt;
+
+    DataComponentMapImpl(@NotNull Int2ObjectMap<Object> components) {
+        this(components, false);
+    }
+
+    private DataComponentMapImpl(@NotNull Int2ObjectMap<Object> components, boolean interned) {
+        this.components = components;
+        this.interned = interned;
+        this.hash = interned ? components.hashCode() : 0;
+    }
+
+    /**
+     * Gets the canonical instance of a map equal to {@code map}.
+     */
+    static @NotNull DataComponentMapImpl intern(@NotNull DataComponentMapImpl map) {
+        if (map.interned) return map;
+        if (map.components.isEmpty()) return (DataComponentMapImpl) EMPTY;
+        final DataComponentMapImpl existing = INTERNED.getIfPresent(map);
+        if (existing != null) return existing;
+        // The canonical instance owns a copy so that it cannot be modified from outside
+        final DataComponentMapImpl canonical = new DataComponentMapImpl(new Int2ObjectArrayMap<>(map.components), true);
+        return INTERNED.get(canonical, Function.identity());
+    }
+
+    @NotNull Int2ObjectMap<Object> components() {
+        return components;
+    }
+
+    /**
+     * Gets if this patch is already known to be the minimal diff against {@code prototype}.
+     */
+    boolean isMinimalFor(@NotNull DataComponentMap prototype) {
+        return components.isEmpty() || minimalFor == prototype;
+    }
+
+    void markMinimalFor(@NotNull DataComponentMap prototype) {
+        if (interned) this.minimalFor = prototype;
+    }
+
     @Override
     public boolean has(@NotNull DataComponent<?> component) {
         return components.containsKey(component.id()) && components.get(component.id()) != null;
@@ -78,6 +133,31 @@ record DataComponentMapImpl(@NotNull Int2ObjectMap<Object> components) implement
         return new PatchBuilderImpl(new Int2ObjectArrayMap<>(components));
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DataComponentMapImpl that)) return false;
+        // Interned maps are unique unless evicted, the hash check avoids most deep comparisons
+        if (interned && that.interned && hash != that.hash) return false;
+        return components.equals(that.components);
+    }
+
+    @Override
+    public int hashCode() {
+        return interned ? hash : components.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DataComponentMapImpl[components=" + components + ']';
+    }
+
+    private record EncodedNetwork(PatchNetworkType type, byte[] bytes) {
+    }
+
+    private record EncodedNbt(NbtType type, BinaryTagSerializer.Context context, BinaryTag tag) {
+    }
+
     record BuilderImpl(@NotNull Int2ObjectMap<Object> components) implements DataComponentMap.Builder {
 
         @Override
@@ -138,6 +218,19 @@ record DataComponentMapImpl(@NotNull Int2ObjectMap<Object> components) implement
         @Override
         public void write(@NotNull NetworkBuffer buffer, DataComponentMap value) {
             final DataComponentMapImpl patch = (DataComponentMapImpl) value;
+            if (!patch.interned) {
+                writePatch(buffer, patch);
+                return;
+            }
+            EncodedNetwork encoded = patch.encodedNetwork;
+            if (encoded == null || encoded.type != this) {
+                encoded = new EncodedNetwork(this, NetworkBuffer.makeArray(b -> writePatch(b, patch)));
+                patch.encodedNetwork = encoded;
+            }
+            buffer.write(NetworkBuffer.RAW_BYTES, encoded.bytes);
+        }
+
+        private void writePatch(@NotNull NetworkBuffer buffer, @NotNull DataComponentMapImpl patch) {
             int added = 0;
             for (Object o : patch.components.values()) {
                 if (o != null) added++;
@@ -190,6 +283,17 @@ record DataComponentMapImpl(@NotNull Int2ObjectMap<Object> components) implement
         @Override
         public @NotNull BinaryTag write(@NotNull Context context, @NotNull DataComponentMap value) {
             final DataComponentMapImpl patch = (DataComponentMapImpl) value;
+            // Client encodings may depend on the receiver, only cache the persistent one per context
+            if (!patch.interned || context.forClient()) return writePatch(context, patch);
+            EncodedNbt encoded = patch.encodedNbt;
+            if (encoded == null || encoded.type != this || !encoded.context.equals(context)) {
+                encoded = new EncodedNbt(this, context, writePatch(context, patch));
+                patch.encodedNbt = encoded;
+            }
+            return encoded.tag;
+        }
+
+        private @NotNull BinaryTag writePatch(@NotNull Context context, @NotNull DataComponentMapImpl patch) {
             if (patch.components.isEmpty()) return CompoundBinaryTag.empty();
             CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder();
             for (Int2ObjectMap.Entry<Object> entry : patch.components.int2ObjectEntrySet()) {
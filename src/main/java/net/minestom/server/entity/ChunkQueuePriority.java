@@ -0,0 +1,64 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.utils.chunk.ChunkUtils;
+
+/**
+ * Orders the chunks queued for a player, closest first, favoring the chunks in front of the player.
+ * <p>
+ * The front is the movement direction when moving fast enough, the view direction otherwise.
+ * The faster the player moves, the more chunks behind are deprioritized.
+ */
+final class ChunkQueuePriority {
+    // Speed (blocks per tick) above which the movement direction is used, slightly above sprinting
+    private static final double MOVEMENT_SPEED = 0.3;
+    private static final double VIEW_WEIGHT = 0.25;
+    private static final double MAX_WEIGHT = 0.75;
+    private static final double WEIGHT_PER_SPEED = 0.25;
+
+    private double x, z; // Player position, in chunks
+    private double directionX, directionZ = 1;
+    private double weight = VIEW_WEIGHT;
+
+    /**
+     * Updates the player state used to order chunks.
+     *
+     * @param position the player position
+     * @param motion   the distance moved during the last tick
+     */
+    void update(Pos position, Vec motion) {
+        this.x = position.x() / 16;
+        this.z = position.z() / 16;
+        final double speed = Math.sqrt(motion.x() * motion.x() + motion.z() * motion.z());
+        if (speed >= MOVEMENT_SPEED) {
+            this.directionX = motion.x() / speed;
+            this.directionZ = motion.z() / speed;
+            this.weight = Math.min(MAX_WEIGHT, VIEW_WEIGHT + speed * WEIGHT_PER_SPEED);
+        } else {
+            final double yaw = Math.toRadians(position.yaw());
+            this.directionX = -Math.sin(yaw);
+            this.directionZ = Math.cos(yaw);
+            this.weight = VIEW_WEIGHT;
+        }
+    }
+
+    /**
+     * Gets the priority of a chunk, lower is sent first.
+     */
+    double priority(int chunkX, int chunkZ) {
+        final double dx = chunkX + 0.5 - x;
+        final double dz = chunkZ + 0.5 - z;
+        final double distance = Math.sqrt(dx * dx + dz * dz);
+        if (distance < 1) return distance;
+        // Scale the distance from (1 - weight) in front to (1 + weight) behind
+        final double cos = (dx * directionX + dz * directionZ) / distance;
+        return distance * (1 - weight * cos);
+    }
+
+    int compare(long chunkIndexA, long chunkIndexB) {
+        return Double.compare(
+                priority(ChunkUtils.getChunkCoordX(chunkIndexA), ChunkUtils.getChunkCoordZ(chunkIndexA)),
+                priority(ChunkUtils.getChunkCoordX(chunkIndexB), ChunkUtils.getChunkCoordZ(chunkIndexB)));
+    }
+}
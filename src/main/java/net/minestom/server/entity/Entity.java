@@ -99,6 +99,10 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
     protected BoundingBox boundingBox;
     private PhysicsResult previousPhysicsResult = null;
+    // Result computed ahead of time by EntityPhysicsStage, only valid for the position and velocity it was computed from
+    private PhysicsResult batchedPhysicsResult = null;
+    private Pos batchedPhysicsPosition;
+    private Vec batchedPhysicsVelocity;
 
     protected Entity vehicle;
 
@@ -543,7 +547,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             update(time);
 
             ticks++;
-            EventDispatcher.call(new EntityTickEvent(this));
+            EventDispatcher.call(EntityTickEvent.class, this, EntityTickEvent::new);
 
             // remove expired effects
             effectTick();
@@ -555,6 +559,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         }
         // End of tick scheduled tasks
         this.scheduler.processTickEnd();
+        // Metadata changes of this tick
+        this.metadata.flush();
     }
 
     @ApiStatus.Internal
@@ -562,11 +568,14 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.gravityTickCount = onGround ? 0 : gravityTickCount + 1;
         if (vehicle != null) return;
 
-        boolean entityIsPlayer = this instanceof Player;
-        boolean entityFlying = entityIsPlayer && ((Player) this).isFlying();
-        final Block.Getter chunkCache = new ChunkCache(instance, currentChunk, Block.STONE);
-        PhysicsResult physicsResult = PhysicsUtils.simulateMovement(position, velocity.div(ServerFlag.SERVER_TICKS_PER_SECOND), boundingBox,
-                instance.getWorldBorder(), chunkCache, aerodynamics, hasNoGravity(), hasPhysics, onGround, entityFlying, previousPhysicsResult);
+        PhysicsResult physicsResult = pollBatchedPhysics();
+        if (physicsResult == null) {
+            boolean entityIsPlayer = this instanceof Player;
+            boolean entityFlying = entityIsPlayer && ((Player) this).isFlying();
+            final Block.Getter chunkCache = new ChunkCache(instance, currentChunk, Block.STONE);
+            physicsResult = PhysicsUtils.simulateMovement(position, velocity.div(ServerFlag.SERVER_TICKS_PER_SECOND), boundingBox,
+                    instance.getWorldBorder(), chunkCache, aerodynamics, hasNoGravity(), hasPhysics, onGround, entityFlying, previousPhysicsResult);
+        }
         this.previousPhysicsResult = physicsResult;
 
         Chunk finalChunk = ChunkUtils.retrieve(instance, currentChunk, physicsResult.newPosition());
@@ -579,6 +588,38 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         }
     }
 
+    /**
+     * Gets whether the movement of this entity can be simulated by {@link EntityPhysicsStage}.
+     * <p>
+     * Only plain item, experience orb, projectile and falling block entities qualify, subclasses may override
+     * {@link #movementTick()}.
+     */
+    boolean isPhysicsBatchable() {
+        if (vehicle != null || isRemoved()) return false;
+        final Class<?> type = getClass();
+        return type == ItemEntity.class || type == ExperienceOrb.class || type == EntityProjectile.class ||
+                (type == Entity.class && entityType == EntityType.FALLING_BLOCK);
+    }
+
+    @Nullable PhysicsResult previousPhysicsResult() {
+        return previousPhysicsResult;
+    }
+
+    void batchedPhysics(@NotNull Pos position, @NotNull Vec velocity, @NotNull PhysicsResult result) {
+        this.batchedPhysicsPosition = position;
+        this.batchedPhysicsVelocity = velocity;
+        this.batchedPhysicsResult = result;
+    }
+
+    private @Nullable PhysicsResult pollBatchedPhysics() {
+        final PhysicsResult result = this.batchedPhysicsResult;
+        if (result == null) return null;
+        this.batchedPhysicsResult = null;
+        // Discard the result if the entity has been moved or pushed since it was computed
+        if (batchedPhysicsPosition != position || batchedPhysicsVelocity != velocity) return null;
+        return result;
+    }
+
     private void touchTick() {
         if (!hasPhysics) return;
 
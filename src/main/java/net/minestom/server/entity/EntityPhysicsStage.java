@@ -0,0 +1,89 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.PhysicsBatch;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Simulates the movement of all simple entities (items, experience orbs, projectiles and falling blocks)
+ * of a chunk in a single {@link PhysicsBatch}, at the start of the chunk tick.
+ * <p>
+ * Results are consumed by {@link Entity#movementTick()}, which falls back to the regular simulation if the entity
+ * position or velocity changed in between (e.g. by a scheduled task or a teleport).
+ * <p>
+ * Enabled with {@link ServerFlag#ENTITY_BATCHED_PHYSICS}.
+ */
+@ApiStatus.Internal
+public final class EntityPhysicsStage {
+    // Scratch buffers are reused by every chunk ticked on the same thread
+    private static final ThreadLocal<EntityPhysicsStage> LOCAL_STAGE = ThreadLocal.withInitial(EntityPhysicsStage::new);
+
+    private final PhysicsBatch batch = new PhysicsBatch();
+    private Entity[] entities = new Entity[64];
+    private Pos[] positions = new Pos[64];
+    private Vec[] velocities = new Vec[64];
+
+    private EntityPhysicsStage() {
+    }
+
+    /**
+     * Simulates the simple entities located in {@code chunk}.
+     *
+     * @param instance the chunk instance
+     * @param chunk    the chunk being ticked
+     */
+    public static void tick(@NotNull Instance instance, @NotNull Chunk chunk) {
+        LOCAL_STAGE.get().process(instance, chunk);
+    }
+
+    private void process(Instance instance, Chunk chunk) {
+        final Collection<Entity> chunkEntities = instance.getEntityTracker()
+                .chunkEntities(chunk.getChunkX(), chunk.getChunkZ(), EntityTracker.Target.ENTITIES);
+        if (chunkEntities.isEmpty()) return;
+        final PhysicsBatch batch = this.batch;
+        int count = 0;
+        for (Entity entity : chunkEntities) {
+            // Entities which just moved in may still be ticked by another partition
+            if (entity.currentChunk != chunk || !entity.isPhysicsBatchable()) continue;
+            if (count == entities.length) grow(count * 2);
+            final Pos position = entity.position;
+            final Vec velocity = entity.velocity;
+            this.entities[count] = entity;
+            this.positions[count] = position;
+            this.velocities[count] = velocity;
+            batch.add(position, velocity.div(ServerFlag.SERVER_TICKS_PER_SECOND), entity.boundingBox,
+                    entity.getAerodynamics(), entity.hasNoGravity(), entity.hasPhysics, entity.onGround,
+                    entity.previousPhysicsResult());
+            count++;
+        }
+        if (count == 0) return;
+        try {
+            batch.simulate(instance.getWorldBorder(), new ChunkCache(instance, chunk, Block.STONE));
+            for (int i = 0; i < count; i++) {
+                entities[i].batchedPhysics(positions[i], velocities[i], batch.result(i));
+            }
+        } finally {
+            batch.clear();
+            Arrays.fill(entities, 0, count, null);
+            Arrays.fill(positions, 0, count, null);
+            Arrays.fill(velocities, 0, count, null);
+        }
+    }
+
+    private void grow(int capacity) {
+        this.entities = Arrays.copyOf(entities, capacity);
+        this.positions = Arrays.copyOf(positions, capacity);
+        this.velocities = Arrays.copyOf(velocities, capacity);
+    }
+}
@@ -1,5 +1,6 @@
 package net.minestom.server.entity;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.entity.metadata.EntityMeta;
 import net.minestom.server.entity.metadata.PlayerMeta;
 import net.minestom.server.entity.metadata.ambient.BatMeta;
@@ -34,6 +35,7 @@ import net.minestom.server.entity.metadata.water.GlowSquidMeta;
 import net.minestom.server.entity.metadata.water.SquidMeta;
 import net.minestom.server.entity.metadata.water.fish.*;
 import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -42,14 +44,17 @@ import java.lang.invoke.VarHandle;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiFunction;
 
 public final class MetadataHolder {
     private static final VarHandle NOTIFIED_CHANGES;
+    private static final VarHandle DIRTY;
 
     static {
         try {
             NOTIFIED_CHANGES = MethodHandles.lookup().findVarHandle(MetadataHolder.class, "notifyAboutChanges", boolean.class);
+            DIRTY = MethodHandles.lookup().findVarHandle(MetadataHolder.class, "dirty", long.class);
         } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new IllegalStateException(e);
         }
@@ -62,9 +67,18 @@ public final class MetadataHolder {
     @SuppressWarnings("FieldMayBeFinal")
     private volatile boolean notifyAboutChanges = true;
     private final Map<Integer, Metadata.Entry<?>> notNotifiedChanges = new HashMap<>();
+    // Indices changed since the last flush, see ServerFlag#ENTITY_METADATA_COALESCING
+    private final boolean coalescing;
+    @SuppressWarnings("unused")
+    private volatile long dirty;
 
     public MetadataHolder(@Nullable Entity entity) {
+        this(entity, ServerFlag.ENTITY_METADATA_COALESCING);
+    }
+
+    MetadataHolder(@Nullable Entity entity, boolean coalescing) {
         this.entity = entity;
+        this.coalescing = coalescing;
     }
 
     @SuppressWarnings("unchecked")
@@ -77,6 +91,11 @@ public final class MetadataHolder {
 
     public void setIndex(int index, @NotNull Metadata.Entry<?> entry) {
         Metadata.Entry<?>[] entries = this.entries;
+        if (coalescing && index < entries.length &&
+                Objects.equals(entries[index], entry)) {
+            // Unchanged value
+            return;
+        }
         // Resize array if necessary
         if (index >= entries.length) {
             final int newLength = Math.max(entries.length * 2, index + 1);
@@ -91,6 +110,9 @@ public final class MetadataHolder {
                 synchronized (this.notNotifiedChanges) {
                     this.notNotifiedChanges.put(index, entry);
                 }
+            } else if (coalescing && index < Long.SIZE) {
+                // Sent at the end of the entity tick
+                DIRTY.getAndBitwiseOr(this, 1L << index);
             } else {
                 entity.sendPacketToViewersAndSelf(new EntityMetaDataPacket(entity.getEntityId(), Map.of(index, entry)));
             }
@@ -116,6 +138,26 @@ public final class MetadataHolder {
         entity.sendPacketToViewersAndSelf(new EntityMetaDataPacket(entity.getEntityId(), entries));
     }
 
+    /**
+     * Sends the indices changed since the last call as a single packet.
+     * <p>
+     * Called at the end of the entity tick, does nothing unless {@link ServerFlag#ENTITY_METADATA_COALESCING} is enabled.
+     */
+    @ApiStatus.Internal
+    public void flush() {
+        if ((long) DIRTY.getVolatile(this) == 0) return;
+        final long dirty = (long) DIRTY.getAndSet(this, 0L);
+        final Entity entity = this.entity;
+        if (dirty == 0 || entity == null || !entity.isActive()) return;
+        final Metadata.Entry<?>[] entries = this.entries;
+        Map<Integer, Metadata.Entry<?>> changes = new HashMap<>(Long.bitCount(dirty));
+        for (long bits = dirty; bits != 0; bits &= bits - 1) {
+            final int index = Long.numberOfTrailingZeros(bits);
+            changes.put(index, entries[index]);
+        }
+        entity.sendPacketToViewersAndSelf(new EntityMetaDataPacket(entity.getEntityId(), changes));
+    }
+
     public @NotNull Map<Integer, Metadata.Entry<?>> getEntries() {
         Map<Integer, Metadata.Entry<?>> map = entryMap;
         if (map == null) {
@@ -1,5 +1,7 @@
 package net.minestom.server.entity;
 
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import it.unimi.dsi.fastutil.longs.LongArrayPriorityQueue;
 import it.unimi.dsi.fastutil.longs.LongPriorityQueue;
 import net.kyori.adventure.audience.MessageType;
@@ -60,6 +62,7 @@ import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.message.ChatMessageType;
 import net.minestom.server.message.ChatPosition;
 import net.minestom.server.message.Messenger;
+import net.minestom.server.network.BandwidthScheduler;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.PlayerProvider;
@@ -70,7 +73,9 @@ import net.minestom.server.network.packet.server.common.*;
 import net.minestom.server.network.packet.server.login.LoginDisconnectPacket;
 import net.minestom.server.network.packet.server.play.*;
 import net.minestom.server.network.packet.server.play.data.WorldPos;
+import net.minestom.server.network.player.ClientPacketQueue;
 import net.minestom.server.network.player.GameProfile;
+import net.minestom.server.network.player.PacketQueueMetrics;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.recipe.Recipe;
@@ -97,7 +102,6 @@ import net.minestom.server.utils.time.Cooldown;
 import net.minestom.server.utils.time.TimeUnit;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.DimensionType;
-import org.jctools.queues.MpscArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -153,6 +157,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * in the range of {@link ServerFlag#CHUNK_VIEW_DISTANCE}
      */
     private Vec chunksLoadedByClient = Vec.ZERO;
+    private static final double MAX_CHUNK_QUEUE_MOTION = 16;
     private final ReentrantLock chunkQueueLock = new ReentrantLock();
     private final LongPriorityQueue chunkQueue = new LongArrayPriorityQueue(this::compareChunkDistance);
     private boolean needsChunkPositionSync = true;
@@ -160,21 +165,40 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     private float pendingChunkCount = 0f; // Number of chunks to send on the current tick (ie 0.5 means we cannot send a chunk yet, 1.5 would send a single chunk with a 0.5 remainder)
     private int maxChunkBatchLead = 1; // Maximum number of batches to send before waiting for a reply
     private int chunkBatchLead = 0; // Number of batches sent without a reply
+    // Share of the server chunk bandwidth, see ServerFlag#CHUNK_BANDWIDTH_PER_TICK
+    private double chunkBandwidthWeight = 1;
+    private long chunkCredit = 0; // Bytes of chunk data the player can send
+    // Directional chunk ordering and prefetching, see ServerFlag#CHUNK_QUEUE_DIRECTIONAL
+    private boolean chunkQueueDirectional = ServerFlag.CHUNK_QUEUE_DIRECTIONAL;
+    private final ChunkQueuePriority chunkQueuePriority = new ChunkQueuePriority();
+    private Pos chunkQueuePosition;
+    private long prefetchedChunk = Long.MIN_VALUE;
+    // Chunk queue telemetry
+    private final Long2LongOpenHashMap chunkQueueTimes = new Long2LongOpenHashMap();
+    private final LongArrayFIFOQueue chunkBatchTimes = new LongArrayFIFOQueue();
+    private long sentChunks, chunkQueueNanos, maxChunkQueueNanos;
+    private long receivedChunkBatches, chunkBatchNanos, maxChunkBatchNanos;
 
     final IntegerBiConsumer chunkAdder = (chunkX, chunkZ) -> {
         // Load new chunks
         this.instance.loadOptionalChunk(chunkX, chunkZ).thenAccept(this::sendChunk);
     };
+    final IntegerBiConsumer chunkPrefetcher = (chunkX, chunkZ) -> {
+        // Load chunks the player is about to see
+        this.instance.loadOptionalChunk(chunkX, chunkZ);
+    };
     final IntegerBiConsumer chunkRemover = (chunkX, chunkZ) -> {
         // Unload old chunks
         sendPacket(new UnloadChunkPacket(chunkX, chunkZ));
-        EventDispatcher.call(new PlayerChunkUnloadEvent(this, chunkX, chunkZ));
+        if (EventDispatcher.hasListener(PlayerChunkUnloadEvent.class)) {
+            EventDispatcher.call(new PlayerChunkUnloadEvent(this, chunkX, chunkZ));
+        }
     };
 
     private final AtomicInteger teleportId = new AtomicInteger();
     private int receivedTeleportId;
 
-    private final MpscArrayQueue<ClientPacket> packets = new MpscArrayQueue<>(ServerFlag.PLAYER_PACKET_QUEUE_SIZE);
+    private final ClientPacketQueue packets = new ClientPacketQueue(ServerFlag.PLAYER_PACKET_QUEUE_SIZE, ServerFlag.PLAYER_PACKET_ADAPTIVE_BUDGET);
     private final boolean levelFlat;
     private final PlayerSettings settings;
     private float exp;
@@ -461,7 +485,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         updatePose();
 
         // Tick event
-        EventDispatcher.call(new PlayerTickEvent(this));
+        EventDispatcher.call(PlayerTickEvent.class, this, PlayerTickEvent::new);
     }
 
     @Override
@@ -568,7 +592,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * again, and any changes will be visible to the player.
      */
     public void refreshCommands() {
-        sendPacket(MinecraftServer.getCommandManager().createDeclareCommandsPacket(this));
+        sendPacket(MinecraftServer.getCommandManager().declareCommandsPacket(this));
     }
 
     @Override
@@ -657,6 +681,9 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         needsChunkPositionSync = true;
         targetChunksPerTick = 9f;
         pendingChunkCount = 0f;
+        chunkCredit = 0;
+        chunkQueuePosition = null;
+        prefetchedChunk = Long.MIN_VALUE;
 
         // Ensure that surrounding chunks are loaded
         List<CompletableFuture<Chunk>> futures = new ArrayList<>();
@@ -775,6 +802,12 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     public void onChunkBatchReceived(float newTargetChunksPerTick) {
 //        logger.debug("chunk batch received player={} chunks/tick={} lead={}", username, newTargetChunksPerTick, chunkBatchLead);
         chunkBatchLead -= 1;
+        if (!chunkBatchTimes.isEmpty()) {
+            final long batchNanos = System.nanoTime() - chunkBatchTimes.dequeueLong();
+            this.receivedChunkBatches++;
+            this.chunkBatchNanos += batchNanos;
+            this.maxChunkBatchNanos = Math.max(maxChunkBatchNanos, batchNanos);
+        }
         targetChunksPerTick = Float.isNaN(newTargetChunksPerTick) ? ServerFlag.MIN_CHUNKS_PER_TICK : MathUtils.clamp(
                 newTargetChunksPerTick * ServerFlag.CHUNKS_PER_TICK_MULTIPLIER, ServerFlag.MIN_CHUNKS_PER_TICK, ServerFlag.MAX_CHUNKS_PER_TICK);
 
@@ -791,38 +824,186 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         if (!chunk.isLoaded()) return;
         chunkQueueLock.lock();
         try {
-            chunkQueue.enqueue(ChunkUtils.getChunkIndex(chunk.getChunkX(), chunk.getChunkZ()));
+            final long chunkIndex = ChunkUtils.getChunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+            chunkQueue.enqueue(chunkIndex);
+            if (!chunkQueueTimes.containsKey(chunkIndex)) chunkQueueTimes.put(chunkIndex, System.nanoTime());
+        } finally {
+            chunkQueueLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the share of the server chunk bandwidth given to this player, relative to the other players.
+     *
+     * @return the bandwidth weight, 1 by default
+     * @see ServerFlag#CHUNK_BANDWIDTH_PER_TICK
+     */
+    @ApiStatus.Experimental
+    public double getChunkBandwidthWeight() {
+        return chunkBandwidthWeight;
+    }
+
+    /**
+     * Changes the share of the server chunk bandwidth given to this player.
+     * <p>
+     * A player with a weight of 2 receives chunks twice as fast as a player with a weight of 1
+     * when the bandwidth is saturated. A weight of 0 pauses chunk sending.
+     *
+     * @param chunkBandwidthWeight the new bandwidth weight
+     * @throws IllegalArgumentException if {@code chunkBandwidthWeight} is negative
+     */
+    @ApiStatus.Experimental
+    public void setChunkBandwidthWeight(double chunkBandwidthWeight) {
+        Check.argCondition(chunkBandwidthWeight < 0, "Chunk bandwidth weight cannot be negative");
+        this.chunkBandwidthWeight = chunkBandwidthWeight;
+    }
+
+    /**
+     * Gets if the chunks sent to this player are ordered by its view and movement direction.
+     *
+     * @return true if the chunk queue is directional
+     * @see ServerFlag#CHUNK_QUEUE_DIRECTIONAL
+     */
+    @ApiStatus.Experimental
+    public boolean isChunkQueueDirectional() {
+        return chunkQueueDirectional;
+    }
+
+    /**
+     * Changes if the chunks sent to this player are ordered by its view and movement direction,
+     * or only by their distance to the player.
+     *
+     * @param chunkQueueDirectional true to order the chunk queue by direction
+     */
+    @ApiStatus.Experimental
+    public void setChunkQueueDirectional(boolean chunkQueueDirectional) {
+        chunkQueueLock.lock();
+        try {
+            this.chunkQueueDirectional = chunkQueueDirectional;
+            this.chunkQueuePosition = null;
+            chunkQueuePriority.update(getPosition(), Vec.ZERO);
+            if (!chunkQueue.isEmpty()) chunkQueue.changed();
         } finally {
             chunkQueueLock.unlock();
         }
     }
 
+    /**
+     * Gets statistics about the chunks sent to this player.
+     *
+     * @return the chunk queue statistics
+     */
+    public @NotNull ChunkQueueStats getChunkQueueStats() {
+        chunkQueueLock.lock();
+        try {
+            return new ChunkQueueStats(chunkQueue.size(), sentChunks,
+                    sentChunks == 0 ? 0 : chunkQueueNanos / sentChunks, maxChunkQueueNanos,
+                    receivedChunkBatches == 0 ? 0 : chunkBatchNanos / receivedChunkBatches, maxChunkBatchNanos);
+        } finally {
+            chunkQueueLock.unlock();
+        }
+    }
+
+    /**
+     * Updates the chunk queue order from the player movement, and loads the chunks ahead of it.
+     */
+    private void updateChunkQueue() {
+        final Pos position = getPosition();
+        final Pos previous = this.chunkQueuePosition;
+        this.chunkQueuePosition = position;
+        Vec motion = previous != null ? position.sub(previous).asVec().withY(0) : Vec.ZERO;
+        // Ignore teleports
+        if (motion.lengthSquared() > MAX_CHUNK_QUEUE_MOTION * MAX_CHUNK_QUEUE_MOTION) motion = Vec.ZERO;
+
+        chunkQueueLock.lock();
+        try {
+            chunkQueuePriority.update(position, motion);
+            // Reordering an empty queue throws
+            if (!chunkQueue.isEmpty()) chunkQueue.changed();
+        } finally {
+            chunkQueueLock.unlock();
+        }
+
+        if (ServerFlag.CHUNK_PREFETCH_TICKS <= 0 || motion.isZero()) return;
+        final Pos predicted = position.add(motion.mul(ServerFlag.CHUNK_PREFETCH_TICKS));
+        final int predictedX = predicted.chunkX(), predictedZ = predicted.chunkZ();
+        final int currentX = chunksLoadedByClient.blockX(), currentZ = chunksLoadedByClient.blockZ();
+        final long predictedIndex = ChunkUtils.getChunkIndex(predictedX, predictedZ);
+        if (predictedIndex == prefetchedChunk || (predictedX == currentX && predictedZ == currentZ)) return;
+        this.prefetchedChunk = predictedIndex;
+        ChunkUtils.forDifferingChunksInRange(predictedX, predictedZ, currentX, currentZ,
+                settings.getEffectiveViewDistance(), chunkPrefetcher);
+    }
+
     private void sendPendingChunks() {
+        if (chunkQueueDirectional) updateChunkQueue();
         // If we have nothing to send or have sent the max # of batches without reply, do nothing
         if (chunkQueue.isEmpty() || chunkBatchLead >= maxChunkBatchLead) return;
 
+        // Slow down while the connection is not keeping up
+        float targetChunksPerTick = this.targetChunksPerTick;
+        if (ServerFlag.CHUNK_BACKPRESSURE_BYTES > 0 && playerConnection instanceof PlayerSocketConnection socketConnection) {
+            final double pressure = (double) socketConnection.pendingBytes() / ServerFlag.CHUNK_BACKPRESSURE_BYTES;
+            if (pressure >= 1) return;
+            targetChunksPerTick *= (float) (1 - pressure);
+        }
+
         // Increment the pending chunk count by the target chunks per tick
         pendingChunkCount = Math.min(pendingChunkCount + targetChunksPerTick, ServerFlag.MAX_CHUNKS_PER_TICK);
         if (pendingChunkCount < 1) return; // Cant send anything
 
+        final BandwidthScheduler bandwidth = MinecraftServer.getConnectionManager().getBandwidthScheduler();
+        final boolean limited = bandwidth.isLimited();
+        final long share = limited ? bandwidth.share(chunkBandwidthWeight) : 0;
+        chunkCredit += share;
+
         chunkQueueLock.lock();
         try {
             int batchSize = 0;
-            sendPacket(new ChunkBatchStartPacket());
+            long waitingSize = 0; // Size of the chunk that did not fit in the bandwidth
+            // The batch is only started once a chunk fits in the bandwidth
+            if (!limited) sendPacket(new ChunkBatchStartPacket());
             while (!chunkQueue.isEmpty() && pendingChunkCount >= 1f) {
-                long chunkIndex = chunkQueue.dequeueLong();
+                long chunkIndex = chunkQueue.firstLong();
                 int chunkX = ChunkUtils.getChunkCoordX(chunkIndex), chunkZ = ChunkUtils.getChunkCoordZ(chunkIndex);
                 var chunk = instance.getChunk(chunkX, chunkZ);
-                if (chunk == null || !chunk.isLoaded()) continue;
+                final boolean loaded = chunk != null && chunk.isLoaded();
+                final SendablePacket chunkPacket = loaded ? chunk.getFullDataPacket() : null;
+                if (loaded && limited) {
+                    final long size = BandwidthScheduler.packetSize(chunkPacket);
+                    if (chunkCredit < size || !bandwidth.tryAcquire(size)) {
+                        waitingSize = size;
+                        break;
+                    }
+                    chunkCredit -= size;
+                    if (batchSize == 0) sendPacket(new ChunkBatchStartPacket());
+                }
+                chunkQueue.dequeueLong();
+                final long queuedAt = chunkQueueTimes.remove(chunkIndex);
+                if (!loaded) continue;
+
+                if (queuedAt != 0) {
+                    final long queueNanos = System.nanoTime() - queuedAt;
+                    this.sentChunks++;
+                    this.chunkQueueNanos += queueNanos;
+                    this.maxChunkQueueNanos = Math.max(maxChunkQueueNanos, queueNanos);
+                }
 
-                sendPacket(chunk.getFullDataPacket());
-                EventDispatcher.call(new PlayerChunkLoadEvent(this, chunkX, chunkZ));
+                sendPacket(chunkPacket);
+                if (EventDispatcher.hasListener(PlayerChunkLoadEvent.class)) {
+                    EventDispatcher.call(new PlayerChunkLoadEvent(this, chunkX, chunkZ));
+                }
 
                 pendingChunkCount -= 1f;
                 batchSize += 1;
             }
+            // Credit is only kept while waiting for chunks, and does not grow past the next one
+            if (chunkQueue.isEmpty()) chunkCredit = 0;
+            else if (limited) chunkCredit = BandwidthScheduler.capCredit(chunkCredit, share, waitingSize);
+            if (limited && batchSize == 0) return;
             sendPacket(new ChunkBatchFinishedPacket(batchSize));
             chunkBatchLead += 1;
+            chunkBatchTimes.enqueue(System.nanoTime());
 //            logger.debug("chunk batch sent player={} chunks={} lead={}", username, batchSize, chunkBatchLead);
 
             // After sending the first chunk we always send a synchronize position to the client. This is to prevent
@@ -2136,7 +2317,16 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     public void interpretPacketQueue() {
         final PacketListenerManager manager = MinecraftServer.getPacketListenerManager();
         // This method is NOT thread-safe
-        this.packets.drain(packet -> manager.processClientPacket(packet, playerConnection), ServerFlag.PLAYER_PACKET_PER_TICK);
+        this.packets.process(manager, playerConnection, MinecraftServer.getConnectionManager().getPacketBudget());
+    }
+
+    /**
+     * Gets the state of the received packets queue, used to detect lagging or flooding clients.
+     *
+     * @return the packet queue metrics
+     */
+    public @NotNull PacketQueueMetrics getPacketQueueMetrics() {
+        return packets.metrics();
     }
 
     /**
@@ -2363,6 +2553,18 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         return super.teleport(position, chunks, flags);
     }
 
+    /**
+     * @param queuedChunks       the number of chunks waiting to be sent
+     * @param sentChunks         the number of chunks sent
+     * @param averageQueueNanos  the average time chunks waited in the queue
+     * @param maxQueueNanos      the longest time a chunk waited in the queue
+     * @param averageBatchNanos  the average time between sending a chunk batch and the client acknowledging it
+     * @param maxBatchNanos      the longest time between sending a chunk batch and the client acknowledging it
+     */
+    public record ChunkQueueStats(int queuedChunks, long sentChunks, long averageQueueNanos, long maxQueueNanos,
+                                  long averageBatchNanos, long maxBatchNanos) {
+    }
+
     /**
      * Represents the main or off hand of the player.
      */
@@ -2497,6 +2699,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     }
 
     private int compareChunkDistance(long chunkIndexA, long chunkIndexB) {
+        if (chunkQueueDirectional) return chunkQueuePriority.compare(chunkIndexA, chunkIndexB);
         int chunkAX = ChunkUtils.getChunkCoordX(chunkIndexA);
         int chunkAZ = ChunkUtils.getChunkCoordZ(chunkIndexA);
         int chunkBX = ChunkUtils.getChunkCoordX(chunkIndexB);
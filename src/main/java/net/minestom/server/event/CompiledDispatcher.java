@@ -0,0 +1,137 @@
+package net.minestom.server.event;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * Flat dispatch routine of an event type, compiled from a node and all of its children.
+ * <p>
+ * Instead of nesting one consumer per node, the tree is flattened into a single instruction array:
+ * predicates become guards jumping over the instructions of their node when failing, and children are inlined
+ * in priority order. Mapped nodes are forwarded to by the consumer of the node {@link MappedNodeIndex}.
+ * <p>
+ * Compiled by {@link EventNodeImpl.Handle} when {@link net.minestom.server.ServerFlag#EVENT_NODE_COMPILED_DISPATCH}
+ * is enabled, and recompiled on invalidation like the default consumer.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class CompiledDispatcher<E extends Event> implements Consumer<E> {
+    private static final byte GUARD = 0;
+    private static final byte LISTENER = 1;
+    private static final byte BINDING = 2;
+
+    private final byte[] ops;
+    // GUARD: filter, predicate; LISTENER: handle, listener; BINDING: consumer
+    private final Object[] first;
+    private final Object[] second;
+    // GUARD: index of the first instruction after the node
+    private final int[] jumps;
+
+    private CompiledDispatcher(byte[] ops, Object[] first, Object[] second, int[] jumps) {
+        this.ops = ops;
+        this.first = first;
+        this.second = second;
+        this.jumps = jumps;
+    }
+
+    /**
+     * Compiles the dispatch routine of {@code eventType} starting at {@code node}.
+     *
+     * @return the routine, or null if no listener would be called
+     */
+    static <E extends Event> @Nullable Consumer<E> compile(@NotNull EventNodeImpl<? super E> node, @NotNull Class<E> eventType) {
+        Builder builder = new Builder();
+        builder.node((EventNodeImpl<E>) node, eventType);
+        return builder.size > 0 ? builder.build() : null;
+    }
+
+    @Override
+    public void accept(E event) {
+        final byte[] ops = this.ops;
+        final Object[] first = this.first;
+        final Object[] second = this.second;
+        int i = 0;
+        while (i < ops.length) {
+            switch (ops[i]) {
+                case GUARD -> {
+                    final EventFilter filter = (EventFilter) first[i];
+                    final BiPredicate predicate = (BiPredicate) second[i];
+                    if (!predicate.test(event, filter.getHandler(event))) {
+                        i = jumps[i];
+                        continue;
+                    }
+                }
+                case LISTENER -> ((EventNodeImpl.Handle) first[i]).callListener((EventListener) second[i], event);
+                case BINDING -> ((Consumer) first[i]).accept(event);
+                default -> throw new IllegalStateException("Unknown instruction: " + ops[i]);
+            }
+            i++;
+        }
+    }
+
+    private static final class Builder {
+        byte[] ops = new byte[8];
+        Object[] first = new Object[8];
+        Object[] second = new Object[8];
+        int[] jumps = new int[8];
+        int size;
+
+        <E extends Event> void node(EventNodeImpl<E> node, Class<E> eventType) {
+            final int start = size;
+            final BiPredicate<E, Object> predicate = node.predicate;
+            if (predicate != null) emit(GUARD, node.filter, predicate);
+            final int body = size;
+            // Standalone listeners
+            final EventNodeImpl<E>.Handle<E> handle = (EventNodeImpl<E>.Handle<E>) node.getHandle(eventType);
+            EventNodeImpl.forTargetEvents(eventType, type -> {
+                final EventNodeImpl.ListenerEntry<E> entry = node.listenerMap.get(type);
+                if (entry == null) return;
+                for (EventListener<E> listener : entry.listeners) emit(LISTENER, handle, listener);
+                for (Consumer<E> binding : entry.bindingConsumers) emit(BINDING, binding, null);
+            });
+            // Mapped
+            mapped(node, eventType);
+            // Children
+            node.children.stream()
+                    .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
+                    .sorted(Comparator.comparing(EventNode::getPriority))
+                    .forEach(child -> node((EventNodeImpl<E>) child, eventType));
+            if (size == body) {
+                // Nothing to call, drop the guard
+                this.size = start;
+                Arrays.fill(first, start, first.length, null);
+                Arrays.fill(second, start, second.length, null);
+                return;
+            }
+            if (predicate != null) jumps[start] = size;
+        }
+
+        <E extends Event> void mapped(EventNodeImpl<E> node, Class<E> eventType) {
+            // Mapped nodes come and go, look them up on call instead of inlining them
+            final Consumer<E> consumer = node.mappedIndex.consumer(eventType);
+            if (consumer != null) emit(BINDING, consumer, null);
+        }
+
+        void emit(byte op, Object first, Object second) {
+            if (size == ops.length) {
+                final int capacity = size * 2;
+                this.ops = Arrays.copyOf(ops, capacity);
+                this.first = Arrays.copyOf(this.first, capacity);
+                this.second = Arrays.copyOf(this.second, capacity);
+                this.jumps = Arrays.copyOf(jumps, capacity);
+            }
+            this.ops[size] = op;
+            this.first[size] = first;
+            this.second[size] = second;
+            this.size++;
+        }
+
+        <E extends Event> CompiledDispatcher<E> build() {
+            return new CompiledDispatcher<>(Arrays.copyOf(ops, size), Arrays.copyOf(first, size),
+                    Arrays.copyOf(second, size), Arrays.copyOf(jumps, size));
+        }
+    }
+}
@@ -4,12 +4,62 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.event.trait.CancellableEvent;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 public final class EventDispatcher {
+    // Handles of the global event handler, refreshed when the server process changes
+    private static final ClassValue<CachedHandle> HANDLES = new ClassValue<>() {
+        @Override
+        protected CachedHandle computeValue(@NotNull Class<?> type) {
+            return new CachedHandle(type);
+        }
+    };
 
     public static void call(@NotNull Event event) {
         MinecraftServer.getGlobalEventHandler().call(event);
     }
 
+    /**
+     * Calls an event only created if it has at least one listener.
+     * <p>
+     * The supplier must create an event of the exact type {@code eventType},
+     * and should not capture any variable to avoid allocating the lambda itself.
+     *
+     * @param eventType     the event type
+     * @param eventSupplier the event factory, only called if the event is listened to
+     */
+    public static <E extends Event> void call(@NotNull Class<E> eventType, @NotNull Supplier<E> eventSupplier) {
+        final ListenerHandle<E> handle = cachedHandle(eventType);
+        if (handle.hasListener()) handle.call(eventSupplier.get());
+    }
+
+    /**
+     * Calls an event only created if it has at least one listener.
+     * <p>
+     * The factory must create an event of the exact type {@code eventType},
+     * a constructor reference (e.g. {@code EntityTickEvent::new}) avoids any allocation when the event is unused.
+     *
+     * @param eventType    the event type
+     * @param argument     the argument given to the factory
+     * @param eventFactory the event factory, only called if the event is listened to
+     */
+    public static <E extends Event, A> void call(@NotNull Class<E> eventType, A argument,
+                                                 @NotNull Function<A, E> eventFactory) {
+        final ListenerHandle<E> handle = cachedHandle(eventType);
+        if (handle.hasListener()) handle.call(eventFactory.apply(argument));
+    }
+
+    /**
+     * Gets if an event type has at least one listener in the global event handler, including mapped nodes.
+     *
+     * @param eventType the event type
+     * @return true if calling the event may have an effect
+     */
+    public static boolean hasListener(@NotNull Class<? extends Event> eventType) {
+        return cachedHandle(eventType).hasListener();
+    }
+
     public static <E extends Event> ListenerHandle<E> getHandle(@NotNull Class<E> handleType) {
         return MinecraftServer.getGlobalEventHandler().getHandle(handleType);
     }
@@ -17,4 +67,32 @@ public final class EventDispatcher {
     public static void callCancellable(@NotNull CancellableEvent event, @NotNull Runnable successCallback) {
         MinecraftServer.getGlobalEventHandler().callCancellable(event, successCallback);
     }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> ListenerHandle<E> cachedHandle(Class<E> eventType) {
+        return (ListenerHandle<E>) HANDLES.get(eventType).handle();
+    }
+
+    private static final class CachedHandle {
+        private final Class type;
+        private volatile Entry entry;
+
+        private CachedHandle(Class<?> type) {
+            this.type = type;
+        }
+
+        @SuppressWarnings("unchecked")
+        ListenerHandle<?> handle() {
+            final GlobalEventHandler node = MinecraftServer.getGlobalEventHandler();
+            Entry entry = this.entry;
+            if (entry == null || entry.node() != node) {
+                entry = new Entry(node, node.getHandle(type));
+                this.entry = entry;
+            }
+            return entry.handle();
+        }
+
+        private record Entry(GlobalEventHandler node, ListenerHandle<?> handle) {
+        }
+    }
 }
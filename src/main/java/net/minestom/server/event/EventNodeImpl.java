@@ -9,12 +9,10 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 
@@ -29,6 +27,7 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
             .weakKeys().weakValues().<Object, EventNodeImpl<T>>build().asMap();
     final Map<Object, EventNodeImpl<T>> registeredMappedNode = Caffeine.newBuilder()
             .weakKeys().weakValues().<Object, EventNodeImpl<T>>build().asMap();
+    final MappedNodeIndex mappedIndex = new MappedNodeIndex(this, registeredMappedNode);
 
     final String name;
     final EventFilter<T, ?> filter;
@@ -154,24 +153,17 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
 
     @Override
     public @NotNull <E extends T, H> EventNode<E> map(@NotNull H value, @NotNull EventFilter<E, H> filter) {
-        EventNodeImpl<E> node;
-        synchronized (GLOBAL_CHILD_LOCK) {
-            node = new EventNodeLazyImpl<>(this, value, filter);
-            Check.stateCondition(node.parent != null, "Node already has a parent");
-            Check.stateCondition(Objects.equals(parent, node), "Cannot map to self");
-            EventNodeImpl<T> previous = this.mappedNodeCache.putIfAbsent(value, (EventNodeImpl<T>) node);
-            if (previous != null) return (EventNode<E>) previous;
+        // Mapped nodes are only registered to the holder once they get a listener, see EventNodeLazyImpl
+        return (EventNode<E>) this.mappedNodeCache.computeIfAbsent(value, v -> {
+            EventNodeImpl<E> node = new EventNodeLazyImpl<>(this, v, filter);
             node.parent = this;
-        }
-        return node;
+            return (EventNodeImpl<T>) node;
+        });
     }
 
     @Override
     public void unmap(@NotNull Object value) {
-        synchronized (GLOBAL_CHILD_LOCK) {
-            final var mappedNode = this.registeredMappedNode.remove(value);
-            if (mappedNode != null) mappedNode.invalidateEventsFor(this);
-        }
+        this.mappedIndex.unregister(value);
     }
 
     @Override
@@ -275,14 +267,37 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         }
     }
 
-    private void invalidateEvent(Class<? extends T> eventClass) {
+    void invalidateEvent(Class<? extends T> eventClass) {
+        invalidateHandles(eventClass);
+        final EventNodeImpl<? super T> parent = this.parent;
+        if (parent != null) parent.invalidateEvent(eventClass);
+    }
+
+    final void invalidateHandles(Class<? extends T> eventClass) {
         forTargetEvents(eventClass, type -> {
             Handle<T> handle = handleMap.computeIfAbsent(type,
                     aClass -> new Handle<>((Class<T>) aClass));
             handle.invalidate();
         });
-        final EventNodeImpl<? super T> parent = this.parent;
-        if (parent != null) parent.invalidateEvent(eventClass);
+    }
+
+    /**
+     * Gets if a listener of this node, its children or its mapped nodes could receive {@code type},
+     * without compiling any handle.
+     */
+    final boolean hasStructuralListener(Class<?> type) {
+        final boolean[] result = {false};
+        forTargetEvents(type, target -> {
+            final ListenerEntry<T> entry = listenerMap.get(target);
+            if (entry != null && (!entry.listeners.isEmpty() || !entry.bindingConsumers.isEmpty())) {
+                result[0] = true;
+            }
+        });
+        if (result[0] || mappedIndex.listens(type)) return true;
+        for (EventNodeImpl<T> child : children) {
+            if (child.eventType.isAssignableFrom(type) && child.hasStructuralListener(type)) return true;
+        }
+        return false;
     }
 
     private ListenerEntry<T> getEntry(Class<? extends T> type) {
@@ -293,7 +308,7 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         return node.getName().equals(name) && eventType.isAssignableFrom((node.getEventType()));
     }
 
-    private static void forTargetEvents(Class<?> type, Consumer<Class<?>> consumer) {
+    static void forTargetEvents(Class<?> type, Consumer<Class<?>> consumer) {
         consumer.accept(type);
         // Recursion
         if (RecursiveEvent.class.isAssignableFrom(type)) {
@@ -304,7 +319,7 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         }
     }
 
-    private static class ListenerEntry<T extends Event> {
+    static class ListenerEntry<T extends Event> {
         final List<EventListener<T>> listeners = new CopyOnWriteArrayList<>();
         final Set<Consumer<T>> bindingConsumers = new CopyOnWriteArraySet<>();
     }
@@ -353,6 +368,7 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
 
         private @Nullable Consumer<E> createConsumer() {
             var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            if (ServerFlag.EVENT_NODE_COMPILED_DISPATCH) return CompiledDispatcher.compile(node, eventType);
             // Standalone listeners
             List<Consumer<E>> listeners = new ArrayList<>();
             forTargetEvents(eventType, type -> {
@@ -440,51 +456,10 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
 
         /**
          * Create a consumer handling {@link EventNode#map(Object, EventFilter)}.
-         * The goal is to limit the amount of map lookup.
+         * Mapped nodes are looked up when the event is called, only the filters are resolved here.
          */
         private @Nullable Consumer<E> mappedConsumer() {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
-            final var mappedNodeCache = node.registeredMappedNode;
-            if (mappedNodeCache.isEmpty()) return null;
-            Set<EventFilter<E, ?>> filters = new HashSet<>(mappedNodeCache.size());
-            Map<Object, WeakReference<Handle<E>>> handlers = new WeakHashMap<>(mappedNodeCache.size());
-
-            // Retrieve all filters used to retrieve potential handlers
-            for (var mappedEntry : mappedNodeCache.entrySet()) {
-                final EventNodeImpl<E> mappedNode = mappedEntry.getValue();
-                final Handle<E> handle = (Handle<E>) mappedNode.getHandle(eventType);
-                if (!handle.hasListener()) continue; // Implicit update
-                filters.add(mappedNode.filter);
-                handlers.put(mappedEntry.getKey(), new WeakReference<>(handle));
-            }
-            // If at least one mapped node listen to this handle type,
-            // loop through them and forward to mapped node if there is a match
-            if (filters.isEmpty()) return null;
-            final EventFilter<E, ?>[] filterList = filters.toArray(EventFilter[]::new);
-            final BiConsumer<EventFilter<E, ?>, E> mapper = (filter, event) -> {
-                final Object handler = filter.castHandler(event);
-                final WeakReference<Handle<E>> handleRef = handlers.get(handler);
-                final Handle<E> handle = handleRef != null ? handleRef.get() : null;
-                if (handle != null) handle.call(event);
-            };
-            // Specialize the consumer depending on the number of filters to avoid looping
-            return switch (filterList.length) {
-                case 1 -> event -> mapper.accept(filterList[0], event);
-                case 2 -> event -> {
-                    mapper.accept(filterList[0], event);
-                    mapper.accept(filterList[1], event);
-                };
-                case 3 -> event -> {
-                    mapper.accept(filterList[0], event);
-                    mapper.accept(filterList[1], event);
-                    mapper.accept(filterList[2], event);
-                };
-                default -> event -> {
-                    for (var filter : filterList) {
-                        mapper.accept(filter, event);
-                    }
-                };
-            };
+            return mappedIndex.consumer(eventType);
         }
 
         void callListener(@NotNull EventListener<E> listener, E event) {
@@ -4,7 +4,10 @@ import org.jetbrains.annotations.NotNull;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.lang.ref.Cleaner;
 import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Consumer;
 
 final class EventNodeLazyImpl<E extends Event> extends EventNodeImpl<E> {
@@ -23,6 +26,11 @@ final class EventNodeLazyImpl<E extends Event> extends EventNodeImpl<E> {
     @SuppressWarnings("unused")
     private boolean mapped;
 
+    // Registration state in the holder index, see MappedNodeIndex
+    volatile boolean registered;
+    final Set<Class<?>> listenedTypes = new HashSet<>();
+    volatile Cleaner.Cleanable cleanable;
+
     EventNodeLazyImpl(@NotNull EventNodeImpl<? super E> holder,
                       @NotNull Object owner, @NotNull EventFilter<E, ?> filter) {
         super(owner.toString(), filter, null);
@@ -63,12 +71,16 @@ final class EventNodeLazyImpl<E extends Event> extends EventNodeImpl<E> {
         super.register(binding);
     }
 
+    @Override
+    void invalidateEvent(Class<? extends E> eventClass) {
+        invalidateHandles(eventClass);
+        // The holder looks up mapped nodes on call, it only needs to know whether this type is listened
+        if (registered) holder.mappedIndex.update(this, eventClass);
+    }
+
     private void ensureMap() {
         if (MAPPED.compareAndSet(this, false, true)) {
-            synchronized (GLOBAL_CHILD_LOCK) {
-                var previous = this.holder.registeredMappedNode.putIfAbsent(retrieveOwner(), EventNodeImpl.class.cast(this));
-                if (previous == null) invalidateEventsFor(holder);
-            }
+            this.holder.mappedIndex.register(retrieveOwner(), this);
         }
     }
 
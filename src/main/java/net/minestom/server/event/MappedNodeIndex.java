@@ -0,0 +1,159 @@
+package net.minestom.server.event;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Cleaner;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Index of the nodes created by {@link EventNode#map(Object, EventFilter)} on a node, used to forward events
+ * to the node mapped to their handler.
+ * <p>
+ * Mapped nodes are looked up by identity from a concurrent map with weak keys and values, so registering
+ * or removing a mapped node does not require rebuilding the holder dispatch. The holder handle of an event type is
+ * only invalidated when the number of mapped nodes listening to it goes from or to zero,
+ * instead of on every listener change of every mapped node.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class MappedNodeIndex {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final EventNodeImpl<?> holder;
+    private final Map<Object, EventNodeImpl<?>> nodes;
+    // Filters used by the mapped nodes, weakly referenced in case they are created per mapping
+    private final Set<EventFilter<?, ?>> filters = Collections.newSetFromMap(Caffeine.newBuilder()
+            .weakKeys().<EventFilter<?, ?>, Boolean>build().asMap());
+    // Number of registered mapped nodes with listeners, per handle type
+    private final Map<Class<?>, AtomicInteger> listening = new ConcurrentHashMap<>();
+
+    MappedNodeIndex(@NotNull EventNodeImpl<?> holder, @NotNull Map<Object, ? extends EventNodeImpl<?>> nodes) {
+        this.holder = holder;
+        this.nodes = (Map<Object, EventNodeImpl<?>>) nodes;
+    }
+
+    /**
+     * Registers a mapped node, once it gets its first listener or child.
+     *
+     * @return true if the node has been registered, false if another node is already mapped to the handler
+     */
+    boolean register(@NotNull Object handler, @NotNull EventNodeLazyImpl<?> node) {
+        final Set<Class<?>> listenedTypes = node.listenedTypes;
+        // The cleaning action must not reference the node
+        node.cleanable = CLEANER.register(node, () -> release(listenedTypes));
+        node.registered = true;
+        if (nodes.putIfAbsent(handler, node) != null) {
+            node.registered = false;
+            node.cleanable.clean();
+            return false;
+        }
+        if (filters.add(node.filter)) {
+            // Rare, existing dispatchers do not know about this filter
+            synchronized (EventNodeImpl.GLOBAL_CHILD_LOCK) {
+                for (Map.Entry<Class<?>, AtomicInteger> entry : listening.entrySet()) {
+                    if (entry.getValue().get() > 0) invalidateHolder(entry.getKey());
+                }
+            }
+        }
+        return true;
+    }
+
+    void unregister(@NotNull Object handler) {
+        final EventNodeImpl<?> node = nodes.remove(handler);
+        if (node instanceof EventNodeLazyImpl<?> lazyNode) {
+            synchronized (lazyNode.listenedTypes) {
+                lazyNode.registered = false;
+            }
+            final Cleaner.Cleanable cleanable = lazyNode.cleanable;
+            if (cleanable != null) cleanable.clean();
+        }
+    }
+
+    /**
+     * Updates the listened state of a mapped node after one of its handles got invalidated.
+     * <p>
+     * Must be called while holding {@link EventNodeImpl#GLOBAL_CHILD_LOCK}.
+     */
+    void update(@NotNull EventNodeLazyImpl<?> node, @NotNull Class<?> eventClass) {
+        assert Thread.holdsLock(EventNodeImpl.GLOBAL_CHILD_LOCK);
+        EventNodeImpl.forTargetEvents(eventClass, type -> {
+            final boolean listens = node.hasStructuralListener(type);
+            final Set<Class<?>> listenedTypes = node.listenedTypes;
+            final int value;
+            synchronized (listenedTypes) {
+                if (!node.registered) return; // Unmapped concurrently
+                final boolean changed = listens ? listenedTypes.add(type) : listenedTypes.remove(type);
+                if (!changed) return;
+                final AtomicInteger count = listening.computeIfAbsent(type, t -> new AtomicInteger());
+                value = listens ? count.incrementAndGet() : count.decrementAndGet();
+            }
+            if ((listens && value == 1) || (!listens && value == 0)) invalidateHolder(type);
+        });
+    }
+
+    /**
+     * Gets if at least one registered mapped node listens to {@code type}.
+     */
+    boolean listens(@NotNull Class<?> type) {
+        final boolean[] result = {false};
+        EventNodeImpl.forTargetEvents(type, target -> {
+            final AtomicInteger count = listening.get(target);
+            if (count != null && count.get() > 0) result[0] = true;
+        });
+        return result[0];
+    }
+
+    /**
+     * Creates the consumer forwarding events to the mapped nodes.
+     *
+     * @return the consumer, or null if no mapped node listens to the event type
+     */
+    <E extends Event> @Nullable Consumer<E> consumer(@NotNull Class<E> eventType) {
+        if (!listens(eventType)) return null;
+        final EventFilter<E, ?>[] applicable = filters.stream()
+                .filter(filter -> filter.eventType().isAssignableFrom(eventType))
+                .toArray(EventFilter[]::new);
+        return switch (applicable.length) {
+            case 0 -> null;
+            case 1 -> {
+                final EventFilter<E, ?> filter = applicable[0];
+                yield event -> forward(filter, eventType, event);
+            }
+            default -> event -> {
+                for (EventFilter<E, ?> filter : applicable) forward(filter, eventType, event);
+            };
+        };
+    }
+
+    private <E extends Event> void forward(EventFilter<E, ?> filter, Class<E> eventType, E event) {
+        final Object handler = filter.getHandler(event);
+        if (handler == null) return;
+        final EventNodeImpl node = nodes.get(handler);
+        // The filter check prevents calling a node twice when multiple filters return the same handler
+        if (node != null && node.filter == filter) node.getHandle(eventType).call(event);
+    }
+
+    private void release(Set<Class<?>> listenedTypes) {
+        List<Class<?>> unlistened = new ArrayList<>();
+        synchronized (listenedTypes) {
+            for (Class<?> type : listenedTypes) {
+                final AtomicInteger count = listening.get(type);
+                if (count != null && count.decrementAndGet() == 0) unlistened.add(type);
+            }
+            listenedTypes.clear();
+        }
+        // Invalidate outside the set lock, update() acquires them in the opposite order
+        if (unlistened.isEmpty()) return;
+        synchronized (EventNodeImpl.GLOBAL_CHILD_LOCK) {
+            for (Class<?> type : unlistened) invalidateHolder(type);
+        }
+    }
+
+    private void invalidateHolder(Class<?> type) {
+        ((EventNodeImpl) holder).invalidateEvent(type);
+    }
+}
@@ -3,8 +3,10 @@ package net.minestom.server.extras;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.extras.mojangAuth.MojangSessionService;
 import net.minestom.server.extras.velocity.VelocityProxy;
 import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.security.KeyPair;
@@ -13,6 +15,7 @@ public final class MojangAuth {
     public static final String AUTH_URL = ServerFlag.AUTH_URL.concat("?username=%s&serverId=%s");
     private static volatile boolean enabled = false;
     private static volatile KeyPair keyPair;
+    private static volatile MojangSessionService sessionService;
 
     /**
      * Enables mojang authentication on the server.
@@ -36,4 +39,29 @@ public final class MojangAuth {
     public static @Nullable KeyPair getKeyPair() {
         return keyPair;
     }
+
+    /**
+     * Gets the service used to verify logins with the session server.
+     *
+     * @return the session service
+     */
+    public static @NotNull MojangSessionService getSessionService() {
+        MojangSessionService service = sessionService;
+        if (service == null) {
+            synchronized (MojangAuth.class) {
+                service = sessionService;
+                if (service == null) sessionService = service = new MojangSessionService();
+            }
+        }
+        return service;
+    }
+
+    /**
+     * Changes the service used to verify logins, for example to use another session server.
+     *
+     * @param sessionService the new session service
+     */
+    public static void setSessionService(@NotNull MojangSessionService sessionService) {
+        MojangAuth.sessionService = sessionService;
+    }
 }
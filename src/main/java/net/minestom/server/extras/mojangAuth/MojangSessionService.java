@@ -0,0 +1,230 @@
+package net.minestom.server.extras.mojangAuth;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.extras.MojangAuth;
+import net.minestom.server.network.player.GameProfile;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verifies that players joined through the session server, shared by all logins.
+ * <p>
+ * All requests go through a single {@link HttpClient}, at most {@code maxConcurrentRequests} at once,
+ * the others being queued. Lookups are cached by username and server id for a short time, so retries of the same
+ * login do not query the session server again. The server id is derived from the login shared secret,
+ * a cached profile is therefore never used for another login.
+ */
+public final class MojangSessionService {
+    private static final Gson GSON = new Gson();
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final String urlFormat;
+    private final int maxConcurrentRequests;
+    private final HttpClient client;
+    private final AsyncCache<Key, GameProfile> cache;
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
+    private final StageTimer decryption = new StageTimer();
+    private final StageTimer queueing = new StageTimer();
+    private final StageTimer request = new StageTimer();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Creates a session service.
+     *
+     * @param urlFormat             the verification url, formatted with the username and the server id
+     * @param maxConcurrentRequests the maximum number of requests in flight
+     * @param cacheDuration         how long successful lookups are kept
+     */
+    public MojangSessionService(@NotNull String urlFormat, int maxConcurrentRequests, @NotNull Duration cacheDuration) {
+        if (maxConcurrentRequests <= 0)
+            throw new IllegalArgumentException("Invalid max concurrent requests: " + maxConcurrentRequests);
+        this.urlFormat = urlFormat;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+        this.cache = Caffeine.newBuilder().expireAfterWrite(cacheDuration).buildAsync();
+    }
+
+    /**
+     * Creates a session service using the configured session server.
+     *
+     * @see ServerFlag#AUTH_URL
+     */
+    public MojangSessionService() {
+        this(MojangAuth.AUTH_URL, ServerFlag.AUTH_MAX_CONCURRENT_REQUESTS,
+                Duration.ofMillis(ServerFlag.AUTH_CACHE_DURATION));
+    }
+
+    /**
+     * Asks the session server whether a player joined.
+     *
+     * @param username the username sent by the client
+     * @param serverId the server id hash computed from the login shared secret
+     * @return the profile of the player, null if the session server did not confirm the login
+     */
+    public @NotNull CompletableFuture<@Nullable GameProfile> hasJoined(@NotNull String username, @NotNull String serverId) {
+        final Key key = new Key(username, serverId);
+        final CompletableFuture<GameProfile> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        // Lookups completing with null or exceptionally are not kept by the cache
+        return cache.get(key, (k, executor) -> enqueue(k));
+    }
+
+    /**
+     * Records the time spent decrypting the login shared secret.
+     */
+    @ApiStatus.Internal
+    public void recordDecryption(long nanos) {
+        this.decryption.record(nanos);
+    }
+
+    public @NotNull Metrics metrics() {
+        return new Metrics(decryption.snapshot(), queueing.snapshot(), request.snapshot(),
+                cacheHits.sum(), failures.sum(), activeRequests.get(), queue.size());
+    }
+
+    private CompletableFuture<GameProfile> enqueue(Key key) {
+        CompletableFuture<GameProfile> future = new CompletableFuture<>();
+        final long queuedAt = System.nanoTime();
+        this.queue.offer(() -> {
+            this.queueing.record(System.nanoTime() - queuedAt);
+            final CompletableFuture<GameProfile> request;
+            try {
+                request = send(key);
+            } catch (RuntimeException e) {
+                // Invalid request (e.g. malformed url), the draining loop continues with the released slot
+                complete(future, null, e);
+                return;
+            }
+            request.whenComplete((profile, throwable) -> {
+                complete(future, profile, throwable);
+                drain();
+            });
+        });
+        drain();
+        return future;
+    }
+
+    private void complete(CompletableFuture<GameProfile> future, GameProfile profile, Throwable throwable) {
+        this.activeRequests.decrementAndGet();
+        if (throwable != null || profile == null) failures.increment();
+        if (throwable != null) future.completeExceptionally(throwable);
+        else future.complete(profile);
+    }
+
+    private void drain() {
+        while (!queue.isEmpty()) {
+            final int active = activeRequests.get();
+            if (active >= maxConcurrentRequests) return;
+            if (!activeRequests.compareAndSet(active, active + 1)) continue;
+            final Runnable task = queue.poll();
+            if (task == null) {
+                // Another thread took it
+                this.activeRequests.decrementAndGet();
+                continue;
+            }
+            task.run();
+        }
+    }
+
+    private CompletableFuture<GameProfile> send(Key key) {
+        final String url = String.format(urlFormat,
+                URLEncoder.encode(key.username(), StandardCharsets.UTF_8), key.serverId());
+        // TODO: Add ability to add ip query tag. See: https://wiki.vg/Protocol_Encryption#Authentication
+        final HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT).GET().build();
+        final long start = System.nanoTime();
+        return client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            this.request.record(System.nanoTime() - start);
+            final String body = response.body();
+            if (response.statusCode() != 200 || body == null || body.isEmpty()) return null;
+            return parseProfile(body);
+        });
+    }
+
+    static @NotNull GameProfile parseProfile(@NotNull String body) {
+        final JsonObject gameProfile = GSON.fromJson(body, JsonObject.class);
+        final UUID uuid = UUID.fromString(gameProfile.get("id").getAsString()
+                .replaceFirst("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})", "$1-$2-$3-$4-$5"));
+        final String name = gameProfile.get("name").getAsString();
+        List<GameProfile.Property> properties = new ArrayList<>();
+        final JsonElement propertiesElement = gameProfile.get("properties");
+        if (propertiesElement != null) {
+            for (JsonElement element : propertiesElement.getAsJsonArray()) {
+                final JsonObject object = element.getAsJsonObject();
+                final JsonElement signature = object.get("signature");
+                properties.add(new GameProfile.Property(object.get("name").getAsString(), object.get("value").getAsString(),
+                        signature != null ? signature.getAsString() : null));
+            }
+        }
+        return new GameProfile(uuid, name, properties);
+    }
+
+    /**
+     * @param decryption     the time spent decrypting shared secrets
+     * @param queueing       the time requests waited for a free slot
+     * @param request        the time spent waiting for the session server
+     * @param cacheHits      the number of lookups answered by the cache
+     * @param failures       the number of lookups that failed or were not confirmed
+     * @param activeRequests the number of requests in flight
+     * @param queuedRequests the number of requests waiting for a free slot
+     */
+    public record Metrics(@NotNull Stage decryption, @NotNull Stage queueing, @NotNull Stage request,
+                          long cacheHits, long failures, int activeRequests, int queuedRequests) {
+    }
+
+    /**
+     * @param count      the number of recorded operations
+     * @param totalNanos the total duration of the operations
+     * @param maxNanos   the duration of the longest operation
+     */
+    public record Stage(long count, long totalNanos, long maxNanos) {
+        public long averageNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+    }
+
+    private record Key(String username, String serverId) {
+    }
+
+    private static final class StageTimer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos) {
+            this.count.increment();
+            this.total.add(nanos);
+            this.max.accumulateAndGet(nanos, Math::max);
+        }
+
+        Stage snapshot() {
+            return new Stage(count.sum(), total.sum(), max.get());
+        }
+    }
+}
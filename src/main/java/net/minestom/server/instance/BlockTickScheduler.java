@@ -0,0 +1,96 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+
+/**
+ * Schedules the ticks of the tickable blocks of a chunk.
+ * <p>
+ * Blocks are ticked once their delay expired, sleeping blocks are skipped until woken.
+ * Entries are keyed by {@link net.minestom.server.utils.chunk.ChunkUtils#getBlockIndex(int, int, int)},
+ * the queue stores the due tick in the high bits and the block index in the low bits.
+ */
+final class BlockTickScheduler {
+    static final long NONE = -1;
+    private static final int SLEEPING = Integer.MAX_VALUE;
+
+    private final Int2IntOpenHashMap scheduled = new Int2IntOpenHashMap(0);
+    private final LongHeapPriorityQueue queue = new LongHeapPriorityQueue(0);
+    private int tick;
+    private volatile int sleeping;
+
+    BlockTickScheduler() {
+        this.scheduled.defaultReturnValue(-1);
+    }
+
+    /**
+     * Ticks the block at the given index after a delay, replacing its previous schedule.
+     *
+     * @param index the block index
+     * @param delay the number of ticks to wait, 0 to sleep until woken
+     */
+    synchronized void schedule(int index, int delay) {
+        delay = Math.min(delay, SLEEPING - 1 - tick);
+        final int previous = delay > 0 ? scheduled.put(index, tick + delay) : scheduled.put(index, SLEEPING);
+        if (previous == SLEEPING) sleeping--;
+        if (delay > 0) queue.enqueue(((long) (tick + delay) << 32) | (index & 0xFFFFFFFFL));
+        else sleeping++;
+    }
+
+    /**
+     * Schedules the block again after it has been ticked, unless it has been rescheduled or removed meanwhile.
+     */
+    synchronized void reschedule(int index, int delay) {
+        if (scheduled.containsKey(index)) return;
+        schedule(index, delay);
+    }
+
+    synchronized void remove(int index) {
+        if (scheduled.remove(index) == SLEEPING) sleeping--;
+    }
+
+    /**
+     * Ticks a sleeping block on the next tick.
+     *
+     * @return true if the block was sleeping
+     */
+    synchronized boolean wake(int index) {
+        if (scheduled.get(index) != SLEEPING) return false;
+        schedule(index, 1);
+        return true;
+    }
+
+    boolean hasSleeping() {
+        return sleeping > 0;
+    }
+
+    synchronized void clear() {
+        this.scheduled.clear();
+        this.queue.clear();
+        this.sleeping = 0;
+    }
+
+    synchronized void advance() {
+        this.tick++;
+    }
+
+    /**
+     * Takes the next block due this tick.
+     *
+     * @return the index of the block, or {@link #NONE}
+     */
+    synchronized long poll() {
+        while (!queue.isEmpty()) {
+            final long entry = queue.firstLong();
+            final int due = (int) (entry >>> 32);
+            if (due > tick) return NONE;
+            queue.dequeueLong();
+            final int index = (int) entry;
+            // Stale entry, the block has been rescheduled or removed
+            if (scheduled.get(index) != due) continue;
+            scheduled.remove(index);
+            return index & 0xFFFFFFFFL;
+        }
+        return NONE;
+    }
+}
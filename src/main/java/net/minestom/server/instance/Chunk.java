@@ -26,6 +26,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 // TODO light data & API
 
@@ -56,6 +57,8 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     private boolean readOnly;
 
     protected volatile boolean loaded = true;
+    // Modified since last saved or loaded
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
     private final Viewable viewable;
 
     // Data
@@ -133,6 +136,38 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
      */
     public abstract long getLastChangeTime();
 
+    /**
+     * Gets if this chunk has been modified since it was last saved or loaded from its {@link IChunkLoader}.
+     * <p>
+     * Blocks, biomes and light mark the chunk as modified, changes to the chunk tags
+     * need to call {@link #markDirty()}.
+     *
+     * @return true if the chunk needs to be saved
+     */
+    public boolean isDirty() {
+        return dirty.get();
+    }
+
+    /**
+     * Marks this chunk as modified, to be written by the next save of its instance.
+     */
+    public void markDirty() {
+        // Avoid the write when already dirty, most changes happen to dirty chunks
+        if (!dirty.get()) dirty.set(true);
+    }
+
+    /**
+     * Marks this chunk as saved.
+     * <p>
+     * Must be called before the chunk is encoded, changes made afterward will mark it as modified again.
+     *
+     * @return true if the chunk was modified
+     */
+    @ApiStatus.Internal
+    public boolean clearDirty() {
+        return dirty.getAndSet(false);
+    }
+
     /**
      * Sends the chunk data to {@code player}.
      *
@@ -161,6 +196,19 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
      */
     public abstract @NotNull Chunk copy(@NotNull Instance instance, int chunkX, int chunkZ);
 
+    /**
+     * Creates a copy of this chunk to be read by another thread, used to save the chunk without holding its lock.
+     * <p>
+     * Unlike {@link #copy(Instance, int, int)}, the copy must not delay any work to the next writes of this chunk.
+     * The chunk lock must be held.
+     *
+     * @return a copy of this chunk at the same position
+     */
+    @ApiStatus.Internal
+    public @NotNull Chunk snapshot() {
+        return copy(instance, chunkX, chunkZ);
+    }
+
     /**
      * Resets the chunk, this means clearing all the data making it empty.
      */
@@ -1,12 +1,16 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.kyori.adventure.nbt.LongArrayBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityPhysicsStage;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
@@ -28,6 +32,7 @@ import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.DimensionType;
 import net.minestom.server.world.biome.Biome;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -44,6 +49,7 @@ import static net.minestom.server.utils.chunk.ChunkUtils.toSectionRelativeCoordi
  */
 public class DynamicChunk extends Chunk {
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamicChunk.class);
+    private static final int[] NEIGHBOURS = {-1, 0, 0, 1, 0, 0, 0, -1, 0, 0, 1, 0, 0, 0, -1, 0, 0, 1};
 
     protected List<Section> sections;
 
@@ -55,6 +61,9 @@ public class DynamicChunk extends Chunk {
     // Key = ChunkUtils#getBlockIndex
     protected final Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
+    private final BlockTickScheduler blockTicks = new BlockTickScheduler();
+    private BlockHandler.Tick blockTick; // Reused for every tickable block
+    private int tickingIndex = -1; // Block being ticked, guarded by the chunk lock
 
     private long lastChange;
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
@@ -105,10 +114,16 @@ public class DynamicChunk extends Chunk {
         }
         // Block tick
         if (handler != null && handler.isTickable()) {
-            this.tickableMap.put(index, block);
-        } else {
-            this.tickableMap.remove(index);
+            final Block previous = this.tickableMap.put(index, block);
+            // Replaced by its own handler during its tick, the handler still decides when it ticks again
+            if (index != tickingIndex || previous == null || previous.handler() != handler) {
+                this.blockTicks.schedule(index, 1);
+            }
+        } else if (this.tickableMap.remove(index) != null) {
+            this.blockTicks.remove(index);
         }
+        // Wake sleeping neighbours
+        wakeNeighbours(x, y, z);
 
         // Update block handlers
         var blockPosition = new Vec(x, y, z);
@@ -128,6 +143,7 @@ public class DynamicChunk extends Chunk {
         if (needsCompleteHeightmapRefresh) calculateFullHeightmap();
         motionBlocking.refresh(sectionRelativeX, y, sectionRelativeZ, block);
         worldSurface.refresh(sectionRelativeX, y, sectionRelativeZ, block);
+        markDirty();
     }
 
     @Override
@@ -143,6 +159,7 @@ public class DynamicChunk extends Chunk {
                 toSectionRelativeCoordinate(x) / 4,
                 toSectionRelativeCoordinate(y) / 4,
                 toSectionRelativeCoordinate(z) / 4, id);
+        markDirty();
     }
 
     @Override
@@ -178,15 +195,78 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public void tick(long time) {
+        if (ServerFlag.ENTITY_BATCHED_PHYSICS) EntityPhysicsStage.tick(instance, this);
         if (tickableMap.isEmpty()) return;
-        tickableMap.int2ObjectEntrySet().fastForEach(entry -> {
-            final int index = entry.getIntKey();
-            final Block block = entry.getValue();
+        blockTicks.advance();
+        BlockHandler.Tick tick = this.blockTick;
+        if (tick == null) this.blockTick = tick = new BlockHandler.Tick(instance);
+        long next;
+        while ((next = blockTicks.poll()) != BlockTickScheduler.NONE) {
+            final int index = (int) next;
+            final Block block;
+            synchronized (this) {
+                block = tickableMap.get(index);
+                if (block == null || block.handler() == null) continue;
+                this.tickingIndex = index;
+            }
             final BlockHandler handler = block.handler();
-            if (handler == null) return;
-            final Point blockPosition = ChunkUtils.getBlockPosition(index, chunkX, chunkZ);
-            handler.tick(new BlockHandler.Tick(block, instance, blockPosition));
-        });
+            tick.reset(block,
+                    ChunkUtils.blockIndexToChunkPositionX(index) + CHUNK_SIZE_X * chunkX,
+                    ChunkUtils.blockIndexToChunkPositionY(index),
+                    ChunkUtils.blockIndexToChunkPositionZ(index) + CHUNK_SIZE_Z * chunkZ);
+            try {
+                handler.tick(tick);
+            } finally {
+                synchronized (this) {
+                    this.tickingIndex = -1;
+                    // The block may have been replaced during its tick, by another state using the same handler
+                    final Block current = tickableMap.get(index);
+                    if (current != null && current.handler() == handler) {
+                        blockTicks.reschedule(index, tick.getDelay());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Ticks a sleeping block on the next tick.
+     * <p>
+     * Sleeping blocks are woken automatically when a neighbour block changes.
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return true if the block was sleeping
+     * @see BlockHandler.Tick#sleep()
+     */
+    public boolean wakeBlock(int x, int y, int z) {
+        return blockTicks.wake(ChunkUtils.getBlockIndex(x, y, z));
+    }
+
+    /**
+     * Gets the blocks with a handler or nbt, the chunk lock must be held while iterating.
+     *
+     * @return the blocks keyed by {@link ChunkUtils#getBlockIndex(int, int, int)}
+     */
+    @ApiStatus.Internal
+    public @NotNull Int2ObjectMap<Block> blockEntities() {
+        assertLock();
+        return Int2ObjectMaps.unmodifiable(entries);
+    }
+
+    private void wakeNeighbours(int x, int y, int z) {
+        for (int i = 0; i < NEIGHBOURS.length; i += 3) {
+            final int neighbourX = x + NEIGHBOURS[i], neighbourY = y + NEIGHBOURS[i + 1], neighbourZ = z + NEIGHBOURS[i + 2];
+            final int neighbourChunkX = ChunkUtils.getChunkCoordinate(neighbourX);
+            final int neighbourChunkZ = ChunkUtils.getChunkCoordinate(neighbourZ);
+            if (neighbourChunkX == chunkX && neighbourChunkZ == chunkZ) {
+                if (blockTicks.hasSleeping()) wakeBlock(neighbourX, neighbourY, neighbourZ);
+            } else if (instance.getChunk(neighbourChunkX, neighbourChunkZ) instanceof DynamicChunk neighbour
+                    && neighbour.blockTicks.hasSleeping()) {
+                neighbour.wakeBlock(neighbourX, neighbourY, neighbourZ);
+            }
+        }
     }
 
     @Override
@@ -235,7 +315,21 @@ public class DynamicChunk extends Chunk {
     @Override
     public @NotNull Chunk copy(@NotNull Instance instance, int chunkX, int chunkZ) {
         DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ);
-        dynamicChunk.sections = sections.stream().map(Section::clone).toList();
+        // Sections are only copied on their first write
+        dynamicChunk.sections = sections.stream().map(Section::copyOnWrite).toList();
+        dynamicChunk.entries.putAll(entries);
+        if (chunkX == this.chunkX && chunkZ == this.chunkZ) {
+            // The encoded data is the same until either chunk changes
+            dynamicChunk.chunkCache.share(chunkCache);
+        }
+        return dynamicChunk;
+    }
+
+    @Override
+    public @NotNull Chunk snapshot() {
+        DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ);
+        // Copied now, sharing the palettes would mark the sections of this chunk as shared
+        dynamicChunk.sections = sections.stream().map(Section::snapshot).toList();
         dynamicChunk.entries.putAll(entries);
         return dynamicChunk;
     }
@@ -244,6 +338,8 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        this.tickableMap.clear();
+        this.blockTicks.clear();
     }
 
     @Override
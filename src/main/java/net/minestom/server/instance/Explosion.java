@@ -5,12 +5,16 @@ import net.minestom.server.instance.block.Block;
 import net.minestom.server.network.packet.server.play.ExplosionPacket;
 import net.minestom.server.utils.PacketUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
 /**
  * Abstract explosion.
  * Instance can provide a supplier through {@link Instance#setExplosionSupplier}
+ * <p>
+ * Explosions can be queued with {@link Instance#queueExplosion(Explosion)} to be applied in batches,
+ * the affected blocks being computed off the tick thread when {@link #computeBlocks(Block.Getter)} is implemented.
  */
 public abstract class Explosion {
 
@@ -50,17 +54,48 @@ public abstract class Explosion {
      */
     protected abstract List<Point> prepare(Instance instance);
 
+    /**
+     * Computes the list of blocks that will be broken, without modifying the instance or its entities.
+     * <p>
+     * Called off the tick thread when the explosion is queued, concurrently with other explosions.
+     * Returns null by default, in which case {@link #prepare(Instance)} is called on the tick thread instead.
+     * Queued explosions not overriding this method are not dispatched off the tick thread.
+     *
+     * @param blocks the blocks of the instance to perform this explosion in
+     * @return list of blocks that will be broken, null to use {@link #prepare(Instance)}
+     */
+    protected @Nullable List<Point> computeBlocks(@NotNull Block.Getter blocks) {
+        return null;
+    }
+
+    /**
+     * Pushes and damages entities affected by this explosion, once the blocks have been computed
+     * by {@link #computeBlocks(Block.Getter)}.
+     *
+     * @param instance instance to perform this explosion in
+     * @param blocks   the block positions returned by computeBlocks
+     */
+    protected void affectEntities(@NotNull Instance instance, @NotNull List<Point> blocks) {
+    }
+
     /**
      * Performs the explosion and send the corresponding packet
+     * <p>
+     * When the instance has no shared instances, the blocks are removed without block change packets,
+     * the {@link ExplosionPacket} sent to the players of the instance removes them client-side.
+     * Viewers that do not receive the packet (e.g. if {@link #postExplosion(Instance, List, ExplosionPacket)} modifies
+     * its records, or if it is filtered) keep seeing the removed blocks until their chunk is resent.
      *
      * @param instance instance to perform this explosion in
      */
     public void apply(@NotNull Instance instance) {
-        List<Point> blocks = prepare(instance);
+        apply(instance, prepare(instance));
+    }
+
+    void apply(@NotNull Instance instance, @NotNull List<Point> blocks) {
         byte[] records = new byte[3 * blocks.size()];
         for (int i = 0; i < blocks.size(); i++) {
             final var pos = blocks.get(i);
-            instance.setBlock(pos, Block.AIR);
             final byte x = (byte) (pos.x() - Math.floor(getCenterX()));
             final byte y = (byte) (pos.y() - Math.floor(getCenterY()));
             final byte z = (byte) (pos.z() - Math.floor(getCenterZ()));
@@ -68,6 +103,7 @@ public abstract class Explosion {
             records[i * 3 + 1] = y;
             records[i * 3 + 2] = z;
         }
+        removeBlocks(instance, blocks);
 
         // TODO send only to close players
         ExplosionPacket packet = new ExplosionPacket(centerX, centerY, centerZ, strength,
@@ -78,6 +114,16 @@ public abstract class Explosion {
         postSend(instance, blocks);
     }
 
+    private static void removeBlocks(@NotNull Instance instance, @NotNull List<Point> blocks) {
+        if (instance instanceof InstanceContainer container && !container.hasSharedInstances()) {
+            // The explosion packet removes the blocks client-side, no need for block change packets
+            container.removeBlocks(blocks, true);
+        } else {
+            // Players of shared instances do not receive the explosion packet
+            for (Point pos : blocks) instance.setBlock(pos, Block.AIR);
+        }
+    }
+
     /**
      * Called after removing blocks and preparing the packet, but before sending it.
      *
@@ -0,0 +1,95 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.block.Block;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Explosions waiting to be applied in an instance.
+ * <p>
+ * At most {@link ServerFlag#EXPLOSIONS_PER_TICK} explosions are applied each tick, explosions queued while applying
+ * others (e.g. chain reactions) wait for the next tick. The affected blocks of a tick are computed in parallel
+ * for the explosions implementing {@link Explosion#computeBlocks(Block.Getter)}, then applied on the tick thread.
+ */
+final class ExplosionQueue {
+    // Whether an explosion type overrides Explosion#computeBlocks, others are prepared inline on the tick thread
+    private static final ClassValue<Boolean> COMPUTES_BLOCKS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(@NotNull Class<?> type) {
+            for (Class<?> current = type; current != Explosion.class; current = current.getSuperclass()) {
+                try {
+                    current.getDeclaredMethod("computeBlocks", Block.Getter.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // Check the superclass
+                }
+            }
+            return false;
+        }
+    };
+
+    private final Instance instance;
+    private final MessagePassingQueue<Entry> queue = new MpscUnboundedArrayQueue<>(64);
+
+    ExplosionQueue(@NotNull Instance instance) {
+        this.instance = instance;
+    }
+
+    @NotNull CompletableFuture<Void> submit(@NotNull Explosion explosion) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        this.queue.relaxedOffer(new Entry(explosion, future));
+        return future;
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    void tick() {
+        final int count = Math.min(queue.size(), ServerFlag.EXPLOSIONS_PER_TICK);
+        if (count <= 0) return;
+        List<Entry> entries = new ArrayList<>(count);
+        queue.drain(entries::add, count);
+
+        // Compute the affected blocks before modifying the instance
+        List<CompletableFuture<List<Point>>> computations = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            final Explosion explosion = entry.explosion();
+            computations.add(computesBlocks(explosion) ?
+                    CompletableFuture.supplyAsync(() -> explosion.computeBlocks(instance)) : null);
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            final Entry entry = entries.get(i);
+            final Explosion explosion = entry.explosion();
+            try {
+                final CompletableFuture<List<Point>> computation = computations.get(i);
+                List<Point> blocks = computation != null ? computation.join() : null;
+                if (blocks != null) {
+                    explosion.affectEntities(instance, blocks);
+                } else {
+                    blocks = explosion.prepare(instance);
+                }
+                explosion.apply(instance, blocks);
+                entry.future().complete(null);
+            } catch (Throwable t) {
+                MinecraftServer.getExceptionManager().handleException(t);
+                entry.future().completeExceptionally(t);
+            }
+        }
+    }
+
+    static boolean computesBlocks(@NotNull Explosion explosion) {
+        return COMPUTES_BLOCKS.get(explosion.getClass());
+    }
+
+    private record Entry(Explosion explosion, CompletableFuture<Void> future) {
+    }
+}
@@ -6,11 +6,13 @@ import net.minestom.server.utils.async.AsyncUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Interface implemented to change the way chunks are loaded/saved.
@@ -62,31 +64,26 @@ public interface IChunkLoader {
      * @param chunks the chunks to save
      * @return a {@link CompletableFuture} executed when the {@link Chunk} is done saving,
      * should be called even if the saving failed (you can throw an exception).
+     * Completes exceptionally if any chunk failed to save.
      */
     default @NotNull CompletableFuture<Void> saveChunks(@NotNull Collection<Chunk> chunks) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks.size());
         if (supportsParallelSaving()) {
             ExecutorService parallelSavingThreadPool = ForkJoinPool.commonPool();
-            chunks.forEach(c -> parallelSavingThreadPool.execute(() -> saveChunk(c)));
+            for (Chunk chunk : chunks) {
+                futures.add(CompletableFuture.supplyAsync(() -> saveChunk(chunk), parallelSavingThreadPool)
+                        .thenCompose(Function.identity()));
+            }
             try {
                 parallelSavingThreadPool.shutdown();
                 parallelSavingThreadPool.awaitTermination(1L, java.util.concurrent.TimeUnit.DAYS);
             } catch (InterruptedException e) {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
-            return AsyncUtils.VOID_FUTURE;
         } else {
-            CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-            AtomicInteger counter = new AtomicInteger();
-            for (Chunk chunk : chunks) {
-                saveChunk(chunk).whenComplete((unused, throwable) -> {
-                    final boolean isLast = counter.incrementAndGet() == chunks.size();
-                    if (isLast) {
-                        completableFuture.complete(null);
-                    }
-                });
-            }
-            return completableFuture;
+            for (Chunk chunk : chunks) futures.add(saveChunk(chunk));
         }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
     }
 
     /**
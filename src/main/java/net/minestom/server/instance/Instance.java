@@ -108,6 +108,7 @@ public abstract class Instance implements Block.Getter, Block.Setter,
 
     // the explosion supplier
     private ExplosionSupplier explosionSupplier;
+    private final ExplosionQueue explosionQueue = new ExplosionQueue(this);
 
     // Adventure
     private final Pointers pointers;
@@ -753,6 +754,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     public void tick(long time) {
         // Scheduled tasks
         this.scheduler.processTick();
+        // Queued explosions
+        this.explosionQueue.tick();
         // Time
         {
             this.worldAge++;
@@ -774,7 +777,9 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         // Tick event
         {
             // Process tick events
-            EventDispatcher.call(new InstanceTickEvent(this, time, lastTickAge));
+            if (EventDispatcher.hasListener(InstanceTickEvent.class)) {
+                EventDispatcher.call(new InstanceTickEvent(this, time, lastTickAge));
+            }
             // Set last tick age
             this.lastTickAge = time;
         }
@@ -893,6 +898,51 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         explosion.apply(this);
     }
 
+    /**
+     * Queues an explosion at the given position with the given strength, to be applied during a next tick.
+     * The algorithm used to compute damages is provided by {@link #getExplosionSupplier()}.
+     *
+     * @param centerX        center X of the explosion
+     * @param centerY        center Y of the explosion
+     * @param centerZ        center Z of the explosion
+     * @param strength       the strength of the explosion
+     * @param additionalData data to pass to the explosion supplier
+     * @return a future completed once the explosion has been applied
+     * @throws IllegalStateException If no {@link ExplosionSupplier} was supplied
+     * @see #queueExplosion(Explosion)
+     */
+    public @NotNull CompletableFuture<Void> queueExplosion(float centerX, float centerY, float centerZ, float strength,
+                                                           @Nullable CompoundBinaryTag additionalData) {
+        final ExplosionSupplier explosionSupplier = getExplosionSupplier();
+        Check.stateCondition(explosionSupplier == null, "Tried to create an explosion with no explosion supplier");
+        return queueExplosion(explosionSupplier.createExplosion(centerX, centerY, centerZ, strength, additionalData));
+    }
+
+    /**
+     * Queues an explosion to be applied during a next tick.
+     * <p>
+     * Unlike {@link Explosion#apply(Instance)}, queued explosions are applied in batches at the start of the tick,
+     * at most {@link ServerFlag#EXPLOSIONS_PER_TICK} per tick. Explosions queued while applying others,
+     * such as chain reactions, are delayed to the next tick.
+     *
+     * @param explosion the explosion to apply
+     * @return a future completed once the explosion has been applied
+     */
+    @ApiStatus.Experimental
+    public @NotNull CompletableFuture<Void> queueExplosion(@NotNull Explosion explosion) {
+        return explosionQueue.submit(explosion);
+    }
+
+    /**
+     * Gets the number of explosions waiting to be applied.
+     *
+     * @return the number of queued explosions
+     */
+    @ApiStatus.Experimental
+    public int getQueuedExplosionCount() {
+        return explosionQueue.size();
+    }
+
     /**
      * Gets the registered {@link ExplosionSupplier}, or null if none was provided.
      *
@@ -1,8 +1,13 @@
 package net.minestom.server.instance;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.IntArraySet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
@@ -89,6 +94,11 @@ public class InstanceContainer extends Instance {
     protected InstanceContainer srcInstance; // only present if this instance has been created using a copy
     private long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
 
+    // Incremental autosave, only accessed by the instance tick
+    private volatile int autosaveInterval; // 0 = disabled
+    private int autosaveTicks;
+    private final ArrayDeque<Chunk> autosaveQueue = new ArrayDeque<>();
+
     public InstanceContainer(@NotNull UUID uniqueId, @NotNull DynamicRegistry.Key<DimensionType> dimensionType) {
         this(uniqueId, dimensionType, null, dimensionType.namespace());
     }
@@ -248,6 +258,57 @@ public class InstanceContainer extends Instance {
         return allowed;
     }
 
+    /**
+     * Replaces blocks by air in a single pass.
+     * <p>
+     * Blocks are grouped by chunk and applied section by section, lighting is invalidated once per section.
+     * No block change packet is sent, viewers are expected to remove the blocks themselves (e.g. from an explosion packet).
+     *
+     * @param blocks         the positions of the blocks to remove
+     * @param doBlockUpdates true to update the neighbours of the removed blocks
+     */
+    synchronized void removeBlocks(@NotNull Collection<? extends Point> blocks, boolean doBlockUpdates) {
+        if (blocks.isEmpty()) return;
+        final DimensionType dim = getCachedDimensionType();
+        Long2ObjectMap<List<Point>> chunkBlocks = new Long2ObjectOpenHashMap<>();
+        for (Point block : blocks) {
+            if (block.blockY() >= dim.maxY() || block.blockY() < dim.minY()) continue;
+            chunkBlocks.computeIfAbsent(getChunkIndex(block), index -> new ArrayList<>()).add(block);
+        }
+        this.lastBlockChangeTime = System.currentTimeMillis();
+        for (Long2ObjectMap.Entry<List<Point>> entry : chunkBlocks.long2ObjectEntrySet()) {
+            final long index = entry.getLongKey();
+            final Chunk chunk = getChunk(getChunkCoordX(index), getChunkCoordZ(index));
+            if (!isLoaded(chunk) || chunk.isReadOnly()) continue;
+            final List<Point> positions = entry.getValue();
+            positions.sort(Comparator.comparingInt(Point::blockY));
+            synchronized (chunk) {
+                if (!(chunk instanceof LightingChunk lightingChunk) || lightingChunk.isFreezeInvalidation()) {
+                    for (Point position : positions) {
+                        chunk.setBlock(position.blockX(), position.blockY(), position.blockZ(), Block.AIR);
+                    }
+                    continue;
+                }
+                // Relight each section once instead of once per block
+                IntSet sections = new IntArraySet();
+                lightingChunk.setFreezeInvalidation(true);
+                try {
+                    for (Point position : positions) {
+                        chunk.setBlock(position.blockX(), position.blockY(), position.blockZ(), Block.AIR);
+                        sections.add(getChunkCoordinate(position.blockY()));
+                    }
+                } finally {
+                    lightingChunk.setFreezeInvalidation(false);
+                }
+                sections.forEach(lightingChunk::invalidateNeighborsSection);
+                lightingChunk.invalidateResendDelay();
+            }
+        }
+        if (doBlockUpdates) {
+            for (Point block : blocks) executeNeighboursBlockPlacementRule(block, 0);
+        }
+    }
+
     @Override
     public @NotNull CompletableFuture<Chunk> loadChunk(int chunkX, int chunkZ) {
         return loadOrRetrieve(chunkX, chunkZ, () -> retrieveChunk(chunkX, chunkZ));
@@ -287,12 +348,61 @@ public class InstanceContainer extends Instance {
 
     @Override
     public @NotNull CompletableFuture<Void> saveChunkToStorage(@NotNull Chunk chunk) {
-        return chunkLoader.saveChunk(chunk);
+        chunk.clearDirty();
+        return chunkLoader.saveChunk(chunk).whenComplete((unused, throwable) -> {
+            if (throwable != null) chunk.markDirty();
+        });
     }
 
     @Override
     public @NotNull CompletableFuture<Void> saveChunksToStorage() {
-        return chunkLoader.saveChunks(getChunks());
+        return saveChunks(getChunks());
+    }
+
+    /**
+     * Saves the chunks modified since they were last saved or loaded.
+     *
+     * @return future called when the chunks are done saving
+     * @see Chunk#isDirty()
+     */
+    public @NotNull CompletableFuture<Void> saveDirtyChunksToStorage() {
+        List<Chunk> dirtyChunks = new ArrayList<>();
+        for (Chunk chunk : chunks.values()) {
+            if (chunk.isDirty()) dirtyChunks.add(chunk);
+        }
+        if (dirtyChunks.isEmpty()) return AsyncUtils.VOID_FUTURE;
+        return saveChunks(dirtyChunks);
+    }
+
+    private @NotNull CompletableFuture<Void> saveChunks(@NotNull Collection<Chunk> chunks) {
+        // Cleared before encoding, changes made while saving mark the chunks again
+        for (Chunk chunk : chunks) chunk.clearDirty();
+        return chunkLoader.saveChunks(chunks).whenComplete((unused, throwable) -> {
+            if (throwable != null) chunks.forEach(Chunk::markDirty);
+        });
+    }
+
+    /**
+     * Gets the number of ticks between two incremental autosaves.
+     *
+     * @return the autosave interval in ticks, 0 if disabled
+     */
+    public int getAutosaveInterval() {
+        return autosaveInterval;
+    }
+
+    /**
+     * Enables the incremental autosave of the modified chunks.
+     * <p>
+     * Every {@code interval} ticks, the chunks modified since their last save are queued and saved over
+     * the following ticks, spending at most {@link ServerFlag#AUTOSAVE_TICK_BUDGET} per tick.
+     * The next interval starts once every queued chunk has been saved.
+     *
+     * @param interval the number of ticks between two autosaves, 0 to disable
+     */
+    public void setAutosaveInterval(int interval) {
+        Check.argCondition(interval < 0, "Autosave interval cannot be negative");
+        this.autosaveInterval = interval;
     }
 
     protected @NotNull CompletableFuture<@NotNull Chunk> retrieveChunk(int chunkX, int chunkZ) {
@@ -305,6 +415,7 @@ public class InstanceContainer extends Instance {
                 .thenCompose(chunk -> {
                     if (chunk != null) {
                         // Chunk has been loaded from storage
+                        chunk.clearDirty();
                         return CompletableFuture.completedFuture(chunk);
                     } else {
                         // Loader couldn't load the chunk, generate it
@@ -324,6 +435,9 @@ public class InstanceContainer extends Instance {
                 })
                 .exceptionally(throwable -> {
                     MinecraftServer.getExceptionManager().handleException(throwable);
+                    // Can be loaded again
+                    this.loadingChunks.remove(index, completableFuture);
+                    completableFuture.completeExceptionally(throwable);
                     return null;
                 });
         if (loader.supportsParallelLoading()) {
@@ -423,6 +537,7 @@ public class InstanceContainer extends Instance {
             // -1 is necessary because forked units handle explicit changes by changing AIR 0 to 1
             sectionModifier.genSection().blocks().getAllPresent((x, y, z, value) -> currentBlocks.set(x, y, z, value - 1));
             applyGenerationData(chunk, sectionModifier);
+            chunk.markDirty();
         }
     }
 
@@ -520,6 +635,9 @@ public class InstanceContainer extends Instance {
      * <p>
      * Chunks are copied with {@link Chunk#copy(Instance, int, int)},
      * {@link UUID} is randomized and {@link DimensionType} is passed over.
+     * <p>
+     * Sections of the default chunk implementations are copied on write, both instances
+     * share their memory until a section is modified.
      *
      * @return an {@link InstanceContainer} with the exact same chunks as 'this'
      * @see #getSrcInstance() to retrieve the "creation source" of the copied instance
@@ -532,12 +650,33 @@ public class InstanceContainer extends Instance {
         for (Chunk chunk : chunks.values()) {
             final int chunkX = chunk.getChunkX();
             final int chunkZ = chunk.getChunkZ();
-            final Chunk copiedChunk = chunk.copy(copiedInstance, chunkX, chunkZ);
+            final Chunk copiedChunk;
+            // Publishes the shared palettes to the next writes of the chunk
+            synchronized (chunk) {
+                copiedChunk = chunk.copy(copiedInstance, chunkX, chunkZ);
+            }
             copiedInstance.cacheChunk(copiedChunk);
         }
         return copiedInstance;
     }
 
+    /**
+     * Counts the sections of the loaded chunks still sharing their memory with a copy or a copy source.
+     *
+     * @return the number of shared and private sections
+     * @see #copy()
+     */
+    public @NotNull SectionSharing getSectionSharing() {
+        int shared = 0, total = 0;
+        for (Chunk chunk : chunks.values()) {
+            for (Section section : chunk.getSections()) {
+                if (section.isShared()) shared++;
+                total++;
+            }
+        }
+        return new SectionSharing(shared, total - shared);
+    }
+
     /**
      * Gets the instance from which this one has been copied.
      * <p>
@@ -617,6 +756,33 @@ public class InstanceContainer extends Instance {
         wrlock.lock();
         this.currentlyChangingBlocks.clear();
         wrlock.unlock();
+        tickAutosave();
+    }
+
+    private void tickAutosave() {
+        final int interval = this.autosaveInterval;
+        if (interval == 0) {
+            if (!autosaveQueue.isEmpty()) autosaveQueue.clear();
+            return;
+        }
+        if (autosaveQueue.isEmpty()) {
+            if (++autosaveTicks < interval) return;
+            this.autosaveTicks = 0;
+            for (Chunk chunk : chunks.values()) {
+                if (chunk.isDirty()) autosaveQueue.add(chunk);
+            }
+        }
+        // At least one chunk is saved each tick
+        final long deadline = System.nanoTime() + ServerFlag.AUTOSAVE_TICK_BUDGET;
+        Chunk chunk;
+        while ((chunk = autosaveQueue.poll()) != null) {
+            if (!chunk.isLoaded() || !chunk.clearDirty()) continue;
+            final Chunk savedChunk = chunk;
+            chunkLoader.saveChunk(savedChunk).whenComplete((unused, throwable) -> {
+                if (throwable != null) savedChunk.markDirty();
+            });
+            if (System.nanoTime() >= deadline) break;
+        }
     }
 
     /**
@@ -684,4 +850,11 @@ public class InstanceContainer extends Instance {
         var dispatcher = MinecraftServer.process().dispatcher();
         dispatcher.createPartition(chunk);
     }
+
+    /**
+     * @param sharedSections  the number of sections sharing their palettes, not yet written to since the copy
+     * @param privateSections the number of sections owning their palettes
+     */
+    public record SectionSharing(int sharedSections, int privateSections) {
+    }
 }
@@ -112,6 +112,10 @@ public class LightingChunk extends DynamicChunk {
         this.freezeInvalidation = freezeInvalidation;
     }
 
+    boolean isFreezeInvalidation() {
+        return freezeInvalidation;
+    }
+
     public void invalidateNeighborsSection(int coordinate) {
         if (freezeInvalidation) {
             return;
@@ -371,6 +375,7 @@ public class LightingChunk extends DynamicChunk {
                 sections.add(light);
 
                 var toAdd = light.flip();
+                chunk.markDirty();
                 if (toAdd != null) newQueue.addAll(toAdd);
             }, pool);
 
@@ -531,7 +536,9 @@ public class LightingChunk extends DynamicChunk {
     @Override
     public @NotNull Chunk copy(@NotNull Instance instance, int chunkX, int chunkZ) {
         LightingChunk lightingChunk = new LightingChunk(instance, chunkX, chunkZ);
-        lightingChunk.sections = sections.stream().map(Section::clone).toList();
+        // Sections are only copied on their first write
+        // The chunk packet is not shared, its light data depends on the neighbor chunks of the copy
+        lightingChunk.sections = sections.stream().map(Section::copyOnWrite).toList();
         lightingChunk.entries.putAll(entries);
         return lightingChunk;
     }
@@ -3,6 +3,7 @@ package net.minestom.server.instance;
 import net.minestom.server.instance.light.Light;
 import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
@@ -59,6 +60,48 @@ public final class Section implements NetworkBuffer.Writer {
         return new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight, blockLight);
     }
 
+    /**
+     * Creates a copy sharing the palettes and light of this section.
+     * <p>
+     * The palettes are copied by the first write to either section, light is never modified in place.
+     *
+     * @return a copy of this section
+     */
+    public @NotNull Section copyOnWrite() {
+        return copyWithLight(this.blockPalette.copyOnWrite(), this.biomePalette.copyOnWrite());
+    }
+
+    /**
+     * Creates a copy of the palettes of this section, sharing its light.
+     * <p>
+     * Unlike {@link #copyOnWrite()}, this section is not marked as shared.
+     *
+     * @return a copy of this section
+     */
+    @ApiStatus.Internal
+    public @NotNull Section snapshot() {
+        return copyWithLight(this.blockPalette.clone(), this.biomePalette.clone());
+    }
+
+    private @NotNull Section copyWithLight(@NotNull Palette blockPalette, @NotNull Palette biomePalette) {
+        final Section section = new Section(blockPalette, biomePalette, Light.sky(blockPalette), Light.block(blockPalette));
+        final byte[] skyLight = this.skyLight.array();
+        final byte[] blockLight = this.blockLight.array();
+        if (skyLight.length != 0) section.skyLight.setShared(skyLight);
+        if (blockLight.length != 0) section.blockLight.setShared(blockLight);
+        return section;
+    }
+
+    /**
+     * Gets if this section still shares its palettes with the section it was copied from, or with its copies.
+     *
+     * @return true if the section has not been written to since being copied
+     * @see #copyOnWrite()
+     */
+    public boolean isShared() {
+        return blockPalette.isShared() || biomePalette.isShared();
+    }
+
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(SHORT, (short) blockPalette.count());
@@ -319,6 +319,7 @@ public class AnvilLoader implements IChunkLoader {
             BinaryTagIO.writer().writeNamed(Map.entry("", nbt), os, BinaryTagIO.Compression.GZIP);
         } catch (IOException e) {
             MinecraftServer.getExceptionManager().handleException(e);
+            return CompletableFuture.failedFuture(e);
         }
         return AsyncUtils.VOID_FUTURE;
     }
@@ -349,7 +350,7 @@ public class AnvilLoader implements IChunkLoader {
                 } catch (IOException e) {
                     LOGGER.error("Failed to create region file for " + chunkX + ", " + chunkZ, e);
                     MinecraftServer.getExceptionManager().handleException(e);
-                    return AsyncUtils.VOID_FUTURE;
+                    return CompletableFuture.failedFuture(e);
                 }
             }
         } finally {
@@ -366,12 +367,18 @@ public class AnvilLoader implements IChunkLoader {
             chunkData.putString("status", "minecraft:full");
             chunkData.putLong("LastUpdate", chunk.getInstance().getWorldAge());
 
-            saveSectionData(chunk, chunkData);
+            // Encode a copy to release the chunk lock early
+            final Chunk snapshot;
+            synchronized (chunk) {
+                snapshot = chunk.snapshot();
+            }
+            saveSectionData(snapshot, chunkData);
 
             mcaFile.writeChunkData(chunkX, chunkZ, chunkData.build());
         } catch (IOException e) {
             LOGGER.error("Failed to save chunk " + chunkX + ", " + chunkZ, e);
             MinecraftServer.getExceptionManager().handleException(e);
+            return CompletableFuture.failedFuture(e);
         }
         return AsyncUtils.VOID_FUTURE;
     }
@@ -388,7 +395,7 @@ public class AnvilLoader implements IChunkLoader {
         IntList blockPaletteIndices = new IntArrayList(); // Map block indices by state id to avoid doing a deep comparison on every block tag
         int[] blockIndices = new int[Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE * Chunk.CHUNK_SECTION_SIZE];
 
-        synchronized (chunk) {
+        synchronized (chunk) { // Uncontended, the chunk is a copy
             for (int sectionY = chunk.getMinSection(); sectionY < chunk.getMaxSection(); sectionY++) {
                 final Section section = chunk.getSection(sectionY);
 
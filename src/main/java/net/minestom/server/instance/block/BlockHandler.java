@@ -1,11 +1,13 @@
 package net.minestom.server.instance.block;
 
+import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.utils.NamespaceID;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -56,6 +58,12 @@ public interface BlockHandler {
     default void onTouch(@NotNull Touch touch) {
     }
 
+    /**
+     * Called every tick for tickable blocks, or less often using {@link Tick#delay(int)} and {@link Tick#sleep()}.
+     *
+     * @param tick the tick details
+     * @see #isTickable()
+     */
     default void tick(@NotNull Tick tick) {
     }
 
@@ -270,18 +278,41 @@ public interface BlockHandler {
         }
     }
 
+    /**
+     * Represents an object forwarded to {@link #tick(Tick)}.
+     * <p>
+     * The object is reused between blocks, and is only valid during the call.
+     * The block is ticked again on the next tick, unless {@link #delay(int)} or {@link #sleep()} is called.
+     */
     final class Tick {
-        private final Block block;
+        private Block block;
         private final Instance instance;
-        private final Point blockPosition;
+        private int blockX, blockY, blockZ;
+        private Point blockPosition;
+        private int delay = 1;
 
         @ApiStatus.Internal
         public Tick(Block block, Instance instance, Point blockPosition) {
-            this.block = block;
-            this.instance = instance;
+            this(instance);
+            reset(block, blockPosition.blockX(), blockPosition.blockY(), blockPosition.blockZ());
             this.blockPosition = blockPosition;
         }
 
+        @ApiStatus.Internal
+        public Tick(Instance instance) {
+            this.instance = instance;
+        }
+
+        @ApiStatus.Internal
+        public void reset(Block block, int blockX, int blockY, int blockZ) {
+            this.block = block;
+            this.blockX = blockX;
+            this.blockY = blockY;
+            this.blockZ = blockZ;
+            this.blockPosition = null;
+            this.delay = 1;
+        }
+
         public @NotNull Block getBlock() {
             return block;
         }
@@ -291,8 +322,51 @@ public interface BlockHandler {
         }
 
         public @NotNull Point getBlockPosition() {
+            Point blockPosition = this.blockPosition;
+            if (blockPosition == null) this.blockPosition = blockPosition = new BlockVec(blockX, blockY, blockZ);
             return blockPosition;
         }
+
+        public int getBlockX() {
+            return blockX;
+        }
+
+        public int getBlockY() {
+            return blockY;
+        }
+
+        public int getBlockZ() {
+            return blockZ;
+        }
+
+        /**
+         * Ticks the block again after a delay.
+         *
+         * @param ticks the number of ticks to wait, 1 for the next tick
+         */
+        public void delay(int ticks) {
+            Check.argCondition(ticks < 1, "Tick delay must be positive: {0}", ticks);
+            this.delay = ticks;
+        }
+
+        /**
+         * Stops ticking the block until a neighbour block changes.
+         *
+         * @see net.minestom.server.instance.DynamicChunk#wakeBlock(int, int, int)
+         */
+        public void sleep() {
+            this.delay = 0;
+        }
+
+        /**
+         * Gets the number of ticks to wait before the next tick of the block.
+         *
+         * @return the delay in ticks, 0 if the block sleeps
+         */
+        @ApiStatus.Internal
+        public int getDelay() {
+            return delay;
+        }
     }
 
     /**
@@ -206,6 +206,15 @@ final class BlockLight implements Light {
         this.needsSend.set(true);
     }
 
+    @Override
+    @ApiStatus.Internal
+    public void setShared(byte[] array) {
+        this.content = array;
+        this.contentPropagation = array;
+        this.isValidBorders.set(true);
+        this.needsSend.set(true);
+    }
+
     @Override
     public boolean requiresSend() {
         return needsSend.getAndSet(false);
@@ -261,6 +270,8 @@ final class BlockLight implements Light {
         if (content2 == null) return content1;
 
         if (Arrays.equals(content1, emptyContent) && Arrays.equals(content2, emptyContent)) return emptyContent;
+        // Already baked
+        if (content1 == content2) return content1;
 
         byte[] lightMax = new byte[LIGHT_LENGTH];
         for (int i = 0; i < content1.length; i++) {
@@ -45,6 +45,16 @@ public interface Light {
 
     void set(byte[] copyArray);
 
+    /**
+     * Sets the light content without copying it.
+     * <p>
+     * Used to share light between copied sections, the array must not be modified afterward.
+     */
+    @ApiStatus.Internal
+    default void setShared(byte[] array) {
+        set(array);
+    }
+
     @ApiStatus.Internal
     static Point[] getNeighbors(Chunk chunk, int sectionY) {
         int chunkX = chunk.getChunkX();
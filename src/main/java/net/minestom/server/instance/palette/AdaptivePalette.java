@@ -6,6 +6,7 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.utils.MathUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntUnaryOperator;
 
 /**
@@ -14,6 +15,9 @@ import java.util.function.IntUnaryOperator;
 final class AdaptivePalette implements Palette, Cloneable {
     final byte dimension, defaultBitsPerEntry, maxBitsPerEntry;
     SpecializedPalette palette;
+    // Number of palettes referencing the flexible palette, null if only this one does
+    // A shared flexible palette is cloned before being modified
+    AtomicInteger sharers;
 
     AdaptivePalette(byte dimension, byte maxBitsPerEntry, byte bitsPerEntry) {
         validateDimension(dimension);
@@ -52,6 +56,7 @@ final class AdaptivePalette implements Palette, Cloneable {
     @Override
     public void fill(int value) {
         this.palette = new FilledPalette(dimension, value);
+        release();
     }
 
     @Override
@@ -59,6 +64,7 @@ final class AdaptivePalette implements Palette, Cloneable {
         SpecializedPalette newPalette = new FlexiblePalette(this);
         newPalette.setAll(supplier);
         this.palette = newPalette;
+        release();
     }
 
     @Override
@@ -99,16 +105,40 @@ final class AdaptivePalette implements Palette, Cloneable {
         try {
             AdaptivePalette adaptivePalette = (AdaptivePalette) super.clone();
             adaptivePalette.palette = palette.clone();
+            adaptivePalette.sharers = null;
             return adaptivePalette;
         } catch (CloneNotSupportedException e) {
             throw new RuntimeException(e);
         }
     }
 
+    @Override
+    public @NotNull Palette copyOnWrite() {
+        try {
+            // Filled palettes are immutable and can be shared as is
+            if (palette instanceof FlexiblePalette) {
+                if (sharers == null) this.sharers = new AtomicInteger(1);
+                sharers.incrementAndGet();
+            }
+            return (AdaptivePalette) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean isShared() {
+        final AtomicInteger sharers = this.sharers;
+        return sharers != null && sharers.get() > 1;
+    }
+
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         final SpecializedPalette optimized = optimizedPalette();
-        this.palette = optimized;
+        if (optimized != this.palette) {
+            this.palette = optimized;
+            release();
+        }
         optimized.write(writer);
     }
 
@@ -128,6 +158,10 @@ final class AdaptivePalette implements Palette, Cloneable {
                     return new FilledPalette(dimension, entries.iterator().nextInt());
                 } else if (currentBitsPerEntry > defaultBitsPerEntry &&
                         (bitsPerEntry = MathUtils.bitsToRepresent(entries.size() - 1)) < currentBitsPerEntry) {
+                    if (isShared()) {
+                        // Do not resize the storage of the copies
+                        flexiblePalette = (FlexiblePalette) flexiblePalette.clone();
+                    }
                     flexiblePalette.resize((byte) bitsPerEntry);
                     return flexiblePalette;
                 }
@@ -142,10 +176,27 @@ final class AdaptivePalette implements Palette, Cloneable {
             currentPalette = new FlexiblePalette(this);
             currentPalette.fill(filledPalette.value());
             this.palette = currentPalette;
+            release();
+        } else if (isShared()) {
+            currentPalette = currentPalette.clone();
+            this.palette = currentPalette;
+            release();
         }
         return currentPalette;
     }
 
+    /**
+     * Stops referencing the shared flexible palette, once replaced.
+     * <p>
+     * The last palette referencing it can then modify it in place.
+     */
+    private void release() {
+        final AtomicInteger sharers = this.sharers;
+        if (sharers == null) return;
+        sharers.decrementAndGet();
+        this.sharers = null;
+    }
+
     private static void validateDimension(int dimension) {
         if (dimension <= 1 || (dimension & dimension - 1) != 0)
             throw new IllegalArgumentException("Dimension must be a positive power of 2");
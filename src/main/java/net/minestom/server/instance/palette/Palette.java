@@ -1,6 +1,7 @@
 package net.minestom.server.instance.palette;
 
 import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.IntUnaryOperator;
@@ -63,6 +64,28 @@ public interface Palette extends NetworkBuffer.Writer {
 
     @NotNull Palette clone();
 
+    /**
+     * Creates a copy sharing the storage of this palette.
+     * <p>
+     * The storage is only copied by the first write to either palette.
+     *
+     * @return a copy of this palette
+     */
+    default @NotNull Palette copyOnWrite() {
+        return clone();
+    }
+
+    /**
+     * Gets if the storage of this palette may still be shared with a copy.
+     *
+     * @return true if the palette has not been written to since being copied
+     * @see #copyOnWrite()
+     */
+    @ApiStatus.Internal
+    default boolean isShared() {
+        return false;
+    }
+
     @FunctionalInterface
     interface EntrySupplier {
         int get(int x, int y, int z);
@@ -0,0 +1,110 @@
+package net.minestom.server.instance.storage;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.anvil.AnvilLoader;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Converts an Anvil world to a {@link ChunkStore}.
+ * <p>
+ * Regions are converted in parallel, the chunks of a region are unloaded once written.
+ */
+@ApiStatus.Experimental
+public final class AnvilConverter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AnvilConverter.class);
+    private static final Pattern REGION_FILE = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+    private static final int REGION_SIZE = 32;
+
+    private AnvilConverter() {
+    }
+
+    /**
+     * Converts every chunk of an Anvil world.
+     *
+     * @param instance   the instance used to create the chunks, its dimension must match the world
+     * @param anvilWorld the world folder, containing the region folder
+     * @param target     the loader of the store to write
+     * @return the number of converted chunks
+     * @throws IOException if the region folder cannot be listed
+     */
+    public static int convert(@NotNull Instance instance, @NotNull Path anvilWorld,
+                              @NotNull ChunkStoreLoader target) throws IOException {
+        final Path regionFolder = anvilWorld.resolve("region");
+        if (!Files.isDirectory(regionFolder)) return 0;
+        final AnvilLoader source = new AnvilLoader(anvilWorld);
+        final AtomicInteger count = new AtomicInteger();
+
+        List<CompletableFuture<Void>> regions = new ArrayList<>();
+        try (Stream<Path> files = Files.list(regionFolder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                final Matcher matcher = REGION_FILE.matcher(file.getFileName().toString());
+                if (!matcher.matches()) continue;
+                final int regionX = Integer.parseInt(matcher.group(1));
+                final int regionZ = Integer.parseInt(matcher.group(2));
+                regions.add(CompletableFuture.runAsync(() ->
+                        count.addAndGet(convertRegion(instance, source, target, regionX, regionZ))));
+            }
+        }
+        CompletableFuture.allOf(regions.toArray(CompletableFuture[]::new)).join();
+
+        source.loadInstance(instance);
+        target.saveInstance(instance);
+        target.store().force();
+        return count.get();
+    }
+
+    private static int convertRegion(Instance instance, AnvilLoader source, ChunkStoreLoader target,
+                                     int regionX, int regionZ) {
+        int count = 0;
+        for (int x = 0; x < REGION_SIZE; x++) {
+            for (int z = 0; z < REGION_SIZE; z++) {
+                final int chunkX = regionX * REGION_SIZE + x;
+                final int chunkZ = regionZ * REGION_SIZE + z;
+                final Chunk chunk = source.loadChunk(instance, chunkX, chunkZ).join();
+                if (chunk == null) continue;
+                target.saveChunk(chunk).join();
+                source.unloadChunk(chunk);
+                count++;
+            }
+        }
+        LOGGER.debug("Converted {} chunks of region {}, {}", count, regionX, regionZ);
+        return count;
+    }
+
+    /**
+     * Converts an overworld Anvil world.
+     * <p>
+     * Usage: {@code <anvil world folder> <store file>}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: <anvil world folder> <store file>");
+            System.exit(1);
+        }
+        MinecraftServer.init();
+        final InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        final long start = System.nanoTime();
+        try (ChunkStore store = ChunkStore.open(Path.of(args[1]), MinecraftServer.DATA_VERSION)) {
+            final int count = convert(instance, Path.of(args[0]), new ChunkStoreLoader(store));
+            LOGGER.info("Converted {} chunks in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        }
+        MinecraftServer.stopCleanly();
+    }
+}
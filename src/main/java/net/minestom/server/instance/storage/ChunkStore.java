@@ -0,0 +1,490 @@
+package net.minestom.server.instance.storage;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Single-file, append-only store of chunk records.
+ * <p>
+ * Each record is identified by a chunk index and a section, and holds an opaque payload. Writing a record appends it
+ * to the end of the file, the previous version is left in place until {@link #compact()} is called.
+ * The location of the latest version of each record is kept in memory, rebuilt by scanning the file when opened.
+ * <p>
+ * Payloads are compressed with deflate at its fastest level. Writing a record identical to the stored one is skipped.
+ * <p>
+ * Records are written in batches, see {@link #write(List)}. Every record header and payload has its own CRC32C
+ * checksum, all of them are verified when the store is opened: a batch with a corrupted record is ignored as a whole,
+ * and the file is truncated before a batch whose header is damaged, as the following records cannot be located.
+ * Compaction writes a new file before atomically replacing the old one.
+ */
+@ApiStatus.Experimental
+public final class ChunkStore implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkStore.class);
+
+    private static final int MAGIC = 0x4D534353; // MSCS
+    private static final int FORMAT_VERSION = 2;
+    private static final int FILE_HEADER_SIZE = 12;
+    // length, raw length, raw checksum, stored checksum, section, chunk index, remaining records in the batch, header checksum
+    private static final int RECORD_HEADER_SIZE = 36;
+    // Payloads smaller than this are stored uncompressed
+    private static final int COMPRESSION_THRESHOLD = 128;
+
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED, true));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    private final Path path;
+    private final int dataVersion;
+    private final Map<Key, Location> index = new ConcurrentHashMap<>();
+    // Held exclusively to replace the file
+    private final ReadWriteLock fileLock = new ReentrantReadWriteLock();
+    private final Object appendLock = new Object();
+    private FileChannel channel;
+    private long end;
+
+    private ChunkStore(@NotNull Path path, int dataVersion) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, CREATE, READ, WRITE);
+        if (channel.size() < FILE_HEADER_SIZE) {
+            channel.truncate(0);
+            writeFileHeader(channel, dataVersion);
+            this.dataVersion = dataVersion;
+            this.end = FILE_HEADER_SIZE;
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) throw new IOException("Not a chunk store: " + path);
+            final int formatVersion = header.getInt();
+            if (formatVersion != FORMAT_VERSION)
+                throw new IOException("Unsupported chunk store format " + formatVersion + ": " + path);
+            this.dataVersion = header.getInt();
+            this.end = scan();
+        }
+    }
+
+    /**
+     * Opens a store, creating it if missing.
+     *
+     * @param path        the store file
+     * @param dataVersion the data version written in a new store
+     * @return the opened store
+     * @throws IOException if the file cannot be read or is not a store
+     */
+    public static @NotNull ChunkStore open(@NotNull Path path, int dataVersion) throws IOException {
+        final Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        // Leftover of an interrupted compaction, the store itself is intact
+        Files.deleteIfExists(compactionPath(path));
+        return new ChunkStore(path, dataVersion);
+    }
+
+    /**
+     * Gets the data version of the stored chunks, block state ids depend on it.
+     *
+     * @return the data version
+     */
+    public int dataVersion() {
+        return dataVersion;
+    }
+
+    /**
+     * Gets if a record is present.
+     *
+     * @param chunkIndex the chunk index
+     * @param section    the section of the record
+     * @return true if the record has been written
+     */
+    public boolean contains(long chunkIndex, int section) {
+        return index.containsKey(new Key(chunkIndex, section));
+    }
+
+    /**
+     * Reads the latest version of a record.
+     * <p>
+     * Can be called from multiple threads.
+     *
+     * @param chunkIndex the chunk index
+     * @param section    the section of the record
+     * @return the payload, null if the record is not present
+     * @throws IOException if the record cannot be read or is corrupted
+     */
+    public byte @Nullable [] read(long chunkIndex, int section) throws IOException {
+        fileLock.readLock().lock();
+        try {
+            final Location location = index.get(new Key(chunkIndex, section));
+            return location != null ? read(location) : null;
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a new version of a record, unless the payload is the same as the stored one.
+     * <p>
+     * Can be called from multiple threads, only the append itself is serialized.
+     *
+     * @param chunkIndex the chunk index
+     * @param section    the section of the record
+     * @param data       the payload, cannot be empty
+     * @return true if the record has been written, false if unchanged
+     * @throws IOException if the record cannot be written
+     */
+    public boolean write(long chunkIndex, int section, byte @NotNull [] data) throws IOException {
+        return write(List.of(new Entry(chunkIndex, section, data))) != 0;
+    }
+
+    /**
+     * Appends a new version of multiple records at once, skipping the ones with the same payload as the stored one.
+     * <p>
+     * The batch is atomic: after a crash, the store is opened with either all or none of the written records.
+     * Can be called from multiple threads, only the append itself is serialized.
+     *
+     * @param entries the records to write, payloads cannot be empty
+     * @return the number of written records
+     * @throws IOException if the records cannot be written
+     */
+    public int write(@NotNull List<Entry> entries) throws IOException {
+        for (Entry entry : entries) {
+            if (entry.data().length == 0) throw new IllegalArgumentException("Empty record");
+        }
+        fileLock.readLock().lock();
+        try {
+            List<Entry> changed = new ArrayList<>(entries.size());
+            List<byte[]> stored = new ArrayList<>(entries.size());
+            int[] checksums = new int[entries.size()];
+            int size = 0;
+            for (Entry entry : entries) {
+                final int checksum = checksum(entry.data());
+                if (isUnchanged(new Key(entry.chunkIndex(), entry.section()), entry.data(), checksum)) continue;
+                final byte[] compressed = compress(entry.data());
+                checksums[changed.size()] = checksum;
+                changed.add(entry);
+                stored.add(compressed);
+                size += RECORD_HEADER_SIZE + compressed.length;
+            }
+            if (changed.isEmpty()) return 0;
+
+            ByteBuffer batch = ByteBuffer.allocate(size);
+            Location[] locations = new Location[changed.size()];
+            for (int i = 0; i < changed.size(); i++) {
+                final Entry entry = changed.get(i);
+                final byte[] compressed = stored.get(i);
+                locations[i] = new Location(batch.position(), compressed.length, entry.data().length,
+                        checksums[i], checksum(compressed, 0, compressed.length));
+                writeRecordHeader(batch, entry.chunkIndex(), entry.section(), locations[i], changed.size() - 1 - i);
+                batch.put(compressed);
+            }
+            batch.flip();
+            // A single write, so that a crash can only tear the end of the batch
+            synchronized (appendLock) {
+                final long offset = end;
+                writeFully(channel, batch, offset);
+                this.end = offset + size;
+                for (int i = 0; i < changed.size(); i++) {
+                    final Entry entry = changed.get(i);
+                    final Location location = locations[i];
+                    this.index.put(new Key(entry.chunkIndex(), entry.section()), new Location(offset + location.offset(),
+                            location.length(), location.rawLength(), location.checksum(), location.storedChecksum()));
+                }
+            }
+            return changed.size();
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Forces the written records to the disk.
+     *
+     * @throws IOException if the file cannot be synced
+     */
+    public void force() throws IOException {
+        fileLock.readLock().lock();
+        try {
+            channel.force(false);
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the store with only the latest version of each record.
+     * <p>
+     * Reads and writes are blocked during the compaction. The records are copied to a new file which replaces
+     * the store once complete, an interrupted compaction leaves the store untouched.
+     *
+     * @throws IOException if the new file cannot be written
+     */
+    public void compact() throws IOException {
+        fileLock.writeLock().lock();
+        try {
+            final Path compactionPath = compactionPath(path);
+            List<Map.Entry<Key, Location>> entries = new ArrayList<>(index.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().offset()));
+            Map<Key, Location> compacted = new HashMap<>(entries.size());
+            long position = FILE_HEADER_SIZE;
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            try (FileChannel target = FileChannel.open(compactionPath, CREATE, TRUNCATE_EXISTING, WRITE)) {
+                writeFileHeader(target, dataVersion);
+                for (Map.Entry<Key, Location> entry : entries) {
+                    final Key key = entry.getKey();
+                    final Location location = entry.getValue();
+                    // Every record is committed, they are copied as batches of one
+                    header.clear();
+                    writeRecordHeader(header, key.chunkIndex(), key.section(), location, 0);
+                    writeFully(target, header.flip(), position);
+                    target.position(position + RECORD_HEADER_SIZE);
+                    long transferred = 0;
+                    while (transferred < location.length()) {
+                        transferred += channel.transferTo(location.offset() + RECORD_HEADER_SIZE + transferred,
+                                location.length() - transferred, target);
+                    }
+                    compacted.put(key, new Location(position, location.length(), location.rawLength(),
+                            location.checksum(), location.storedChecksum()));
+                    position += RECORD_HEADER_SIZE + location.length();
+                }
+                target.force(true);
+            }
+            this.channel.close();
+            try {
+                Files.move(compactionPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                this.index.clear();
+                this.index.putAll(compacted);
+                this.end = position;
+            } finally {
+                this.channel = FileChannel.open(path, READ, WRITE);
+            }
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+    }
+
+    public @NotNull Stats stats() {
+        fileLock.readLock().lock();
+        try {
+            long liveBytes = FILE_HEADER_SIZE;
+            for (Location location : index.values()) liveBytes += RECORD_HEADER_SIZE + location.length();
+            return new Stats(index.size(), liveBytes, end);
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileLock.writeLock().lock();
+        try {
+            channel.force(true);
+            channel.close();
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the records, verifying all of them.
+     * <p>
+     * The records of a batch are only indexed once the whole batch has been read and is valid.
+     * A damaged header or an incomplete batch ends the file, which is truncated at the start of its batch.
+     *
+     * @return the end of the last complete batch
+     */
+    private long scan() throws IOException {
+        final long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        ByteBuffer payload = ByteBuffer.allocate(0);
+        Map<Key, Location> batch = new HashMap<>();
+        long position = FILE_HEADER_SIZE, batchStart = position;
+        int expected = -1; // Remaining count of the next record, -1 when it starts a new batch
+        boolean corrupted = false;
+        while (position + RECORD_HEADER_SIZE <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            final int length = header.getInt();
+            final int rawLength = header.getInt();
+            final int checksum = header.getInt();
+            final int storedChecksum = header.getInt();
+            final int section = header.getInt();
+            final long chunkIndex = header.getLong();
+            final int remaining = header.getInt();
+            if (header.getInt() != checksum(header.array(), 0, RECORD_HEADER_SIZE - Integer.BYTES)
+                    || length <= 0 || rawLength < length || remaining < 0
+                    || position + RECORD_HEADER_SIZE + length > size
+                    || (expected != -1 && remaining != expected)) break;
+            if (expected == -1) {
+                batchStart = position;
+                batch.clear();
+                corrupted = false;
+            }
+
+            if (payload.capacity() < length) payload = ByteBuffer.allocate(length);
+            payload.clear().limit(length);
+            readFully(channel, payload, position + RECORD_HEADER_SIZE);
+            if (checksum(payload.array(), 0, length) != storedChecksum) corrupted = true;
+            batch.put(new Key(chunkIndex, section), new Location(position, length, rawLength, checksum, storedChecksum));
+            position += RECORD_HEADER_SIZE + length;
+
+            if (remaining != 0) {
+                expected = remaining - 1;
+            } else {
+                expected = -1;
+                if (!corrupted) this.index.putAll(batch);
+                else LOGGER.warn("Ignoring a corrupted batch of {} records at {} in {}", batch.size(), batchStart, path);
+            }
+        }
+        // Interrupted while writing the batch
+        if (expected != -1) position = batchStart;
+        if (position != size) {
+            LOGGER.warn("Removing {} bytes of incomplete records at the end of {}", size - position, path);
+            channel.truncate(position);
+        }
+        return position;
+    }
+
+    /**
+     * Gets if the stored record has the same payload, only reading it back if the checksum matches.
+     */
+    private boolean isUnchanged(Key key, byte[] data, int checksum) {
+        final Location previous = index.get(key);
+        if (previous == null || previous.rawLength() != data.length || previous.checksum() != checksum) return false;
+        try {
+            return Arrays.equals(data, read(previous));
+        } catch (IOException e) {
+            // Written again to replace the corrupted record
+            return false;
+        }
+    }
+
+    private byte[] read(Location location) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(location.length());
+        readFully(channel, buffer, location.offset() + RECORD_HEADER_SIZE);
+        final byte[] stored = buffer.array();
+        final byte[] data = location.length() == location.rawLength() ? stored : decompress(stored, location.rawLength());
+        if (checksum(data) != location.checksum())
+            throw new IOException("Corrupted record at " + location.offset() + " in " + path);
+        return data;
+    }
+
+    private static Path compactionPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".compact");
+    }
+
+    private static void writeFileHeader(FileChannel channel, int dataVersion) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(dataVersion).flip();
+        writeFully(channel, header, 0);
+    }
+
+    private static void writeRecordHeader(ByteBuffer buffer, long chunkIndex, int section, Location location, int remaining) {
+        final int start = buffer.position();
+        buffer.putInt(location.length()).putInt(location.rawLength())
+                .putInt(location.checksum()).putInt(location.storedChecksum())
+                .putInt(section).putLong(chunkIndex).putInt(remaining);
+        buffer.putInt(checksum(buffer.array(), start, RECORD_HEADER_SIZE - Integer.BYTES));
+    }
+
+    private static int checksum(byte[] data) {
+        return checksum(data, 0, data.length);
+    }
+
+    private static int checksum(byte[] data, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(data, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] compress(byte[] data) {
+        if (data.length < COMPRESSION_THRESHOLD) return data;
+        final Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setInput(data);
+        deflater.finish();
+        // Only keep the compressed payload if smaller
+        byte[] output = new byte[data.length];
+        int length = 0;
+        while (!deflater.finished() && length < output.length) {
+            length += deflater.deflate(output, length, output.length - length);
+        }
+        if (!deflater.finished() || length >= data.length) return data;
+        return Arrays.copyOf(output, length);
+    }
+
+    private static byte[] decompress(byte[] stored, int rawLength) throws IOException {
+        final Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(stored);
+        byte[] output = new byte[rawLength];
+        try {
+            int length = 0;
+            while (!inflater.finished() && length < rawLength) {
+                final int inflated = inflater.inflate(output, length, rawLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                length += inflated;
+            }
+            if (length != rawLength) throw new IOException("Truncated compressed record");
+        } catch (DataFormatException e) {
+            throw new IOException(e);
+        }
+        return output;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read < 0) throw new EOFException();
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * @param records   the number of records
+     * @param liveBytes the size of the latest version of each record, the size of the file after compaction
+     * @param fileBytes the size of the file
+     */
+    public record Stats(int records, long liveBytes, long fileBytes) {
+    }
+
+    /**
+     * A record to write.
+     *
+     * @param chunkIndex the chunk index
+     * @param section    the section of the record
+     * @param data       the payload, cannot be empty
+     */
+    public record Entry(long chunkIndex, int section, byte @NotNull [] data) {
+    }
+
+    private record Key(long chunkIndex, int section) {
+    }
+
+    private record Location(long offset, int length, int rawLength, int checksum, int storedChecksum) {
+    }
+}
@@ -0,0 +1,328 @@
+package net.minestom.server.instance.storage;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.*;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.registry.DynamicRegistry;
+import net.minestom.server.utils.ArrayUtils;
+import net.minestom.server.utils.MathUtils;
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.utils.validate.Check;
+import net.minestom.server.world.biome.Biome;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static net.minestom.server.network.NetworkBuffer.*;
+
+/**
+ * Chunk loader backed by a {@link ChunkStore}.
+ * <p>
+ * Each section is stored as its own record, only the sections modified since the last save are written again.
+ * The records of a chunk are written as a single batch.
+ * Block states are stored by id, the store is bound to the data version of the server.
+ */
+@ApiStatus.Experimental
+public class ChunkStoreLoader implements IChunkLoader {
+    private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
+    private static final int PLAINS_ID = BIOME_REGISTRY.getId(NamespaceID.from("minecraft:plains"));
+    private static final int LIGHT_LENGTH = 2048;
+
+    // Records which are not sections
+    static final int CHUNK_RECORD = Integer.MIN_VALUE;
+    static final int INSTANCE_RECORD = Integer.MIN_VALUE + 1;
+    private static final long INSTANCE_INDEX = Long.MIN_VALUE;
+
+    private final ChunkStore store;
+
+    public ChunkStoreLoader(@NotNull Path path) throws IOException {
+        this(ChunkStore.open(path, MinecraftServer.DATA_VERSION));
+    }
+
+    public ChunkStoreLoader(@NotNull ChunkStore store) {
+        Check.stateCondition(store.dataVersion() != MinecraftServer.DATA_VERSION,
+                "Chunk store data version {0} does not match the server data version {1}",
+                store.dataVersion(), MinecraftServer.DATA_VERSION);
+        this.store = store;
+    }
+
+    public @NotNull ChunkStore store() {
+        return store;
+    }
+
+    @Override
+    public void loadInstance(@NotNull Instance instance) {
+        try {
+            final byte[] data = store.read(INSTANCE_INDEX, INSTANCE_RECORD);
+            if (data == null) return;
+            NetworkBuffer buffer = new NetworkBuffer(ByteBuffer.wrap(data));
+            if (buffer.read(NBT) instanceof CompoundBinaryTag tag) {
+                instance.tagHandler().updateContent(tag);
+            }
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+        final long index = ChunkUtils.getChunkIndex(chunkX, chunkZ);
+        try {
+            // Sections are written in the same batch as the chunk record, a chunk without it has never been saved
+            final byte[] chunkData = store.read(index, CHUNK_RECORD);
+            if (chunkData == null) return CompletableFuture.completedFuture(null);
+
+            final Chunk chunk = instance.getChunkSupplier().createChunk(instance, chunkX, chunkZ);
+            synchronized (chunk) {
+                for (int sectionY = chunk.getMinSection(); sectionY < chunk.getMaxSection(); sectionY++) {
+                    final byte[] sectionData = store.read(index, sectionY);
+                    if (sectionData != null) readSection(chunk.getSection(sectionY), sectionData);
+                }
+                readChunk(chunk, chunkData);
+            }
+            return CompletableFuture.completedFuture(chunk);
+        } catch (Exception e) {
+            // Not loaded as missing, the generated chunk would replace the stored one once saved
+            MinecraftServer.getExceptionManager().handleException(e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> saveInstance(@NotNull Instance instance) {
+        final CompoundBinaryTag nbt = instance.tagHandler().asCompound();
+        try {
+            store.write(INSTANCE_INDEX, INSTANCE_RECORD, NetworkBuffer.makeArray(buffer -> buffer.write(NBT, nbt)));
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return AsyncUtils.VOID_FUTURE;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+        final long index = ChunkUtils.getChunkIndex(chunk);
+        final int minSection = chunk.getMinSection();
+        final byte[][] sections = new byte[chunk.getMaxSection() - minSection][];
+        final byte[] chunkData;
+        // The chunk is not locked while encoding the copy
+        final Chunk snapshot;
+        final CompoundBinaryTag tags;
+        synchronized (chunk) {
+            snapshot = chunk.snapshot();
+            tags = chunk.tagHandler().asCompound();
+        }
+        synchronized (snapshot) {
+            for (int i = 0; i < sections.length; i++) {
+                final Section section = snapshot.getSection(minSection + i);
+                sections[i] = NetworkBuffer.makeArray(buffer -> writeSection(buffer, section));
+            }
+            chunkData = NetworkBuffer.makeArray(buffer -> writeChunk(buffer, snapshot, tags));
+        }
+        List<ChunkStore.Entry> entries = new ArrayList<>(sections.length + 1);
+        for (int i = 0; i < sections.length; i++) {
+            entries.add(new ChunkStore.Entry(index, minSection + i, sections[i]));
+        }
+        entries.add(new ChunkStore.Entry(index, CHUNK_RECORD, chunkData));
+        try {
+            // A single batch, the sections can never be loaded with an older chunk record
+            store.write(entries);
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return AsyncUtils.VOID_FUTURE;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> saveChunks(@NotNull Collection<Chunk> chunks) {
+        return IChunkLoader.super.saveChunks(chunks).thenCompose(unused -> {
+            try {
+                store.force();
+            } catch (IOException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                return CompletableFuture.failedFuture(e);
+            }
+            return AsyncUtils.VOID_FUTURE;
+        });
+    }
+
+    @Override
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsParallelSaving() {
+        return true;
+    }
+
+    private static void writeSection(@NotNull NetworkBuffer buffer, @NotNull Section section) {
+        // Blocks
+        final Palette blockPalette = section.blockPalette();
+        final int[] blockIndices = new int[blockPalette.maxSize()];
+        final IntList blockIds = new IntArrayList();
+        final Int2IntOpenHashMap blockIdIndices = new Int2IntOpenHashMap();
+        blockIdIndices.defaultReturnValue(-1);
+        blockPalette.getAll((x, y, z, value) -> {
+            int paletteIndex = blockIdIndices.get(value);
+            if (paletteIndex == -1) {
+                paletteIndex = blockIds.size();
+                blockIds.add(value);
+                blockIdIndices.put(value, paletteIndex);
+            }
+            blockIndices[x + z * 16 + y * 256] = paletteIndex;
+        });
+        writePalette(buffer, blockIds, blockIndices);
+
+        // Biomes
+        final Palette biomePalette = section.biomePalette();
+        final int[] biomeIndices = new int[biomePalette.maxSize()];
+        final IntList biomeIds = new IntArrayList();
+        final Int2IntOpenHashMap biomeIdIndices = new Int2IntOpenHashMap();
+        biomeIdIndices.defaultReturnValue(-1);
+        biomePalette.getAll((x, y, z, value) -> {
+            int paletteIndex = biomeIdIndices.get(value);
+            if (paletteIndex == -1) {
+                paletteIndex = biomeIds.size();
+                biomeIds.add(value);
+                biomeIdIndices.put(value, paletteIndex);
+            }
+            biomeIndices[x + z * 4 + y * 16] = paletteIndex;
+        });
+        // Biome ids depend on the registration order, store the names
+        List<String> biomeNames = new ArrayList<>(biomeIds.size());
+        for (int id : biomeIds) {
+            final DynamicRegistry.Key<Biome> key = BIOME_REGISTRY.getKey(id);
+            biomeNames.add(key != null ? key.name() : "minecraft:plains");
+        }
+        buffer.writeCollection(STRING, biomeNames);
+        if (biomeNames.size() > 1) {
+            buffer.write(LONG_ARRAY, ArrayUtils.pack(biomeIndices, MathUtils.bitsToRepresent(biomeNames.size() - 1)));
+        }
+
+        // Lighting
+        final byte[] skyLight = section.skyLight().array();
+        final byte[] blockLight = section.blockLight().array();
+        buffer.write(BYTE_ARRAY, skyLight != null ? skyLight : new byte[0]);
+        buffer.write(BYTE_ARRAY, blockLight != null ? blockLight : new byte[0]);
+    }
+
+    private static void writePalette(@NotNull NetworkBuffer buffer, @NotNull IntList ids, int[] indices) {
+        buffer.write(VAR_INT, ids.size());
+        for (int id : ids) buffer.write(VAR_INT, id);
+        if (ids.size() > 1) {
+            buffer.write(LONG_ARRAY, ArrayUtils.pack(indices, MathUtils.bitsToRepresent(ids.size() - 1)));
+        }
+    }
+
+    private static void readSection(@NotNull Section section, byte @NotNull [] data) {
+        NetworkBuffer buffer = new NetworkBuffer(ByteBuffer.wrap(data));
+
+        // Blocks
+        final int[] blockIds = new int[buffer.read(VAR_INT)];
+        for (int i = 0; i < blockIds.length; i++) blockIds[i] = buffer.read(VAR_INT);
+        if (blockIds.length == 1) {
+            section.blockPalette().fill(blockIds[0]);
+        } else if (blockIds.length > 1) {
+            final int[] indices = new int[section.blockPalette().maxSize()];
+            ArrayUtils.unpack(indices, buffer.read(LONG_ARRAY), MathUtils.bitsToRepresent(blockIds.length - 1));
+            section.blockPalette().setAll((x, y, z) -> blockIds[indices[x + z * 16 + y * 256]]);
+        }
+
+        // Biomes
+        final List<String> biomeNames = buffer.readCollection(STRING, Integer.MAX_VALUE);
+        final int[] biomeIds = new int[biomeNames.size()];
+        for (int i = 0; i < biomeIds.length; i++) {
+            final int id = BIOME_REGISTRY.getId(NamespaceID.from(biomeNames.get(i)));
+            biomeIds[i] = id != -1 ? id : PLAINS_ID;
+        }
+        if (biomeIds.length == 1) {
+            section.biomePalette().fill(biomeIds[0]);
+        } else if (biomeIds.length > 1) {
+            final int[] indices = new int[section.biomePalette().maxSize()];
+            ArrayUtils.unpack(indices, buffer.read(LONG_ARRAY), MathUtils.bitsToRepresent(biomeIds.length - 1));
+            section.biomePalette().setAll((x, y, z) -> biomeIds[indices[x + z * 4 + y * 16]]);
+        }
+
+        // Lighting
+        final byte[] skyLight = buffer.read(BYTE_ARRAY);
+        final byte[] blockLight = buffer.read(BYTE_ARRAY);
+        if (skyLight.length == LIGHT_LENGTH) section.setSkyLight(skyLight);
+        if (blockLight.length == LIGHT_LENGTH) section.setBlockLight(blockLight);
+    }
+
+    private static void writeChunk(@NotNull NetworkBuffer buffer, @NotNull Chunk chunk, @NotNull CompoundBinaryTag tags) {
+        buffer.write(NBT, tags);
+        final Int2ObjectMap<Block> blockEntities = chunk instanceof DynamicChunk dynamicChunk ?
+                dynamicChunk.blockEntities() : findBlockEntities(chunk);
+        buffer.write(VAR_INT, blockEntities.size());
+        for (Int2ObjectMap.Entry<Block> entry : blockEntities.int2ObjectEntrySet()) {
+            final Block block = entry.getValue();
+            final BlockHandler handler = block.handler();
+            buffer.write(INT, entry.getIntKey());
+            buffer.writeOptional(STRING, handler != null ? handler.getNamespaceId().asString() : null);
+            buffer.writeOptional(NBT, block.nbt());
+        }
+    }
+
+    private static @NotNull Int2ObjectMap<Block> findBlockEntities(@NotNull Chunk chunk) {
+        Int2ObjectMap<Block> blockEntities = new Int2ObjectOpenHashMap<>();
+        for (int y = chunk.getMinSection() * Chunk.CHUNK_SECTION_SIZE; y < chunk.getMaxSection() * Chunk.CHUNK_SECTION_SIZE; y++) {
+            for (int z = 0; z < Chunk.CHUNK_SIZE_Z; z++) {
+                for (int x = 0; x < Chunk.CHUNK_SIZE_X; x++) {
+                    final Block block = chunk.getBlock(x, y, z, Block.Getter.Condition.CACHED);
+                    if (block != null && (block.handler() != null || block.hasNbt())) {
+                        blockEntities.put(ChunkUtils.getBlockIndex(x, y, z), block);
+                    }
+                }
+            }
+        }
+        return blockEntities;
+    }
+
+    private static void readChunk(@NotNull Chunk chunk, byte @NotNull [] data) {
+        NetworkBuffer buffer = new NetworkBuffer(ByteBuffer.wrap(data));
+        if (buffer.read(NBT) instanceof CompoundBinaryTag tag) {
+            chunk.tagHandler().updateContent(tag);
+        }
+        final int count = buffer.read(VAR_INT);
+        for (int i = 0; i < count; i++) {
+            final int index = buffer.read(INT);
+            final String handlerId = buffer.readOptional(STRING);
+            final BinaryTag nbt = buffer.readOptional(NBT);
+            final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+            final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+            final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+            Block block = chunk.getBlock(x, y, z);
+            if (handlerId != null) {
+                block = block.withHandler(MinecraftServer.getBlockManager().getHandlerOrDummy(handlerId));
+            }
+            if (nbt instanceof CompoundBinaryTag compound) {
+                block = block.withNbt(compound);
+            }
+            chunk.setBlock(x, y, z, block);
+        }
+    }
+}
@@ -6,11 +6,11 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.inventory.click.ClickType;
 import net.minestom.server.inventory.click.InventoryClickResult;
 import net.minestom.server.item.ItemStack;
+import net.minestom.server.network.packet.client.play.ClientClickWindowPacket;
 import net.minestom.server.network.packet.server.play.OpenWindowPacket;
-import net.minestom.server.network.packet.server.play.SetSlotPacket;
-import net.minestom.server.network.packet.server.play.WindowItemsPacket;
 import net.minestom.server.network.packet.server.play.WindowPropertyPacket;
 import net.minestom.server.utils.inventory.PlayerInventoryUtils;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
@@ -40,6 +40,8 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     // the players currently viewing this inventory
     private final Set<Player> viewers = new CopyOnWriteArraySet<>();
     private final Set<Player> unmodifiableViewers = Collections.unmodifiableSet(viewers);
+    // the contents known by each viewer
+    private final InventorySync sync = new InventorySync(this);
 
     public Inventory(@NotNull InventoryType inventoryType, @NotNull Component title) {
         super(inventoryType.getSize());
@@ -86,6 +88,7 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
         // Re-open the inventory
         sendPacketToViewers(new OpenWindowPacket(getWindowId(), getInventoryType().getWindowType(), title));
         // Send inventory items
+        this.sync.invalidateAll();
         update();
     }
 
@@ -102,10 +105,13 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
 
     /**
      * Refreshes the inventory for all viewers.
+     * <p>
+     * Only the slots differing from what each viewer is known to have are sent,
+     * viewers missing the same slots share the same packets.
      */
     @Override
     public void update() {
-        this.viewers.forEach(p -> p.sendPacket(createNewWindowItemsPacket(p)));
+        this.sync.sync(viewers);
     }
 
     /**
@@ -117,7 +123,29 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
      */
     public void update(@NotNull Player player) {
         if (!isViewer(player)) return;
-        player.sendPacket(createNewWindowItemsPacket(player));
+        this.sync.sync(List.of(player));
+    }
+
+    /**
+     * Applies the slots changed by a client when clicking, so that the following updates
+     * only correct the slots where the client prediction was wrong.
+     *
+     * @param player       the player who clicked
+     * @param stateId      the state id the click has been made on
+     * @param changedSlots the slots the client changed
+     */
+    @ApiStatus.Internal
+    public void clientChanges(@NotNull Player player, int stateId,
+                              @NotNull List<ClientClickWindowPacket.ChangedSlot> changedSlots) {
+        if (!isViewer(player)) return;
+        this.sync.predicted(player, stateId, changedSlots);
+    }
+
+    /**
+     * Gets the state id last sent to a viewer.
+     */
+    int stateId(@NotNull Player player) {
+        return sync.stateId(player);
     }
 
     @Override
@@ -134,6 +162,7 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     @Override
     public boolean addViewer(@NotNull Player player) {
         final boolean result = this.viewers.add(player);
+        this.sync.invalidate(player);
         update(player);
         return result;
     }
@@ -147,6 +176,7 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     @Override
     public boolean removeViewer(@NotNull Player player) {
         final boolean result = this.viewers.remove(player);
+        this.sync.invalidate(player);
         this.clickProcessor.clearCache(player);
         return result;
     }
@@ -176,11 +206,15 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     @Override
     protected void UNSAFE_itemInsert(int slot, @NotNull ItemStack itemStack, boolean sendPacket) {
         itemStacks[slot] = itemStack;
-        if (sendPacket) sendPacketToViewers(new SetSlotPacket(getWindowId(), 0, (short) slot, itemStack));
+        if (sendPacket) sendPacketToViewers(sync.slot(slot, itemStack));
     }
 
-    private @NotNull WindowItemsPacket createNewWindowItemsPacket(Player player) {
-        return new WindowItemsPacket(getWindowId(), 0, List.of(getItemStacks()), player.getInventory().getCursorItem());
+    @Override
+    public synchronized void clear() {
+        // Forget what the viewers know, the update at the end of super.clear() then sends
+        // a single window items packet instead of diffing every slot that was not empty
+        this.sync.invalidateAll();
+        super.clear();
     }
 
     /**
@@ -0,0 +1,156 @@
+package net.minestom.server.inventory;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.entity.Player;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.network.packet.client.play.ClientClickWindowPacket;
+import net.minestom.server.network.packet.server.play.SetSlotPacket;
+import net.minestom.server.network.packet.server.play.WindowItemsPacket;
+import net.minestom.server.utils.PacketUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Keeps track of the window contents each viewer of an {@link Inventory} is known to have,
+ * in order to only send the slots that differ when the inventory is refreshed.
+ * <p>
+ * The known contents are updated with every packet sent, and with the slots the client reports
+ * having changed itself when clicking. A full {@link WindowItemsPacket} is only sent when the viewer state is unknown,
+ * or when more than {@link ServerFlag#INVENTORY_SYNC_THRESHOLD} slots differ.
+ */
+final class InventorySync {
+    private final Inventory inventory;
+    private final Map<Player, ViewerState> states = new HashMap<>();
+    private int stateId;
+
+    InventorySync(@NotNull Inventory inventory) {
+        this.inventory = inventory;
+    }
+
+    /**
+     * Gets the state id last sent to a viewer, to be used by packets targeting the window without changing its contents.
+     */
+    synchronized int stateId(@NotNull Player player) {
+        final ViewerState state = states.get(player);
+        return state != null ? state.stateId : 0;
+    }
+
+    /**
+     * Creates the packet updating a slot for all viewers, and updates their known contents.
+     */
+    synchronized @NotNull SetSlotPacket slot(int slot, @NotNull ItemStack itemStack) {
+        final int stateId = nextStateId();
+        for (ViewerState state : states.values()) {
+            state.contents[slot] = itemStack;
+            state.stateId = stateId;
+        }
+        return new SetSlotPacket(inventory.getWindowId(), stateId, (short) slot, itemStack);
+    }
+
+    /**
+     * Applies the slots a client predicted when clicking.
+     * <p>
+     * The viewer is fully resynchronized if the click has been made on an outdated state.
+     */
+    synchronized void predicted(@NotNull Player player, int stateId,
+                                @NotNull List<ClientClickWindowPacket.ChangedSlot> changedSlots) {
+        final ViewerState state = states.get(player);
+        if (state == null) return;
+        if (state.stateId != stateId) {
+            full(player, inventory.getItemStacks());
+            return;
+        }
+        final ItemStack[] contents = state.contents;
+        for (ClientClickWindowPacket.ChangedSlot changedSlot : changedSlots) {
+            final int slot = changedSlot.slot();
+            // Player inventory slots are synchronized separately
+            if (slot >= 0 && slot < contents.length) contents[slot] = changedSlot.item();
+        }
+    }
+
+    /**
+     * Sends the slots that differ from the known contents of each viewer.
+     * <p>
+     * Viewers missing the same slots receive the same packets.
+     */
+    synchronized void sync(@NotNull Collection<Player> viewers) {
+        final ItemStack[] contents = inventory.getItemStacks();
+        Map<BitSet, List<Player>> groups = null;
+        for (Player viewer : viewers) {
+            final ViewerState state = states.get(viewer);
+            if (state == null) {
+                full(viewer, contents);
+                continue;
+            }
+            final BitSet changed = state.diff(contents);
+            if (changed.isEmpty()) continue;
+            if (changed.cardinality() > ServerFlag.INVENTORY_SYNC_THRESHOLD) {
+                full(viewer, contents);
+                continue;
+            }
+            if (groups == null) groups = new HashMap<>();
+            groups.computeIfAbsent(changed, bitSet -> new ArrayList<>()).add(viewer);
+        }
+        if (groups == null) return;
+        for (Map.Entry<BitSet, List<Player>> entry : groups.entrySet()) {
+            final BitSet changed = entry.getKey();
+            final List<Player> players = entry.getValue();
+            final int stateId = nextStateId();
+            for (int slot = changed.nextSetBit(0); slot >= 0; slot = changed.nextSetBit(slot + 1)) {
+                PacketUtils.sendGroupedPacket(players,
+                        new SetSlotPacket(inventory.getWindowId(), stateId, (short) slot, contents[slot]));
+            }
+            for (Player player : players) {
+                final ViewerState state = states.get(player);
+                for (int slot = changed.nextSetBit(0); slot >= 0; slot = changed.nextSetBit(slot + 1)) {
+                    state.contents[slot] = contents[slot];
+                }
+                state.stateId = stateId;
+            }
+        }
+    }
+
+    /**
+     * Forgets the known contents of a viewer, the next synchronization will send all slots.
+     */
+    synchronized void invalidate(@NotNull Player player) {
+        this.states.remove(player);
+    }
+
+    synchronized void invalidateAll() {
+        this.states.clear();
+    }
+
+    private void full(Player player, ItemStack[] contents) {
+        final int stateId = nextStateId();
+        this.states.put(player, new ViewerState(contents.clone(), stateId));
+        player.sendPacket(new WindowItemsPacket(inventory.getWindowId(), stateId,
+                List.of(contents), player.getInventory().getCursorItem()));
+    }
+
+    private int nextStateId() {
+        // Var-int encoded, wrap before becoming negative
+        return this.stateId = (stateId + 1) & Integer.MAX_VALUE;
+    }
+
+    private static final class ViewerState {
+        final ItemStack[] contents;
+        int stateId;
+
+        ViewerState(ItemStack[] contents, int stateId) {
+            this.contents = contents;
+            this.stateId = stateId;
+        }
+
+        BitSet diff(ItemStack[] current) {
+            BitSet changed = new BitSet(current.length);
+            for (int i = 0; i < current.length; i++) {
+                final ItemStack known = contents[i];
+                final ItemStack item = current[i];
+                if (known != item && !known.equals(item)) changed.set(i);
+            }
+            return changed;
+        }
+    }
+}
@@ -128,7 +128,8 @@ public non-sealed class PlayerInventory extends AbstractInventory implements Equ
     protected void sendSlotRefresh(short slot, ItemStack itemStack) {
         var openInventory = player.getOpenInventory();
         if (openInventory != null && slot >= OFFSET && slot < OFFSET + INNER_INVENTORY_SIZE) {
-            this.player.sendPacket(new SetSlotPacket(openInventory.getWindowId(), 0, (short) (slot + openInventory.getSize() - OFFSET), itemStack));
+            this.player.sendPacket(new SetSlotPacket(openInventory.getWindowId(), openInventory.stateId(player),
+                    (short) (slot + openInventory.getSize() - OFFSET), itemStack));
         } else if (openInventory == null || slot == OFFHAND_SLOT) {
             this.player.sendPacket(new SetSlotPacket((byte) 0, 0, slot, itemStack));
         }
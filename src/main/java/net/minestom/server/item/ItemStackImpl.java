@@ -2,6 +2,7 @@ package net.minestom.server.item;
 
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.component.DataComponent;
 import net.minestom.server.component.DataComponentMap;
 import net.minestom.server.item.component.*;
@@ -39,7 +40,9 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
         // max stack size of 64. If we did not do this, #isSimilar would return false for these two items because of
         // their different patches.
         // It is worth noting that the client would handle both cases perfectly fine.
-        components = DataComponentMap.diff(material.prototype(), components);
+        components = ServerFlag.ITEM_COMPONENT_INTERNING ?
+                DataComponentMap.internDiff(material.prototype(), components) :
+                DataComponentMap.diff(material.prototype(), components);
     }
 
     @Override
@@ -65,6 +65,13 @@ public class PlayerPositionListener {
             return;
         }
 
+        if (!EventDispatcher.hasListener(PlayerMoveEvent.class)) {
+            // Same outcome as an unmodified event, without allocating it
+            player.refreshPosition(packetPosition);
+            player.refreshOnGround(onGround);
+            return;
+        }
+
         PlayerMoveEvent playerMoveEvent = new PlayerMoveEvent(player, packetPosition, onGround);
         EventDispatcher.call(playerMoveEvent);
         if (!currentPosition.equals(player.getPosition())) {
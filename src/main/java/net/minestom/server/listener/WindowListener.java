@@ -34,6 +34,12 @@ public class WindowListener {
         if (slot == -1) {
             return;
         }
+
+        // Track the client prediction so that refreshes only correct the wrong slots
+        if (inventory instanceof Inventory openInventory) {
+            openInventory.clientChanges(player, packet.stateId(), packet.changedSlots());
+        }
+
         if (clickType == ClientClickWindowPacket.ClickType.PICKUP) {
             if (button == 0) {
                 if (slot != -999) {
@@ -1,8 +1,5 @@
 package net.minestom.server.listener.preplay;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.MinecraftServer;
@@ -10,6 +7,7 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.extras.MojangAuth;
 import net.minestom.server.extras.bungee.BungeeCordProxy;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.extras.mojangAuth.MojangSessionService;
 import net.minestom.server.extras.velocity.VelocityProxy;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.NetworkBuffer;
@@ -29,20 +27,19 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.crypto.SecretKey;
 import java.math.BigInteger;
-import java.net.*;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
-import java.util.*;
+import java.util.Arrays;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static net.minestom.server.network.NetworkBuffer.STRING;
 
 public final class LoginListener {
     private static final ConnectionManager CONNECTION_MANAGER = MinecraftServer.getConnectionManager();
-    private static final Gson GSON = new Gson();
 
     private static final Component ALREADY_CONNECTED = Component.text("You are already on this server", NamedTextColor.RED);
     private static final Component ERROR_DURING_LOGIN = Component.text("Error during login!", NamedTextColor.RED);
@@ -105,6 +102,8 @@ public final class LoginListener {
                 return;
             }
 
+            final MojangSessionService sessionService = MojangAuth.getSessionService();
+            final long decryptionStart = System.nanoTime();
             final boolean hasPublicKey = connection.playerPublicKey() != null;
             final boolean verificationFailed = hasPublicKey || !Arrays.equals(socketConnection.getNonce(),
                     MojangCrypt.decryptUsingKey(MojangAuth.getKeyPair().getPrivate(), packet.encryptedVerifyToken()));
@@ -114,7 +113,9 @@ public final class LoginListener {
                 return;
             }
 
-            final byte[] digestedData = MojangCrypt.digestData("", MojangAuth.getKeyPair().getPublic(), getSecretKey(packet.sharedSecret()));
+            final SecretKey secretKey = getSecretKey(packet.sharedSecret());
+            final byte[] digestedData = MojangCrypt.digestData("", MojangAuth.getKeyPair().getPublic(), secretKey);
+            sessionService.recordDecryption(System.nanoTime() - decryptionStart);
             if (digestedData == null) {
                 // Incorrect key, probably because of the client
                 MinecraftServer.LOGGER.error("Connection {} failed initializing encryption.", socketConnection.getRemoteAddress());
@@ -123,17 +124,8 @@ public final class LoginListener {
             }
             // Query Mojang's session server.
             final String serverId = new BigInteger(digestedData).toString(16);
-            final String username = URLEncoder.encode(loginUsername, StandardCharsets.UTF_8);
-
-            final String url = String.format(MojangAuth.AUTH_URL, username, serverId);
-            // TODO: Add ability to add ip query tag. See: https://wiki.vg/Protocol_Encryption#Authentication
-
-            final HttpClient client = HttpClient.newHttpClient();
-            final HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
-            client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, throwable) -> {
-                final boolean ok = throwable == null && response.statusCode() == 200 && response.body() != null && !response.body().isEmpty();
-
-                if (!ok) {
+            sessionService.hasJoined(loginUsername, serverId).whenComplete((gameProfile, throwable) -> {
+                if (throwable != null || gameProfile == null) {
                     if (throwable != null) {
                         MinecraftServer.getExceptionManager().handleException(throwable);
                     }
@@ -146,20 +138,10 @@ public final class LoginListener {
                     return;
                 }
                 try {
-                    final JsonObject gameProfile = GSON.fromJson(response.body(), JsonObject.class);
-                    socketConnection.setEncryptionKey(getSecretKey(packet.sharedSecret()));
-                    UUID profileUUID = java.util.UUID.fromString(gameProfile.get("id").getAsString()
-                            .replaceFirst("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})", "$1-$2-$3-$4-$5"));
-                    final String profileName = gameProfile.get("name").getAsString();
-
-                    MinecraftServer.LOGGER.info("UUID of player {} is {}", loginUsername, profileUUID);
-                    CONNECTION_MANAGER.createPlayer(connection, profileUUID, profileName);
-                    List<GameProfile.Property> propertyList = new ArrayList<>();
-                    for (JsonElement element : gameProfile.get("properties").getAsJsonArray()) {
-                        JsonObject object = element.getAsJsonObject();
-                        propertyList.add(new GameProfile.Property(object.get("name").getAsString(), object.get("value").getAsString(), object.get("signature").getAsString()));
-                    }
-                    socketConnection.UNSAFE_setProfile(new GameProfile(profileUUID, profileName, propertyList));
+                    socketConnection.setEncryptionKey(secretKey);
+                    MinecraftServer.LOGGER.info("UUID of player {} is {}", loginUsername, gameProfile.uuid());
+                    CONNECTION_MANAGER.createPlayer(connection, gameProfile.uuid(), gameProfile.name());
+                    socketConnection.UNSAFE_setProfile(gameProfile);
                 } catch (Exception e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
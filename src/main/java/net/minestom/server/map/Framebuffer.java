@@ -25,11 +25,9 @@ public interface Framebuffer {
         } else {
             colors = new byte[width * height];
             final byte[] mapColors = toMapColors();
-            for (int y = minY; y < Math.min(HEIGHT, minY + height); y++) {
-                for (int x = minX; x < Math.min(WIDTH, minX + width); x++) {
-                    byte color = mapColors[index(x, y, WIDTH)];
-                    colors[index(x - minX, y - minY, width)] = color;
-                }
+            final int rowLength = Math.min(WIDTH, minX + width) - minX;
+            for (int y = minY; rowLength > 0 && y < Math.min(HEIGHT, minY + height); y++) {
+                System.arraycopy(mapColors, index(minX, y, WIDTH), colors, index(0, y - minY, width), rowLength);
             }
         }
         return new MapDataPacket(mapId, (byte) 0, false,
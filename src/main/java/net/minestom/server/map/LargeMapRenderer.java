@@ -0,0 +1,71 @@
+package net.minestom.server.map;
+
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders successive frames of a {@link LargeFramebuffer} displayed on a wall of maps,
+ * only sending the dirty rectangles of each map.
+ * <p>
+ * Not thread-safe, a renderer is meant to be used by the thread producing the frames.
+ *
+ * @see MapRenderer
+ */
+public final class LargeMapRenderer {
+    private final int columns;
+    private final int rows;
+    private final MapRenderer[] renderers;
+
+    /**
+     * @param columns the number of maps horizontally
+     * @param rows    the number of maps vertically
+     * @param mapIds  the id of each map, row by row starting from the top left
+     */
+    public LargeMapRenderer(int columns, int rows, int @NotNull ... mapIds) {
+        Check.argCondition(columns <= 0 || rows <= 0, "Invalid wall size: {0}x{1}", columns, rows);
+        Check.argCondition(mapIds.length != columns * rows,
+                "Expected {0} map ids, got {1}", columns * rows, mapIds.length);
+        this.columns = columns;
+        this.rows = rows;
+        this.renderers = new MapRenderer[mapIds.length];
+        for (int i = 0; i < mapIds.length; i++) {
+            this.renderers[i] = new MapRenderer(mapIds[i]);
+        }
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Makes the next frame send all the maps.
+     */
+    public void reset() {
+        for (MapRenderer renderer : renderers) renderer.reset();
+    }
+
+    /**
+     * Renders a frame.
+     *
+     * @param framebuffer the frame, its top left corner is displayed on the first map
+     * @return the packets to send, empty if nothing changed
+     */
+    public @NotNull List<MapDataPacket> render(@NotNull LargeFramebuffer framebuffer) {
+        List<MapDataPacket> packets = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                final MapRenderer renderer = renderers[row * columns + column];
+                packets.addAll(renderer.render(framebuffer, column * Framebuffer.WIDTH, row * Framebuffer.HEIGHT));
+            }
+        }
+        return packets;
+    }
+}
@@ -77,6 +77,9 @@ public enum MapColors {
     private static final ConcurrentHashMap<Integer, PreciseMapColor> rgbMap = new ConcurrentHashMap<>();
     // only used if mappingStrategy == ColorMappingStrategy.PRECISE
     private static volatile PreciseMapColor[] rgbArray = null;
+    // palette index per lookup key, split in pages of 65536 entries allocated on first use
+    // 0 means not computed yet, as NONE is never the closest color
+    private static final byte[][] indexPages = new byte[256][];
 
     private static final ColorMappingStrategy mappingStrategy;
     private static final int colorReduction;
@@ -209,6 +212,42 @@ public enum MapColors {
         return rgbMap.computeIfAbsent(noAlpha, MapColors::mapColor);
     }
 
+    /**
+     * Returns the palette index of the closest color, same as {@code closestColor(argb).getIndex()}.
+     * <p>
+     * Results are cached in a byte lookup table covering the RGB space (reduced with the APPROXIMATE strategy),
+     * making repeated conversions a single array read without allocation.
+     *
+     * @param argb the color, alpha is ignored
+     * @return the map color index
+     */
+    public static byte closestColorIndex(int argb) {
+        final int key = lookupKey(argb & 0xFFFFFF);
+        byte[] page = indexPages[key >>> 16];
+        if (page == null) {
+            // Racing threads may both allocate the page, the values are deterministic
+            page = new byte[1 << 16];
+            indexPages[key >>> 16] = page;
+        }
+        byte index = page[key & 0xFFFF];
+        if (index == 0) {
+            index = closestColor(argb).getIndex();
+            page[key & 0xFFFF] = index;
+        }
+        return index;
+    }
+
+    private static int lookupKey(int rgb) {
+        if (mappingStrategy != ColorMappingStrategy.APPROXIMATE) return rgb;
+        // Pack the reduced components densely, they share the same closest color
+        final int reduction = Math.max(1, colorReduction);
+        final int size = 255 / reduction + 1;
+        final int red = ((rgb >> 16) & 0xFF) / reduction;
+        final int green = ((rgb >> 8) & 0xFF) / reduction;
+        final int blue = (rgb & 0xFF) / reduction;
+        return (red * size + green) * size + blue;
+    }
+
     private static int reduceColor(int rgb) {
         int red = (rgb >> 16) & 0xFF;
         int green = (rgb >> 8) & 0xFF;
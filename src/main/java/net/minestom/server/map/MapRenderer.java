@@ -0,0 +1,126 @@
+package net.minestom.server.map;
+
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static net.minestom.server.map.Framebuffer.HEIGHT;
+import static net.minestom.server.map.Framebuffer.WIDTH;
+
+/**
+ * Renders successive frames of a map, only sending what changed since the previous frame.
+ * <p>
+ * Each frame is compared to the previous one, and one {@link MapDataPacket} is created per dirty rectangle.
+ * Close dirty rows are merged in the same rectangle when sending the unchanged pixels between them is cheaper
+ * than another packet.
+ * <p>
+ * Not thread-safe, a renderer is meant to be used by the thread producing the frames.
+ *
+ * @see LargeMapRenderer
+ */
+public final class MapRenderer {
+    // Approximate size of a color content packet without its colors
+    private static final int PACKET_OVERHEAD = 16;
+
+    private final int mapId;
+    private final byte[] previous = new byte[WIDTH * HEIGHT];
+    private final byte[] current = new byte[WIDTH * HEIGHT];
+    private boolean rendered;
+
+    public MapRenderer(int mapId) {
+        this.mapId = mapId;
+    }
+
+    public int mapId() {
+        return mapId;
+    }
+
+    /**
+     * Makes the next frame send the whole map, for example when new players start viewing it.
+     */
+    public void reset() {
+        this.rendered = false;
+    }
+
+    /**
+     * Renders a frame.
+     *
+     * @param framebuffer the frame
+     * @return the packets to send, empty if nothing changed
+     */
+    public @NotNull List<MapDataPacket> render(@NotNull Framebuffer framebuffer) {
+        System.arraycopy(framebuffer.toMapColors(), 0, current, 0, current.length);
+        return diff();
+    }
+
+    /**
+     * Renders the 128x128 sub view of a large frame.
+     *
+     * @param framebuffer the frame
+     * @param left        the left of the sub view
+     * @param top         the top of the sub view
+     * @return the packets to send, empty if nothing changed
+     */
+    public @NotNull List<MapDataPacket> render(@NotNull LargeFramebuffer framebuffer, int left, int top) {
+        Arrays.fill(current, (byte) 0);
+        framebuffer.copyMapColors(left, top, current);
+        return diff();
+    }
+
+    private List<MapDataPacket> diff() {
+        final byte[] previous = this.previous;
+        final byte[] current = this.current;
+        if (!rendered) {
+            this.rendered = true;
+            System.arraycopy(current, 0, previous, 0, current.length);
+            return List.of(packet(0, 0, WIDTH, HEIGHT));
+        }
+        List<MapDataPacket> packets = List.of();
+        // Current rectangle, inclusive
+        int top = -1, bottom = -1, left = 0, right = 0;
+        for (int y = 0; y < HEIGHT; y++) {
+            final int row = Framebuffer.index(0, y);
+            final int first = Arrays.mismatch(previous, row, row + WIDTH, current, row, row + WIDTH);
+            if (first == -1) continue;
+            int last = WIDTH - 1;
+            while (previous[row + last] == current[row + last]) last--;
+            if (top != -1) {
+                final int mergedArea = (y - top + 1) * (Math.max(right, last) - Math.min(left, first) + 1);
+                final int separateArea = (bottom - top + 1) * (right - left + 1) + (last - first + 1);
+                if (mergedArea - separateArea <= PACKET_OVERHEAD) {
+                    bottom = y;
+                    left = Math.min(left, first);
+                    right = Math.max(right, last);
+                    continue;
+                }
+                if (packets.isEmpty()) packets = new ArrayList<>();
+                packets.add(packet(left, top, right - left + 1, bottom - top + 1));
+            }
+            top = y;
+            bottom = y;
+            left = first;
+            right = last;
+        }
+        if (top != -1) {
+            if (packets.isEmpty()) packets = new ArrayList<>(1);
+            packets.add(packet(left, top, right - left + 1, bottom - top + 1));
+        }
+        System.arraycopy(current, 0, previous, 0, current.length);
+        return packets;
+    }
+
+    private MapDataPacket packet(int x, int y, int width, int height) {
+        byte[] colors = new byte[width * height];
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(current, Framebuffer.index(x, y + row), colors, row * width, width);
+        }
+        return new MapDataPacket(mapId, (byte) 0, false,
+                false, List.of(),
+                new MapDataPacket.ColorContent((byte) width, (byte) height,
+                        (byte) x, (byte) y,
+                        colors));
+    }
+}
@@ -13,6 +13,9 @@ import java.awt.image.DataBufferInt;
 public class Graphics2DFramebuffer implements Framebuffer {
 
     private final byte[] colors = new byte[WIDTH * HEIGHT];
+    // pixels converted by the last #toMapColors call, only the changed ones are converted again
+    private final int[] convertedPixels = new int[WIDTH * HEIGHT];
+    private boolean converted;
     private final BufferedImage backingImage = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
     private final Graphics2D renderer;
     private final int[] pixels;
@@ -41,12 +44,16 @@ public class Graphics2DFramebuffer implements Framebuffer {
 
     @Override
     public byte[] toMapColors() {
-        // TODO: update subparts only
-        for (int x = 0; x < 128; x++) {
-            for (int z = 0; z < 128; z++) {
-                colors[Framebuffer.index(x, z)] = MapColors.closestColor(get(x, z)).getIndex();
-            }
+        final int[] pixels = this.pixels;
+        final int[] convertedPixels = this.convertedPixels;
+        final boolean converted = this.converted;
+        for (int i = 0; i < pixels.length; i++) {
+            final int pixel = pixels[i];
+            if (converted && convertedPixels[i] == pixel) continue;
+            colors[i] = MapColors.closestColorIndex(pixel);
+            convertedPixels[i] = pixel;
         }
+        this.converted = true;
         return colors;
     }
 }
@@ -4,6 +4,9 @@ import net.minestom.server.map.Framebuffer;
 import net.minestom.server.map.LargeFramebuffer;
 import net.minestom.server.map.MapColors;
 
+import static net.minestom.server.map.Framebuffer.HEIGHT;
+import static net.minestom.server.map.Framebuffer.WIDTH;
+
 /**
  * {@link LargeFramebuffer} with direct access to the colors array.
  * <p>
@@ -56,6 +59,19 @@ public class LargeDirectFramebuffer implements LargeFramebuffer {
         return colors[y * width + x];
     }
 
+    @Override
+    public void copyMapColors(int left, int top, byte[] colors) {
+        if (left < 0 || top < 0) {
+            LargeFramebuffer.super.copyMapColors(left, top, colors);
+            return;
+        }
+        final int rowLength = Math.min(width, left + WIDTH) - left;
+        final int height = Math.min(this.height, top + HEIGHT) - top;
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(this.colors, (top + y) * width + left, colors, Framebuffer.index(0, y), rowLength);
+        }
+    }
+
     private boolean bounds(int x, int y) {
         return x >= 0 && x < width && y >= 0 && y < height;
     }
@@ -4,6 +4,8 @@ import net.minestom.server.map.Framebuffer;
 import net.minestom.server.map.LargeFramebuffer;
 import net.minestom.server.map.MapColors;
 
+import java.util.Arrays;
+
 public class LargeFramebufferDefaultView implements Framebuffer {
     private final LargeFramebuffer parent;
     private final int x;
@@ -27,6 +29,13 @@ public class LargeFramebufferDefaultView implements Framebuffer {
 
     @Override
     public byte[] toMapColors() {
+        if (this.x >= 0 && this.y >= 0) {
+            if (this.x + WIDTH > parent.width() || this.y + HEIGHT > parent.height()) {
+                Arrays.fill(colors, MapColors.NONE.baseColor());
+            }
+            parent.copyMapColors(this.x, this.y, colors);
+            return colors;
+        }
         for (int y = 0; y < HEIGHT; y++) {
             for (int x = 0; x < WIDTH; x++) {
                 colors[Framebuffer.index(x, y)] = colorOrNone(x+this.x, y+this.y);
@@ -62,6 +62,22 @@ public class LargeGraphics2DFramebuffer implements LargeFramebuffer {
 
     @Override
     public byte getMapColor(int x, int y) {
-        return MapColors.closestColor(get(x, y)).getIndex();
+        return MapColors.closestColorIndex(get(x, y));
+    }
+
+    @Override
+    public void copyMapColors(int left, int top, byte[] colors) {
+        if (left < 0 || top < 0) {
+            LargeFramebuffer.super.copyMapColors(left, top, colors);
+            return;
+        }
+        final int right = Math.min(width, left + Framebuffer.WIDTH);
+        final int bottom = Math.min(height, top + Framebuffer.HEIGHT);
+        for (int y = top; y < bottom; y++) {
+            final int row = y * width;
+            for (int x = left; x < right; x++) {
+                colors[Framebuffer.index(x - left, y - top)] = MapColors.closestColorIndex(pixels[row + x]);
+            }
+        }
     }
 }
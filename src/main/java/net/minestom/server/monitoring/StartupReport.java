@@ -0,0 +1,92 @@
+package net.minestom.server.monitoring;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Time spent initializing each registry and subsystem of a {@link net.minestom.server.ServerProcess}.
+ * <p>
+ * Registries loaded lazily are appended when first accessed.
+ */
+public final class StartupReport {
+    private final ConcurrentLinkedQueue<Entry> entries = new ConcurrentLinkedQueue<>();
+    private final long startNanos = System.nanoTime();
+    private volatile long totalNanos = -1;
+
+    public enum Category {
+        STATIC_REGISTRY, DYNAMIC_REGISTRY, SUBSYSTEM
+    }
+
+    /**
+     * A single timed initialization step.
+     *
+     * @param name          the registry or subsystem name
+     * @param category      the kind of step
+     * @param durationNanos the time spent in the step
+     * @param thread        the name of the thread which ran the step
+     * @param lazy          whether the step ran on first access, after the process was created
+     */
+    public record Entry(@NotNull String name, @NotNull Category category, long durationNanos,
+                        @NotNull String thread, boolean lazy) {
+    }
+
+    @ApiStatus.Internal
+    public StartupReport() {
+    }
+
+    @ApiStatus.Internal
+    public <T> T time(@NotNull String name, @NotNull Category category, @NotNull Supplier<T> supplier) {
+        final long start = System.nanoTime();
+        final T value = supplier.get();
+        this.entries.add(new Entry(name, category, System.nanoTime() - start,
+                Thread.currentThread().getName(), totalNanos != -1));
+        return value;
+    }
+
+    @ApiStatus.Internal
+    public void complete() {
+        this.totalNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Gets the steps in completion order.
+     *
+     * @return a copy of the steps
+     */
+    public @NotNull List<@NotNull Entry> entries() {
+        return List.copyOf(entries);
+    }
+
+    /**
+     * Gets the wall clock time spent creating the process, excluding lazy steps.
+     *
+     * @return the total time in nanoseconds, or -1 if the process is still being created
+     */
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        List<Entry> entries = new ArrayList<>(this.entries);
+        StringBuilder builder = new StringBuilder("Startup report (total ")
+                .append(formatMillis(totalNanos)).append("):");
+        for (Entry entry : entries) {
+            builder.append(System.lineSeparator())
+                    .append(String.format(Locale.ROOT, "  %-16s %-32s %10s  [%s]%s",
+                            entry.category(), entry.name(), formatMillis(entry.durationNanos()),
+                            entry.thread(), entry.lazy() ? " (lazy)" : ""));
+        }
+        return builder.toString();
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1e6D);
+    }
+}
@@ -0,0 +1,136 @@
+package net.minestom.server.network;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Shares a server-wide budget of chunk data sent each tick between players.
+ * <p>
+ * Each player waiting for chunks receives a share of the budget proportional to its weight, based on the players
+ * that requested chunks during the previous tick. Unused shares accumulate while the player keeps waiting,
+ * so that chunks larger than a single share are eventually sent, up to the size of the next chunk
+ * (see {@link #capCredit(long, long, long)}).
+ * <p>
+ * Disabled unless {@link ServerFlag#CHUNK_BANDWIDTH_PER_TICK} is set.
+ */
+@ApiStatus.Experimental
+public final class BandwidthScheduler {
+    // Used when the size of a chunk packet is not known without encoding it
+    private static final int ESTIMATED_PACKET_SIZE = 16_384;
+
+    private final long budget;
+    private final AtomicLong remaining = new AtomicLong();
+    private final DoubleAdder demand = new DoubleAdder();
+    private volatile double activeWeight;
+
+    BandwidthScheduler(long budget) {
+        this.budget = budget;
+        this.remaining.set(budget);
+    }
+
+    /**
+     * Gets if the bandwidth is limited.
+     *
+     * @return true if a budget is set
+     */
+    public boolean isLimited() {
+        return budget > 0;
+    }
+
+    /**
+     * Gets the number of bytes shared between players each tick.
+     *
+     * @return the budget in bytes per tick, 0 if unlimited
+     */
+    public long budget() {
+        return budget;
+    }
+
+    /**
+     * Gets the number of bytes left in the budget of the current tick.
+     *
+     * @return the remaining bytes, negative when the previous tick went over budget
+     */
+    public long remaining() {
+        return remaining.get();
+    }
+
+    /**
+     * Starts a new tick, refilling the budget.
+     */
+    @ApiStatus.Internal
+    public void tick() {
+        if (!isLimited()) return;
+        this.activeWeight = demand.sumThenReset();
+        // Bytes sent over budget are taken from the next tick
+        long current;
+        do {
+            current = remaining.get();
+        } while (!remaining.compareAndSet(current, budget + Math.min(0, current)));
+    }
+
+    /**
+     * Gets the share of a player for the current tick, and registers it for the next one.
+     *
+     * @param weight the player weight
+     * @return the number of bytes the player can send
+     */
+    public long share(double weight) {
+        if (weight <= 0) return 0;
+        this.demand.add(weight);
+        return (long) (budget * weight / Math.max(activeWeight, weight));
+    }
+
+    /**
+     * Takes bytes from the budget of the current tick.
+     * <p>
+     * Succeeds as long as the budget is not exhausted, possibly going over it.
+     *
+     * @param bytes the number of bytes to send
+     * @return true if the bytes can be sent
+     */
+    public boolean tryAcquire(long bytes) {
+        long current;
+        do {
+            current = remaining.get();
+            if (current <= 0) return false;
+        } while (!remaining.compareAndSet(current, current - bytes));
+        return true;
+    }
+
+    /**
+     * Caps the credit of a player that could not send its next packet.
+     * <p>
+     * Shares keep accumulating until the packet fits, but not past it, so that players waiting for
+     * the server budget do not build up credit to send in a burst later.
+     *
+     * @param credit     the bytes the player can send
+     * @param share      the share of the player for the current tick
+     * @param packetSize the size of the packet waiting to be sent, 0 if it was not refused
+     * @return the capped credit
+     */
+    public static long capCredit(long credit, long share, long packetSize) {
+        return Math.min(credit, Math.max(share, packetSize));
+    }
+
+    /**
+     * Gets the number of bytes a packet takes once sent.
+     *
+     * @param packet the packet
+     * @return the size of the encoded packet, or an estimate if not cached
+     */
+    public static long packetSize(@NotNull SendablePacket packet) {
+        if (packet instanceof CachedPacket cached) {
+            final ByteBuffer body = cached.body(ConnectionState.PLAY);
+            if (body != null) return body.remaining();
+        }
+        return ESTIMATED_PACKET_SIZE;
+    }
+}
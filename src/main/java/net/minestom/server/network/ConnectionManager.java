@@ -66,6 +66,11 @@ public final class ConnectionManager {
     private final CachedPacket resetChatPacket = new CachedPacket(new ResetChatPacket());
 
 
+    // Maximum number of non-movement packets processed per player each tick
+    private volatile int packetBudget = ServerFlag.PLAYER_PACKET_PER_TICK;
+    // Chunk data shared between all players each tick
+    private final BandwidthScheduler bandwidthScheduler = new BandwidthScheduler(ServerFlag.CHUNK_BANDWIDTH_PER_TICK);
+
     // The uuid provider once a player login
     private volatile UuidProvider uuidProvider = (playerConnection, username) -> UUID.randomUUID();
     // The player provider to have your own Player implementation
@@ -359,6 +364,9 @@ public final class ConnectionManager {
     }
 
     public void tick(long tickStart) {
+        // Refill the chunk bandwidth before players send their chunks
+        bandwidthScheduler.tick();
+
         // Let waiting players into their instances
         updateWaitingPlayers();
 
@@ -369,6 +377,47 @@ public final class ConnectionManager {
         configurationPlayers.forEach(Player::interpretPacketQueue);
     }
 
+    /**
+     * Gets the number of packets each player can process during the current tick.
+     * <p>
+     * Equal to {@link ServerFlag#PLAYER_PACKET_PER_TICK}, unless {@link ServerFlag#PLAYER_PACKET_ADAPTIVE_BUDGET}
+     * is enabled, in which case it grows up to {@link ServerFlag#PLAYER_PACKET_PER_TICK_MAX} with the headroom left
+     * by the previous tick.
+     *
+     * @return the per-player packet budget
+     */
+    public int getPacketBudget() {
+        return packetBudget;
+    }
+
+    /**
+     * Gets the scheduler sharing the chunk bandwidth between players.
+     *
+     * @return the bandwidth scheduler
+     * @see ServerFlag#CHUNK_BANDWIDTH_PER_TICK
+     */
+    @ApiStatus.Experimental
+    public @NotNull BandwidthScheduler getBandwidthScheduler() {
+        return bandwidthScheduler;
+    }
+
+    /**
+     * Adapts the packet budget to the duration of the last tick.
+     *
+     * @param tickTimeMs the duration of the last tick
+     */
+    @ApiStatus.Internal
+    public void updatePacketBudget(double tickTimeMs) {
+        if (!ServerFlag.PLAYER_PACKET_ADAPTIVE_BUDGET) return;
+        final int min = ServerFlag.PLAYER_PACKET_PER_TICK;
+        final int max = Math.max(min, ServerFlag.PLAYER_PACKET_PER_TICK_MAX);
+        final double headroom = Math.clamp(1 - tickTimeMs / MinecraftServer.TICK_MS, 0, 1);
+        final int target = min + (int) ((max - min) * headroom);
+        // Shrink immediately when the tick is late, grow back gradually
+        final int current = this.packetBudget;
+        this.packetBudget = target <= current ? target : current + Math.max(1, (target - current) / 4);
+    }
+
     /**
      * Connects waiting players.
      */
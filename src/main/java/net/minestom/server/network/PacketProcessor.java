@@ -9,6 +9,7 @@ import net.minestom.server.network.player.PlayerConnection;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Responsible for processing client packets.
@@ -34,6 +35,11 @@ public class PacketProcessor {
     }
 
     public @NotNull ClientPacket create(@NotNull ConnectionState connectionState, int packetId, ByteBuffer body) {
+        if (connectionState == ConnectionState.PLAY) {
+            // Fast path for movement packets, read straight from the frame
+            final ClientPacket directPacket = playHandler.createDirect(packetId, body.order(ByteOrder.BIG_ENDIAN));
+            if (directPacket != null) return directPacket;
+        }
         NetworkBuffer buffer = new NetworkBuffer(body);
         final ClientPacket clientPacket = switch (connectionState) {
             case HANDSHAKE -> {
@@ -12,8 +12,11 @@ import net.minestom.server.network.packet.client.play.*;
 import net.minestom.server.network.packet.client.status.StatusRequestPacket;
 import net.minestom.server.utils.collection.ObjectArray;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
+import java.nio.ByteBuffer;
+
 /**
  * Contains registered packets and a way to instantiate them.
  * <p>
@@ -21,6 +24,7 @@ import org.jetbrains.annotations.UnknownNullability;
  */
 public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, ClientPacketsHandler.Login, ClientPacketsHandler.Configuration, ClientPacketsHandler.Play {
     private final ObjectArray<NetworkBuffer.Reader<ClientPacket>> suppliers = ObjectArray.singleThread(0x10);
+    private final ObjectArray<DirectReader> directSuppliers = ObjectArray.singleThread(0x10);
 
     private ClientPacketsHandler() {
     }
@@ -29,6 +33,15 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
         this.suppliers.set(id, packetSupplier);
     }
 
+    /**
+     * Registers a packet which can also be decoded straight from the frame, used for the most frequent packets.
+     */
+    public void register(int id, @NotNull NetworkBuffer.Reader<ClientPacket> packetSupplier,
+                         @NotNull DirectReader directSupplier) {
+        register(id, packetSupplier);
+        this.directSuppliers.set(id, directSupplier);
+    }
+
     public @UnknownNullability ClientPacket create(int packetId, @NotNull NetworkBuffer reader) {
         final NetworkBuffer.Reader<ClientPacket> supplier = suppliers.get(packetId);
         if (supplier == null)
@@ -36,6 +49,23 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
         return supplier.read(reader);
     }
 
+    /**
+     * Decodes a packet without wrapping its body in a {@link NetworkBuffer}.
+     *
+     * @param packetId the packet id
+     * @param body     the packet body, in big-endian order, its position is advanced past the packet
+     * @return the packet, or null if it has no direct reader
+     */
+    public @Nullable ClientPacket createDirect(int packetId, @NotNull ByteBuffer body) {
+        final DirectReader supplier = directSuppliers.get(packetId);
+        return supplier != null ? supplier.read(body) : null;
+    }
+
+    @FunctionalInterface
+    public interface DirectReader {
+        @NotNull ClientPacket read(@NotNull ByteBuffer body);
+    }
+
     public static final class Status extends ClientPacketsHandler {
         private static int nextId = 0;
         private static int nextId() {
@@ -116,10 +146,10 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
             register(nextId(), ClientGenerateStructurePacket::new);
             register(nextId(), ClientKeepAlivePacket::new);
             nextId(); // lock difficulty
-            register(nextId(), ClientPlayerPositionPacket::new);
-            register(nextId(), ClientPlayerPositionAndRotationPacket::new);
-            register(nextId(), ClientPlayerRotationPacket::new);
-            register(nextId(), ClientPlayerPacket::new);
+            register(nextId(), ClientPlayerPositionPacket::new, ClientPlayerPositionPacket::read);
+            register(nextId(), ClientPlayerPositionAndRotationPacket::new, ClientPlayerPositionAndRotationPacket::read);
+            register(nextId(), ClientPlayerRotationPacket::new, ClientPlayerRotationPacket::read);
+            register(nextId(), ClientPlayerPacket::new, ClientPlayerPacket::read);
             register(nextId(), ClientVehicleMovePacket::new);
             register(nextId(), ClientSteerBoatPacket::new);
             register(nextId(), ClientPickItemPacket::new);
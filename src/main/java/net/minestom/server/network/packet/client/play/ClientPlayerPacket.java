@@ -2,15 +2,29 @@ package net.minestom.server.network.packet.client.play;
 
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+
 import static net.minestom.server.network.NetworkBuffer.BOOLEAN;
 
 public record ClientPlayerPacket(boolean onGround) implements ClientPacket {
+    private static final ClientPlayerPacket ON_GROUND = new ClientPlayerPacket(true);
+    private static final ClientPlayerPacket NOT_ON_GROUND = new ClientPlayerPacket(false);
+
     public ClientPlayerPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(BOOLEAN));
     }
 
+    /**
+     * Decodes the packet as a shared instance, as it only holds a single boolean.
+     */
+    @ApiStatus.Internal
+    public static @NotNull ClientPlayerPacket read(@NotNull ByteBuffer buffer) {
+        return buffer.get() == 1 ? ON_GROUND : NOT_ON_GROUND;
+    }
+
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(BOOLEAN, onGround);
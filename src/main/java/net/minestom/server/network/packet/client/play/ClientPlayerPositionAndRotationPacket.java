@@ -3,8 +3,11 @@ package net.minestom.server.network.packet.client.play;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+
 import static net.minestom.server.network.NetworkBuffer.*;
 
 public record ClientPlayerPositionAndRotationPacket(@NotNull Pos position,
@@ -14,6 +17,12 @@ public record ClientPlayerPositionAndRotationPacket(@NotNull Pos position,
                 reader.read(FLOAT), reader.read(FLOAT)), reader.read(BOOLEAN));
     }
 
+    @ApiStatus.Internal
+    public static @NotNull ClientPlayerPositionAndRotationPacket read(@NotNull ByteBuffer buffer) {
+        return new ClientPlayerPositionAndRotationPacket(new Pos(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                buffer.getFloat(), buffer.getFloat()), buffer.get() == 1);
+    }
+
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(DOUBLE, position.x());
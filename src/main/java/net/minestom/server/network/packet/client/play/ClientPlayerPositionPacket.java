@@ -4,8 +4,11 @@ import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+
 import static net.minestom.server.network.NetworkBuffer.BOOLEAN;
 import static net.minestom.server.network.NetworkBuffer.DOUBLE;
 
@@ -16,6 +19,12 @@ public record ClientPlayerPositionPacket(@NotNull Point position,
                 reader.read(BOOLEAN));
     }
 
+    @ApiStatus.Internal
+    public static @NotNull ClientPlayerPositionPacket read(@NotNull ByteBuffer buffer) {
+        return new ClientPlayerPositionPacket(new Vec(buffer.getDouble(), buffer.getDouble(), buffer.getDouble()),
+                buffer.get() == 1);
+    }
+
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(DOUBLE, position.x());
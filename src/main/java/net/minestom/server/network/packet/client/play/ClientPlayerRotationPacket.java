@@ -2,8 +2,11 @@ package net.minestom.server.network.packet.client.play;
 
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+
 import static net.minestom.server.network.NetworkBuffer.BOOLEAN;
 import static net.minestom.server.network.NetworkBuffer.FLOAT;
 
@@ -12,6 +15,11 @@ public record ClientPlayerRotationPacket(float yaw, float pitch, boolean onGroun
         this(reader.read(FLOAT), reader.read(FLOAT), reader.read(BOOLEAN));
     }
 
+    @ApiStatus.Internal
+    public static @NotNull ClientPlayerRotationPacket read(@NotNull ByteBuffer buffer) {
+        return new ClientPlayerRotationPacket(buffer.getFloat(), buffer.getFloat(), buffer.get() == 1);
+    }
+
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(FLOAT, yaw);
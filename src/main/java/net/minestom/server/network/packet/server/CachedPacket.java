@@ -57,6 +57,15 @@ public final class CachedPacket implements SendablePacket {
         return cache;
     }
 
+    /**
+     * Shares the cached packet of another cache, until either is invalidated.
+     *
+     * @param other the cache to share the packet of
+     */
+    public void share(@NotNull CachedPacket other) {
+        this.packet = other.packet;
+    }
+
     public boolean isValid() {
         return packet != null && packet.get() != null;
     }
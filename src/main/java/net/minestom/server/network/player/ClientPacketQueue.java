@@ -0,0 +1,179 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
+import org.jctools.queues.MpscArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Packets received from a player, waiting to be processed in its tick.
+ * <p>
+ * In adaptive mode ({@link ServerFlag#PLAYER_PACKET_ADAPTIVE_BUDGET}), movement packets are always processed and do not consume
+ * the tick budget, and consecutive movement packets (e.g. flushed in a burst by a lagging client) are merged into
+ * a single packet holding the latest state. Packets are still processed in reception order.
+ */
+@ApiStatus.Internal
+public final class ClientPacketQueue {
+    private final MpscArrayQueue<ClientPacket> packets;
+    private final int capacity;
+    private final boolean adaptive;
+
+    // Movement run being coalesced
+    private ClientPacket firstMovement;
+    private int movementCount;
+    private double x, y, z;
+    private float yaw, pitch;
+    private boolean hasPosition, hasRotation, onGround;
+
+    // Metrics, only written by the consumer thread
+    private volatile int lastDepth, peakDepth, lastBudget;
+    private volatile long processed, coalesced;
+
+    public ClientPacketQueue(int capacity, boolean adaptive) {
+        this.packets = new MpscArrayQueue<>(capacity);
+        this.capacity = packets.capacity();
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Adds a packet to the queue, can be called from any thread.
+     *
+     * @param packet the received packet
+     * @return false if the queue is full
+     */
+    public boolean offer(@NotNull ClientPacket packet) {
+        return packets.offer(packet);
+    }
+
+    /**
+     * Discards the waiting packets. This method is NOT thread-safe.
+     */
+    public void clear() {
+        packets.clear();
+        this.firstMovement = null;
+        this.movementCount = 0;
+        this.hasPosition = false;
+        this.hasRotation = false;
+    }
+
+    /**
+     * Processes the waiting packets. This method is NOT thread-safe.
+     *
+     * @param manager    the listener manager handling the packets
+     * @param connection the player connection
+     * @param budget     the maximum number of non-movement packets to process
+     */
+    public void process(@NotNull PacketListenerManager manager, @NotNull PlayerConnection connection, int budget) {
+        final int depth = packets.size();
+        this.lastDepth = depth;
+        if (depth > peakDepth) this.peakDepth = depth;
+        this.lastBudget = budget;
+        if (depth == 0) return;
+
+        if (!adaptive) {
+            final int count = packets.drain(packet -> manager.processClientPacket(packet, connection), budget);
+            this.processed += count;
+            return;
+        }
+
+        int remaining = budget;
+        // Bound the loop in case the client sends movement faster than we process it
+        int limit = capacity;
+        ClientPacket packet;
+        while (limit-- > 0 && (packet = packets.peek()) != null) {
+            if (isMovement(packet)) {
+                packets.poll();
+                appendMovement(packet);
+                continue;
+            }
+            if (remaining == 0) break;
+            flushMovement(manager, connection);
+            packets.poll();
+            remaining--;
+            manager.processClientPacket(packet, connection);
+            this.processed++;
+        }
+        flushMovement(manager, connection);
+    }
+
+    /**
+     * Gets the queue metrics.
+     *
+     * @return a snapshot of the metrics
+     */
+    public @NotNull PacketQueueMetrics metrics() {
+        return new PacketQueueMetrics(packets.size(), lastDepth, peakDepth, capacity, lastBudget, processed, coalesced);
+    }
+
+    private static boolean isMovement(ClientPacket packet) {
+        return packet instanceof ClientPlayerPositionPacket || packet instanceof ClientPlayerPositionAndRotationPacket ||
+                packet instanceof ClientPlayerRotationPacket || packet instanceof ClientPlayerPacket;
+    }
+
+    private void appendMovement(ClientPacket packet) {
+        if (movementCount++ == 0) this.firstMovement = packet;
+        switch (packet) {
+            case ClientPlayerPositionPacket position -> {
+                setPosition(position.position().x(), position.position().y(), position.position().z());
+                this.onGround = position.onGround();
+            }
+            case ClientPlayerPositionAndRotationPacket positionAndRotation -> {
+                final Pos pos = positionAndRotation.position();
+                setPosition(pos.x(), pos.y(), pos.z());
+                setRotation(pos.yaw(), pos.pitch());
+                this.onGround = positionAndRotation.onGround();
+            }
+            case ClientPlayerRotationPacket rotation -> {
+                setRotation(rotation.yaw(), rotation.pitch());
+                this.onGround = rotation.onGround();
+            }
+            case ClientPlayerPacket status -> this.onGround = status.onGround();
+            default -> throw new IllegalStateException("Unexpected movement packet: " + packet);
+        }
+    }
+
+    private void setPosition(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.hasPosition = true;
+    }
+
+    private void setRotation(float yaw, float pitch) {
+        this.yaw = yaw;
+        this.pitch = pitch;
+        this.hasRotation = true;
+    }
+
+    private void flushMovement(PacketListenerManager manager, PlayerConnection connection) {
+        final int count = this.movementCount;
+        if (count == 0) return;
+        final ClientPacket packet;
+        if (count == 1) {
+            packet = firstMovement;
+        } else if (hasPosition && hasRotation) {
+            packet = new ClientPlayerPositionAndRotationPacket(new Pos(x, y, z, yaw, pitch), onGround);
+        } else if (hasPosition) {
+            packet = new ClientPlayerPositionPacket(new Vec(x, y, z), onGround);
+        } else if (hasRotation) {
+            packet = new ClientPlayerRotationPacket(yaw, pitch, onGround);
+        } else {
+            packet = new ClientPlayerPacket(onGround);
+        }
+        this.firstMovement = null;
+        this.movementCount = 0;
+        this.hasPosition = false;
+        this.hasRotation = false;
+        this.processed++;
+        this.coalesced += count - 1;
+        manager.processClientPacket(packet, connection);
+    }
+}
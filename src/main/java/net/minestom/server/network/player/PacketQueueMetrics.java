@@ -0,0 +1,16 @@
+package net.minestom.server.network.player;
+
+/**
+ * Snapshot of a player packet queue.
+ *
+ * @param depth      the number of packets currently waiting
+ * @param lastDepth  the number of packets waiting at the start of the last processing
+ * @param peakDepth  the highest number of packets waiting at the start of a processing
+ * @param capacity   the maximum number of packets waiting before the player is kicked
+ * @param lastBudget the packet budget of the last processing
+ * @param processed  the total number of packets processed
+ * @param coalesced  the total number of movement packets merged into another
+ */
+public record PacketQueueMetrics(int depth, int lastDepth, int peakDepth, int capacity, int lastBudget,
+                                 long processed, long coalesced) {
+}
@@ -1,6 +1,7 @@
 package net.minestom.server.network.player;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
@@ -13,7 +14,7 @@ import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket
 import net.minestom.server.network.packet.server.*;
 import net.minestom.server.network.packet.server.login.SetCompressionPacket;
 import net.minestom.server.network.socket.Worker;
-import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.BufferArena;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import net.minestom.server.utils.validate.Check;
@@ -44,7 +45,9 @@ import java.util.zip.DataFormatException;
 @ApiStatus.Internal
 public class PlayerSocketConnection extends PlayerConnection {
     private final static Logger LOGGER = LoggerFactory.getLogger(PlayerSocketConnection.class);
-    private static final ObjectPool<BinaryBuffer> POOL = ObjectPool.BUFFER_POOL;
+    private static final BufferArena ARENA = BufferArena.NETWORK;
+    // Size of the first buffer of a tick, the following ones grow up to the pooled buffer size when there is a backlog
+    private static final int INITIAL_BUFFER_SIZE = 16_384;
 
     private final Worker worker;
     private final MessagePassingQueue<Runnable> workerQueue;
@@ -64,9 +67,11 @@ public class PlayerSocketConnection extends PlayerConnection {
     private int serverPort;
     private int protocolVersion;
 
-    private final List<BinaryBuffer> waitingBuffers = new ArrayList<>();
-    private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
+    private final List<BufferArena.Slab> waitingBuffers = new ArrayList<>();
+    private final AtomicReference<BufferArena.Slab> tickBuffer = new AtomicReference<>(ARENA.allocate(INITIAL_BUFFER_SIZE));
     private BinaryBuffer cacheBuffer;
+    // Bytes not yet written to the socket after the last flush
+    private volatile long pendingBytes;
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
@@ -173,6 +178,23 @@ public class PlayerSocketConnection extends PlayerConnection {
         write(buffer, buffer.position(), buffer.remaining());
     }
 
+    /**
+     * Writes multiple buffers in a single task.
+     *
+     * @param buffers  the buffers to write, from their position to their limit
+     * @param callback called once the buffers have been written, and are not referenced anymore
+     */
+    @ApiStatus.Internal
+    public void write(@NotNull List<ByteBuffer> buffers, @NotNull Runnable callback) {
+        this.workerQueue.relaxedOffer(() -> {
+            try {
+                for (ByteBuffer buffer : buffers) writeBufferSync(buffer, buffer.position(), buffer.remaining());
+            } finally {
+                callback.run();
+            }
+        });
+    }
+
     @Override
     public @NotNull SocketAddress getRemoteAddress() {
         return remoteAddress;
@@ -195,9 +217,9 @@ public class PlayerSocketConnection extends PlayerConnection {
         super.disconnect();
         this.workerQueue.relaxedOffer(() -> {
             this.worker.disconnect(this, channel);
-            final BinaryBuffer tick = tickBuffer.getAndSet(null);
-            if (tick != null) POOL.add(tick);
-            for (BinaryBuffer buffer : waitingBuffers) POOL.add(buffer);
+            final BufferArena.Slab tick = tickBuffer.getAndSet(null);
+            if (tick != null) tick.close();
+            for (BufferArena.Slab buffer : waitingBuffers) buffer.close();
             this.waitingBuffers.clear();
         });
     }
@@ -324,8 +346,8 @@ public class PlayerSocketConnection extends PlayerConnection {
                         MinestomAdventure.COMPONENT_TRANSLATOR.apply(component, Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale)));
             }
         }
-        try (var hold = ObjectPool.PACKET_POOL.hold()) {
-            var buffer = PacketUtils.createFramedPacket(getConnectionState(), hold.get(), serverPacket, compressed);
+        try (var slab = ARENA.allocate(ServerFlag.MAX_PACKET_SIZE)) {
+            var buffer = PacketUtils.createFramedPacket(getConnectionState(), slab.buffer(), serverPacket, compressed);
             writeBufferSync(buffer, 0, buffer.limit());
         }
     }
@@ -334,8 +356,9 @@ public class PlayerSocketConnection extends PlayerConnection {
         // Encrypt data
         final EncryptionContext encryptionContext = this.encryptionContext;
         if (encryptionContext != null) { // Encryption support
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                ByteBuffer output = hold.get();
+            // Stream cipher, the output has the size of the input
+            try (var slab = ARENA.allocate(length)) {
+                ByteBuffer output = slab.buffer();
                 try {
                     length = encryptionContext.encrypt().update(buffer.slice(index, length), output);
                     writeBufferSync0(output, 0, length);
@@ -349,50 +372,76 @@ public class PlayerSocketConnection extends PlayerConnection {
     }
 
     private void writeBufferSync0(@NotNull ByteBuffer buffer, int index, int length) {
-        BinaryBuffer localBuffer = tickBuffer.getPlain();
-        if (localBuffer == null)
+        final BufferArena.Slab tick = tickBuffer.getPlain();
+        if (tick == null)
             return; // Socket is closed
-        final int capacity = localBuffer.capacity();
-        if (length <= capacity) {
-            if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer();
-            localBuffer.write(buffer, index, length);
-        } else {
-            final int bufferCount = length / capacity + 1;
-            for (int i = 0; i < bufferCount; i++) {
-                final int sliceStart = i * capacity;
-                final int sliceLength = Math.min(length, sliceStart + capacity) - sliceStart;
-                if (!localBuffer.canWrite(sliceLength)) localBuffer = updateLocalBuffer();
-                localBuffer.write(buffer, sliceStart, sliceLength);
+        BinaryBuffer localBuffer = tick.binaryBuffer();
+        while (length > 0) {
+            final int writable = localBuffer.capacity() - localBuffer.writerOffset();
+            if (writable == 0) {
+                localBuffer = updateLocalBuffer(length);
+                continue;
             }
+            final int sliceLength = Math.min(writable, length);
+            localBuffer.write(buffer, index, sliceLength);
+            index += sliceLength;
+            length -= sliceLength;
         }
     }
 
     public void flushSync() throws IOException {
         final SocketChannel channel = this.channel;
-        final List<BinaryBuffer> waitingBuffers = this.waitingBuffers;
+        final List<BufferArena.Slab> waitingBuffers = this.waitingBuffers;
         if (!channel.isConnected()) throw new ClosedChannelException();
         if (waitingBuffers.isEmpty()) {
-            BinaryBuffer localBuffer = tickBuffer.getPlain();
-            if (localBuffer == null)
+            final BufferArena.Slab tick = tickBuffer.getPlain();
+            if (tick == null)
                 return; // Socket is closed
-            localBuffer.writeChannel(channel);
+            final BinaryBuffer localBuffer = tick.binaryBuffer();
+            // Reuse the buffer once fully written
+            if (localBuffer.writeChannel(channel)) localBuffer.clear();
         } else {
             // Write as much as possible from the waiting list
-            Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
+            Iterator<BufferArena.Slab> iterator = waitingBuffers.iterator();
             while (iterator.hasNext()) {
-                BinaryBuffer waitingBuffer = iterator.next();
-                if (!waitingBuffer.writeChannel(channel)) break;
+                BufferArena.Slab waitingBuffer = iterator.next();
+                if (!waitingBuffer.binaryBuffer().writeChannel(channel)) break;
                 iterator.remove();
-                POOL.add(waitingBuffer);
+                waitingBuffer.close();
             }
         }
+        updatePendingBytes();
+    }
+
+    /**
+     * Gets the number of bytes waiting to be written to the socket, as of the last flush.
+     * <p>
+     * Grows when the client does not read as fast as the server writes.
+     *
+     * @return the number of buffered bytes
+     */
+    @ApiStatus.Internal
+    public long pendingBytes() {
+        return pendingBytes;
+    }
+
+    private void updatePendingBytes() {
+        long pending = 0;
+        for (BufferArena.Slab buffer : waitingBuffers) pending += buffer.binaryBuffer().readableBytes();
+        final BufferArena.Slab tick = tickBuffer.getPlain();
+        if (tick != null) pending += tick.binaryBuffer().readableBytes();
+        this.pendingBytes = pending;
     }
 
-    private BinaryBuffer updateLocalBuffer() {
-        BinaryBuffer newBuffer = POOL.get();
-        this.waitingBuffers.add(tickBuffer.getPlain());
+    private BinaryBuffer updateLocalBuffer(int required) {
+        final BufferArena.Slab current = tickBuffer.getPlain();
+        // Grow while the socket is not keeping up, start small again otherwise
+        final int size = waitingBuffers.isEmpty() ? INITIAL_BUFFER_SIZE :
+                Math.min(ServerFlag.POOLED_BUFFER_SIZE, Math.max(required, current.capacity() * 2));
+        final BufferArena.Slab newBuffer = ARENA.allocate(size);
+        this.waitingBuffers.add(current);
         this.tickBuffer.setPlain(newBuffer);
-        return newBuffer;
+        return newBuffer.binaryBuffer();
     }
 
     record EncryptionContext(Cipher encrypt, Cipher decrypt) {
@@ -4,7 +4,7 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.thread.MinestomThread;
-import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.BufferArena;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedXaddArrayQueue;
@@ -94,8 +94,8 @@ public final class Worker extends MinestomThread {
                         return;
                     }
                     try {
-                        try (var holder = ObjectPool.PACKET_POOL.hold()) {
-                            BinaryBuffer readBuffer = BinaryBuffer.wrap(holder.get());
+                        try (var slab = BufferArena.NETWORK.allocate(ServerFlag.MAX_PACKET_SIZE)) {
+                            BinaryBuffer readBuffer = slab.binaryBuffer();
                             // Consume last incomplete packet
                             connection.consumeCache(readBuffer);
                             // Read & process
@@ -0,0 +1,228 @@
+package net.minestom.server.registry;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * Compact binary encoding of the registry json files, generated at build time by the
+ * {@code generateRegistrySnapshots} task of the code generators.
+ * <p>
+ * The decoded tree is identical to the one produced by {@link Registry#load(Registry.Resource)} from json:
+ * objects are {@link HashMap}s filled in file order, arrays are {@link ArrayList}s, integers are {@link Long}s and
+ * decimals are {@link Double}s. Strings are stored once in a table and shared by every occurrence.
+ * <p>
+ * Layout: {@code magic (int), version (byte), source hash (long), string count (varint), strings (varint length + utf8), root value}.
+ * The source hash identifies the json file the snapshot was built from, so that a snapshot left over from another
+ * data version is never used.
+ * <p>
+ * This file is also compiled into the code generators, it must only depend on the JDK and the annotations.
+ */
+@ApiStatus.Internal
+public final class BinaryRegistryFormat {
+    public static final int MAGIC = 0x4D524547; // MREG
+    public static final byte VERSION = 2;
+    public static final String EXTENSION = ".bin";
+
+    static final byte MAP = 0;
+    static final byte LIST = 1;
+    static final byte STRING = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte TRUE = 5;
+    static final byte FALSE = 6;
+
+    private BinaryRegistryFormat() {
+    }
+
+    /**
+     * Gets the name of the binary resource for a json registry resource.
+     *
+     * @param fileName the json file name (e.g. {@code blocks.json})
+     * @return the binary file name (e.g. {@code blocks.bin})
+     */
+    public static @NotNull String binaryFileName(@NotNull String fileName) {
+        final int extension = fileName.lastIndexOf('.');
+        return (extension == -1 ? fileName : fileName.substring(0, extension)) + EXTENSION;
+    }
+
+    /**
+     * Computes the hash of a json registry, stored in the snapshots built from it.
+     *
+     * @param source the json file bytes
+     * @return the source hash
+     */
+    public static long sourceHash(byte @NotNull [] source) {
+        CRC32C crc = new CRC32C();
+        crc.update(source);
+        return ((long) source.length << 32) | crc.getValue();
+    }
+
+    /**
+     * Decodes a registry snapshot.
+     *
+     * @param data       the snapshot bytes
+     * @param sourceHash the {@link #sourceHash(byte[]) hash} of the json the snapshot must have been built from
+     * @return the registry entries, by namespace
+     * @throws IllegalArgumentException if the data is not a snapshot of a supported version or of this json
+     */
+    @SuppressWarnings("unchecked")
+    public static @NotNull Map<String, Map<String, Object>> read(@NotNull ByteBuffer data, long sourceHash) {
+        if (data.remaining() < 13 || data.getInt() != MAGIC)
+            throw new IllegalArgumentException("Not a binary registry");
+        final byte version = data.get();
+        if (version != VERSION)
+            throw new IllegalArgumentException("Unsupported binary registry version " + version + ", expected " + VERSION);
+        if (data.getLong() != sourceHash)
+            throw new IllegalArgumentException("Binary registry was built from another source");
+        final String[] strings = new String[readVarInt(data)];
+        for (int i = 0; i < strings.length; i++) {
+            final int length = readVarInt(data);
+            strings[i] = new String(data.array(), data.arrayOffset() + data.position(), length, StandardCharsets.UTF_8);
+            data.position(data.position() + length);
+        }
+        final Object root = readValue(data, strings);
+        if (!(root instanceof Map<?, ?>)) throw new IllegalArgumentException("Root value must be a map");
+        return (Map<String, Map<String, Object>>) root;
+    }
+
+    /**
+     * Encodes a registry tree.
+     *
+     * @param root       the registry entries, iterated in file order
+     * @param sourceHash the {@link #sourceHash(byte[]) hash} of the json the entries were read from
+     * @param output     the stream to write to
+     * @throws IOException if the stream cannot be written to
+     */
+    public static void write(@NotNull Map<String, ?> root, long sourceHash, @NotNull OutputStream output) throws IOException {
+        // Collect strings in encounter order
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        collectStrings(root, strings);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(sourceHash);
+        writeVarInt(out, strings.size());
+        for (String string : strings.keySet()) {
+            final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, utf8.length);
+            out.write(utf8);
+        }
+        writeValue(out, root, strings);
+        out.flush();
+        bytes.writeTo(output);
+    }
+
+    private static Object readValue(ByteBuffer data, String[] strings) {
+        final byte type = data.get();
+        return switch (type) {
+            case MAP -> {
+                final int size = readVarInt(data);
+                Map<String, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    final String key = strings[readVarInt(data)];
+                    map.put(key, readValue(data, strings));
+                }
+                yield map;
+            }
+            case LIST -> {
+                final int size = readVarInt(data);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readValue(data, strings));
+                yield list;
+            }
+            case STRING -> strings[readVarInt(data)];
+            case LONG -> {
+                final long zigzag = readVarLong(data);
+                yield (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            case DOUBLE -> data.getDouble();
+            case TRUE -> true;
+            case FALSE -> false;
+            default -> throw new IllegalArgumentException("Invalid value type: " + type);
+        };
+    }
+
+    private static void collectStrings(Object value, Map<String, Integer> strings) {
+        switch (value) {
+            case Map<?, ?> map -> map.forEach((key, element) -> {
+                strings.putIfAbsent((String) key, strings.size());
+                collectStrings(element, strings);
+            });
+            case List<?> list -> list.forEach(element -> collectStrings(element, strings));
+            case String string -> strings.putIfAbsent(string, strings.size());
+            default -> {
+            }
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value, Map<String, Integer> strings) throws IOException {
+        switch (value) {
+            case Map<?, ?> map -> {
+                out.writeByte(MAP);
+                writeVarInt(out, map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeVarInt(out, strings.get((String) entry.getKey()));
+                    writeValue(out, entry.getValue(), strings);
+                }
+            }
+            case List<?> list -> {
+                out.writeByte(LIST);
+                writeVarInt(out, list.size());
+                for (Object element : list) writeValue(out, element, strings);
+            }
+            case String string -> {
+                out.writeByte(STRING);
+                writeVarInt(out, strings.get(string));
+            }
+            case Long number -> {
+                out.writeByte(LONG);
+                writeVarLong(out, (number << 1) ^ (number >> 63));
+            }
+            case Double number -> {
+                out.writeByte(DOUBLE);
+                out.writeDouble(number);
+            }
+            case Boolean bool -> out.writeByte(bool ? TRUE : FALSE);
+            default -> throw new IllegalArgumentException("Unsupported value: " + value);
+        }
+    }
+
+    private static int readVarInt(ByteBuffer data) {
+        return (int) readVarLong(data);
+    }
+
+    private static long readVarLong(ByteBuffer data) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
@@ -11,6 +11,7 @@ import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import net.kyori.adventure.text.serializer.json.JSONComponentSerializer;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.collision.CollisionUtils;
 import net.minestom.server.collision.Shape;
@@ -31,10 +32,14 @@ import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -45,6 +50,8 @@ import java.util.stream.Collectors;
  * Use at your own risk.
  */
 public final class Registry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Registry.class);
+
     @ApiStatus.Internal
     public static BlockEntry block(String namespace, @NotNull Properties main) {
         return new BlockEntry(namespace, main, null);
@@ -132,6 +139,34 @@ public final class Registry {
 
     @ApiStatus.Internal
     public static Map<String, Map<String, Object>> load(Resource resource) {
+        if (ServerFlag.REGISTRY_BINARY_SNAPSHOT) {
+            final Map<String, Map<String, Object>> snapshot = loadBinary(resource);
+            if (snapshot != null) return snapshot;
+        }
+        return loadJson(resource);
+    }
+
+    /**
+     * Loads the precompiled {@link BinaryRegistryFormat binary snapshot} of a resource.
+     *
+     * @return the registry entries, or null if there is no usable snapshot
+     */
+    static @Nullable Map<String, Map<String, Object>> loadBinary(Resource resource) {
+        final ClassLoader classLoader = Registry.class.getClassLoader();
+        try (InputStream resourceStream = classLoader.getResourceAsStream(resource.binaryFileName());
+             InputStream sourceStream = classLoader.getResourceAsStream(resource.name)) {
+            if (resourceStream == null || sourceStream == null) return null;
+            // Hashing the json is much cheaper than parsing it, and rejects snapshots built from other data
+            final long sourceHash = BinaryRegistryFormat.sourceHash(sourceStream.readAllBytes());
+            return BinaryRegistryFormat.read(ByteBuffer.wrap(resourceStream.readAllBytes()), sourceHash);
+        } catch (IOException | IllegalArgumentException | BufferUnderflowException e) {
+            // Outdated or corrupted snapshot, fallback to json
+            LOGGER.warn("Failed to load binary registry {}, falling back to json", resource.binaryFileName(), e);
+            return null;
+        }
+    }
+
+    static Map<String, Map<String, Object>> loadJson(Resource resource) {
         Map<String, Map<String, Object>> map = new HashMap<>();
         try (InputStream resourceStream = Registry.class.getClassLoader().getResourceAsStream(resource.name)) {
             Check.notNull(resourceStream, "Resource {0} does not exist!", resource);
@@ -247,6 +282,10 @@ public final class Registry {
         public @NotNull String fileName() {
             return name;
         }
+
+        public @NotNull String binaryFileName() {
+            return BinaryRegistryFormat.binaryFileName(name);
+        }
     }
 
     public static final class BlockEntry implements Entry {
@@ -3,16 +3,17 @@ package net.minestom.server.scoreboard;
 import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.*;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -25,6 +26,10 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <p>
  * Lines can be modified using their respective identifier using
  * {@link #updateLineContent(String, Component)} and {@link #updateLineScore(String, int)}.
+ * <p>
+ * When {@link ServerFlag#SCOREBOARD_BATCHING} is enabled, title and line updates are collected and sent once
+ * at the end of the tick. Repeated updates of the same line only send its latest state, and nothing is sent
+ * for a line whose state did not change.
  */
 public class Sidebar implements Scoreboard {
 
@@ -50,6 +55,13 @@ public class Sidebar implements Scoreboard {
 
     private Component title;
 
+    // Updates waiting for the end of the tick, see ServerFlag#SCOREBOARD_BATCHING
+    private final boolean batching;
+    private final Set<ScoreboardLine> dirtyLines = new LinkedHashSet<>();
+    private boolean titleDirty;
+    private boolean flushScheduled;
+    private Component sentTitle;
+
     /**
      * Creates a new sidebar
      *
@@ -67,7 +79,13 @@ public class Sidebar implements Scoreboard {
      * @param title The title of the sidebar
      */
     public Sidebar(@NotNull Component title) {
+        this(title, ServerFlag.SCOREBOARD_BATCHING);
+    }
+
+    Sidebar(@NotNull Component title, boolean batching) {
         this.title = title;
+        this.sentTitle = title;
+        this.batching = batching;
 
         this.objectiveName = SCOREBOARD_PREFIX + COUNTER.incrementAndGet();
 
@@ -95,6 +113,13 @@ public class Sidebar implements Scoreboard {
      */
     public void setTitle(@NotNull Component title) {
         this.title = title;
+        if (batching) {
+            synchronized (dirtyLines) {
+                this.titleDirty = true;
+                scheduleFlush();
+            }
+            return;
+        }
         sendPacketToViewers(new ScoreboardObjectivePacket(objectiveName, (byte) 2, title,
                 ScoreboardObjectivePacket.Type.INTEGER, null));
     }
@@ -121,6 +146,8 @@ public class Sidebar implements Scoreboard {
             // Setup line
             scoreboardLine.retrieveName(availableColors);
             scoreboardLine.createTeam();
+            scoreboardLine.sentContent = scoreboardLine.content;
+            scoreboardLine.sentLine = scoreboardLine.line;
 
             // Finally add the line in cache
             this.lines.add(scoreboardLine);
@@ -140,6 +167,10 @@ public class Sidebar implements Scoreboard {
         final ScoreboardLine scoreboardLine = getLine(id);
         if (scoreboardLine != null) {
             scoreboardLine.refreshContent(content);
+            if (batching) {
+                markDirty(scoreboardLine);
+                return;
+            }
             sendPacketToViewers(scoreboardLine.sidebarTeam.updatePrefix(content));
         }
     }
@@ -154,10 +185,65 @@ public class Sidebar implements Scoreboard {
         final ScoreboardLine scoreboardLine = getLine(id);
         if (scoreboardLine != null) {
             scoreboardLine.line = score;
+            if (batching) {
+                markDirty(scoreboardLine);
+                return;
+            }
             sendPacketToViewers(scoreboardLine.getLineScoreUpdatePacket(objectiveName, score));
         }
     }
 
+    /**
+     * Sends the pending title and line updates to the viewers.
+     * <p>
+     * Called automatically at the end of the tick when {@link ServerFlag#SCOREBOARD_BATCHING} is enabled,
+     * does nothing otherwise.
+     */
+    public void flush() {
+        List<SendablePacket> packets = new ArrayList<>();
+        synchronized (dirtyLines) {
+            this.flushScheduled = false;
+            if (titleDirty) {
+                this.titleDirty = false;
+                final Component title = this.title;
+                if (!title.equals(sentTitle)) {
+                    this.sentTitle = title;
+                    packets.add(new ScoreboardObjectivePacket(objectiveName, (byte) 2, title,
+                            ScoreboardObjectivePacket.Type.INTEGER, null));
+                }
+            }
+            for (ScoreboardLine line : dirtyLines) {
+                if (!lines.contains(line)) continue; // Removed during the tick
+                final Component content = line.sidebarTeam.getPrefix();
+                if (!content.equals(line.sentContent)) {
+                    line.sentContent = content;
+                    packets.add(line.sidebarTeam.updatePrefix(content));
+                }
+                final int score = line.line;
+                if (score != line.sentLine) {
+                    line.sentLine = score;
+                    packets.add(line.getLineScoreUpdatePacket(objectiveName, score));
+                }
+            }
+            this.dirtyLines.clear();
+        }
+        // Each packet is encoded once for all viewers
+        if (!packets.isEmpty()) sendPacketsToViewers(packets);
+    }
+
+    private void markDirty(ScoreboardLine line) {
+        synchronized (dirtyLines) {
+            this.dirtyLines.add(line);
+            scheduleFlush();
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled) return;
+        this.flushScheduled = true;
+        MinecraftServer.getSchedulerManager().scheduleEndOfTick(this::flush);
+    }
+
     /**
      * Gets a {@link ScoreboardLine} through the given identifier
      *
@@ -274,6 +360,11 @@ public class Sidebar implements Scoreboard {
          * The sidebar team of the line
          */
         private SidebarTeam sidebarTeam;
+        /**
+         * The state last sent to the viewers, used to skip unchanged batched updates
+         */
+        private Component sentContent;
+        private int sentLine;
 
         public ScoreboardLine(@NotNull String id, @NotNull Component content, int line) {
             this(id, content, line, null);
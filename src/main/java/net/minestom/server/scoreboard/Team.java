@@ -5,6 +5,7 @@ import net.kyori.adventure.pointer.Pointers;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.Player;
@@ -20,9 +21,12 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This object represents a team on a scoreboard that has a common display theme and other properties.
+ * <p>
+ * When {@link ServerFlag#SCOREBOARD_BATCHING} is enabled, update packets are merged and sent once at the end of the tick.
  */
 public class Team implements PacketGroupingAudience {
     private static final byte ALLOW_FRIENDLY_FIRE_BIT = 0x01;
@@ -72,6 +76,11 @@ public class Team implements PacketGroupingAudience {
     private final Set<Player> playerMembers = ConcurrentHashMap.newKeySet();
     private boolean isPlayerMembersUpToDate;
 
+    // Batched update state, see ServerFlag#SCOREBOARD_BATCHING
+    private final boolean batching;
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+    private TeamsPacket.UpdateTeamAction sentUpdate;
+
     // Adventure
     private final Pointers pointers;
 
@@ -81,7 +90,12 @@ public class Team implements PacketGroupingAudience {
      * @param teamName The registry name for the team
      */
     protected Team(@NotNull String teamName) {
+        this(teamName, ServerFlag.SCOREBOARD_BATCHING);
+    }
+
+    Team(@NotNull String teamName, boolean batching) {
         this.teamName = teamName;
+        this.batching = batching;
 
         this.teamDisplayName = Component.empty();
         this.friendlyFlags = 0x00;
@@ -459,11 +473,31 @@ public class Team implements PacketGroupingAudience {
 
     /**
      * Sends an {@link TeamsPacket.UpdateTeamAction} action packet.
+     * <p>
+     * Deferred to the end of the tick when {@link ServerFlag#SCOREBOARD_BATCHING} is enabled,
+     * in which case the packet is only sent if the team changed since the last update.
      */
     public void sendUpdatePacket() {
-        final var info = new TeamsPacket.UpdateTeamAction(teamDisplayName, friendlyFlags,
+        if (batching) {
+            if (updateScheduled.compareAndSet(false, true)) {
+                MinecraftServer.getSchedulerManager().scheduleEndOfTick(this::flushUpdatePacket);
+            }
+            return;
+        }
+        PacketUtils.broadcastPlayPacket(new TeamsPacket(teamName, createUpdateAction()));
+    }
+
+    private void flushUpdatePacket() {
+        this.updateScheduled.set(false);
+        final TeamsPacket.UpdateTeamAction action = createUpdateAction();
+        if (action.equals(sentUpdate)) return;
+        this.sentUpdate = action;
+        PacketUtils.broadcastPlayPacket(new TeamsPacket(teamName, action));
+    }
+
+    private TeamsPacket.UpdateTeamAction createUpdateAction() {
+        return new TeamsPacket.UpdateTeamAction(teamDisplayName, friendlyFlags,
                 nameTagVisibility, collisionRule, teamColor, prefix, suffix);
-        PacketUtils.broadcastPlayPacket(new TeamsPacket(teamName, info));
     }
 
     @Override
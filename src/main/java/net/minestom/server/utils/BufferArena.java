@@ -0,0 +1,335 @@
+package net.minestom.server.utils;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpmcUnboundedXaddArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-class allocator for direct network buffers.
+ * <p>
+ * Requests are rounded up to the next power of two, starting at 4 KiB. Buffers smaller than 64 KiB are sliced
+ * from shared chunks, so that small frames do not reserve large buffers. Released buffers are first kept in
+ * a small per-thread cache, then in a global free list per size class.
+ * <p>
+ * The reserved memory can be capped with {@link ServerFlag#NETWORK_BUFFER_MEMORY_LIMIT}, once reached the free lists
+ * are dropped before failing with an {@link OutOfMemoryError}. A shared chunk stays reserved until all of its slices
+ * have been dropped or garbage collected. Buffers garbage collected without being released
+ * are reported as leaks.
+ */
+@ApiStatus.Internal
+public final class BufferArena {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BufferArena.class);
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final int MIN_SIZE_SHIFT = 12; // 4 KiB
+    private static final int CHUNK_SIZE = 65_536;
+    private static final int QUEUE_SIZE = 1024;
+    // Maximum amount of memory and buffers kept per size class in a thread cache
+    private static final int THREAD_CACHE_BYTES = 262_144;
+    private static final int THREAD_CACHE_COUNT = 16;
+
+    public static final BufferArena NETWORK = new BufferArena(
+            Math.max(ServerFlag.MAX_PACKET_SIZE, ServerFlag.POOLED_BUFFER_SIZE),
+            ServerFlag.NETWORK_BUFFER_MEMORY_LIMIT);
+
+    private final SizeClass[] sizeClasses;
+    private final long limit;
+    private final AtomicLong reserved = new AtomicLong();
+    private final AtomicInteger trimGeneration = new AtomicInteger();
+    private final ThreadLocal<ThreadCache> threadCaches;
+
+    BufferArena(int maxSize, long limit) {
+        final int count = Math.max(1, shift(maxSize) - MIN_SIZE_SHIFT + 1);
+        this.sizeClasses = new SizeClass[count];
+        for (int i = 0; i < count; i++) {
+            this.sizeClasses[i] = new SizeClass(1 << (MIN_SIZE_SHIFT + i));
+        }
+        this.limit = limit;
+        this.threadCaches = ThreadLocal.withInitial(() -> {
+            Slab[][] caches = new Slab[sizeClasses.length][];
+            for (int i = 0; i < caches.length; i++) {
+                final int capacity = Math.clamp(THREAD_CACHE_BYTES / sizeClasses[i].size, 1, THREAD_CACHE_COUNT);
+                caches[i] = new Slab[capacity];
+            }
+            return new ThreadCache(caches, trimGeneration.get());
+        });
+    }
+
+    /**
+     * Checks out a buffer, to be released with {@link Slab#close()}.
+     *
+     * @param size the minimum capacity of the buffer
+     * @return a cleared buffer of at least {@code size} bytes
+     * @throws IllegalArgumentException if the size is above the largest size class
+     * @throws OutOfMemoryError         if the memory limit is reached
+     */
+    public @NotNull Slab allocate(int size) {
+        final SizeClass sizeClass = sizeClass(size);
+        Slab slab = pollThreadCache(sizeClass.index);
+        if (slab == null) slab = sizeClass.free.poll();
+        if (slab == null) slab = create(sizeClass);
+        slab.leased.set(true);
+        sizeClass.leased.incrementAndGet();
+        sizeClass.allocations.increment();
+        return slab;
+    }
+
+    /**
+     * Drops the pooled buffers.
+     * <p>
+     * The global free lists and the cache of the calling thread are dropped immediately, the caches of the other
+     * threads are dropped the next time they allocate or release a buffer. The memory is reclaimed once garbage collected.
+     */
+    public void trim() {
+        this.trimGeneration.incrementAndGet();
+        threadCache();
+        for (SizeClass sizeClass : sizeClasses) {
+            Slab slab;
+            while ((slab = sizeClass.free.poll()) != null) slab.cleanable.clean();
+        }
+    }
+
+    /**
+     * Gets the largest buffer size this arena can allocate.
+     *
+     * @return the maximum buffer size
+     */
+    public int maxSize() {
+        return sizeClasses[sizeClasses.length - 1].size;
+    }
+
+    public @NotNull Stats stats() {
+        List<SizeClassStats> stats = new ArrayList<>(sizeClasses.length);
+        for (SizeClass sizeClass : sizeClasses) {
+            stats.add(new SizeClassStats(sizeClass.size, sizeClass.slabs.get(), sizeClass.leased.get(),
+                    sizeClass.allocations.sum(), sizeClass.leaks.get()));
+        }
+        return new Stats(reserved.get(), limit, List.copyOf(stats));
+    }
+
+    private SizeClass sizeClass(int size) {
+        if (size <= 0) throw new IllegalArgumentException("Invalid buffer size: " + size);
+        final int index = Math.max(0, shift(size) - MIN_SIZE_SHIFT);
+        if (index >= sizeClasses.length) {
+            throw new IllegalArgumentException("Buffer size " + size + " is above the maximum of " + maxSize());
+        }
+        return sizeClasses[index];
+    }
+
+    private Slab create(SizeClass sizeClass) {
+        final int size = sizeClass.size;
+        if (size >= CHUNK_SIZE) {
+            reserve(size);
+            return new Slab(this, sizeClass, new Reservation(size, 1), ByteBuffer.allocateDirect(size));
+        }
+        // Slice a chunk, the remaining slabs go to the free list
+        reserve(CHUNK_SIZE);
+        final ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        final Reservation reservation = new Reservation(CHUNK_SIZE, CHUNK_SIZE / size);
+        for (int offset = size; offset < CHUNK_SIZE; offset += size) {
+            sizeClass.free.offer(new Slab(this, sizeClass, reservation, chunk.slice(offset, size)));
+        }
+        return new Slab(this, sizeClass, reservation, chunk.slice(0, size));
+    }
+
+    private void reserve(int size) {
+        if (limit <= 0) {
+            this.reserved.addAndGet(size);
+            return;
+        }
+        if (tryReserve(size)) return;
+        trim();
+        if (tryReserve(size)) return;
+        throw new OutOfMemoryError("Network buffer memory limit reached (" + reserved.get() + "/" + limit +
+                " bytes), see minestom.network.buffer-memory-limit");
+    }
+
+    private boolean tryReserve(int size) {
+        long current;
+        do {
+            current = reserved.get();
+            if (current + size > limit) return false;
+        } while (!reserved.compareAndSet(current, current + size));
+        return true;
+    }
+
+    private Slab[][] threadCache() {
+        final ThreadCache cache = threadCaches.get();
+        final int generation = trimGeneration.get();
+        if (cache.generation != generation) {
+            // Trimmed since the last use
+            cache.generation = generation;
+            for (Slab[] slabs : cache.slabs) {
+                for (int i = 0; i < slabs.length; i++) {
+                    final Slab slab = slabs[i];
+                    if (slab == null) continue;
+                    slabs[i] = null;
+                    slab.cleanable.clean();
+                }
+            }
+        }
+        return cache.slabs;
+    }
+
+    private Slab pollThreadCache(int index) {
+        final Slab[] cache = threadCache()[index];
+        for (int i = cache.length - 1; i >= 0; i--) {
+            final Slab slab = cache[i];
+            if (slab != null) {
+                cache[i] = null;
+                return slab;
+            }
+        }
+        return null;
+    }
+
+    private boolean offerThreadCache(int index, Slab slab) {
+        final Slab[] cache = threadCache()[index];
+        for (int i = 0; i < cache.length; i++) {
+            if (cache[i] == null) {
+                cache[i] = slab;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void release(Slab slab) {
+        if (!slab.leased.compareAndSet(true, false)) {
+            throw new IllegalStateException("Buffer has already been released");
+        }
+        slab.buffer.clear();
+        if (slab.binaryBuffer != null) slab.binaryBuffer.clear();
+        final SizeClass sizeClass = slab.sizeClass;
+        sizeClass.leased.decrementAndGet();
+        if (!offerThreadCache(sizeClass.index, slab)) sizeClass.free.offer(slab);
+    }
+
+    private static int shift(int size) {
+        // Position of the highest bit of the next power of two
+        return 32 - Integer.numberOfLeadingZeros(size - 1);
+    }
+
+    /**
+     * A buffer checked out from a {@link BufferArena}.
+     * <p>
+     * Must be released exactly once with {@link #close()}, and not be used after.
+     */
+    public static final class Slab implements AutoCloseable {
+        private final BufferArena arena;
+        private final SizeClass sizeClass;
+        private final ByteBuffer buffer;
+        private final AtomicBoolean leased;
+        private final Cleaner.Cleanable cleanable;
+        private BinaryBuffer binaryBuffer;
+
+        private Slab(BufferArena arena, SizeClass sizeClass, Reservation reservation, ByteBuffer buffer) {
+            this.arena = arena;
+            this.sizeClass = sizeClass;
+            this.buffer = buffer;
+            this.leased = new AtomicBoolean();
+            sizeClass.slabs.incrementAndGet();
+            this.cleanable = CLEANER.register(this, new SlabCleaner(arena, sizeClass, reservation, leased));
+        }
+
+        public @NotNull ByteBuffer buffer() {
+            return buffer;
+        }
+
+        /**
+         * Gets a {@link BinaryBuffer} view of this buffer, cleared on release.
+         *
+         * @return the binary buffer
+         */
+        public @NotNull BinaryBuffer binaryBuffer() {
+            BinaryBuffer binaryBuffer = this.binaryBuffer;
+            if (binaryBuffer == null) this.binaryBuffer = binaryBuffer = BinaryBuffer.wrap(buffer);
+            return binaryBuffer;
+        }
+
+        public int capacity() {
+            return buffer.capacity();
+        }
+
+        @Override
+        public void close() {
+            this.arena.release(this);
+        }
+    }
+
+    public record Stats(long reservedBytes, long limitBytes, @NotNull List<SizeClassStats> sizeClasses) {
+    }
+
+    /**
+     * @param size        the buffer size of the class
+     * @param slabs       the number of buffers alive, pooled or not
+     * @param leased      the number of buffers currently checked out
+     * @param allocations the total number of checkouts
+     * @param leaks       the number of buffers garbage collected without being released
+     */
+    public record SizeClassStats(int size, int slabs, int leased, long allocations, long leaks) {
+    }
+
+    private static final class SizeClass {
+        final int size;
+        final int index;
+        final MessagePassingQueue<Slab> free = new MpmcUnboundedXaddArrayQueue<>(QUEUE_SIZE);
+        final AtomicInteger slabs = new AtomicInteger();
+        final AtomicInteger leased = new AtomicInteger();
+        final AtomicInteger leaks = new AtomicInteger();
+        final LongAdder allocations = new LongAdder();
+
+        SizeClass(int size) {
+            this.size = size;
+            this.index = Integer.numberOfTrailingZeros(size) - MIN_SIZE_SHIFT;
+        }
+    }
+
+    private static final class ThreadCache {
+        final Slab[][] slabs;
+        int generation;
+
+        ThreadCache(Slab[][] slabs, int generation) {
+            this.slabs = slabs;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Memory reserved for one allocation, released once all the slabs sliced from it are gone.
+     */
+    private record Reservation(int bytes, AtomicInteger slabs) {
+        Reservation(int bytes, int slabs) {
+            this(bytes, new AtomicInteger(slabs));
+        }
+    }
+
+    private record SlabCleaner(BufferArena arena, SizeClass sizeClass, Reservation reservation,
+                               AtomicBoolean leased) implements Runnable {
+        @Override
+        public void run() {
+            sizeClass.slabs.decrementAndGet();
+            if (reservation.slabs().decrementAndGet() == 0) arena.reserved.addAndGet(-reservation.bytes());
+            if (leased.get()) {
+                // Garbage collected while checked out
+                sizeClass.leased.decrementAndGet();
+                sizeClass.leaks.incrementAndGet();
+                LOGGER.warn("A network buffer of {} bytes has been garbage collected without being released", sizeClass.size);
+            }
+        }
+    }
+}
@@ -24,7 +24,6 @@ import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.FramedPacket;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.ServerPacket;
-import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import org.jetbrains.annotations.ApiStatus;
@@ -33,8 +32,13 @@ import org.jetbrains.annotations.Nullable;
 
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.zip.DataFormatException;
@@ -181,19 +185,25 @@ public final class PacketUtils {
 
     @ApiStatus.Internal
     public static void flush() {
-        if (ServerFlag.VIEWABLE_PACKET) {
-            VIEWABLE_STORAGE_MAP.asMap().entrySet().parallelStream().forEach(entry ->
-                    entry.getValue().process(entry.getKey()));
-        }
+        if (ServerFlag.VIEWABLE_PACKET) flush(VIEWABLE_STORAGE_MAP.asMap());
+    }
+
+    static void flush(Map<Viewable, ViewableStorage> storages) {
+        // Collect the writes of every storage, to enqueue them once per connection
+        final Map<PlayerSocketConnection, ConnectionWrites> writes = new ConcurrentHashMap<>();
+        storages.entrySet().parallelStream().forEach(entry ->
+                entry.getValue().process(entry.getKey(), writes));
+        writes.forEach((connection, connectionWrites) ->
+                connection.write(connectionWrites.buffers, connectionWrites::release));
     }
 
     @ApiStatus.Internal
     public static @Nullable BinaryBuffer readPackets(@NotNull BinaryBuffer readBuffer, boolean compressed,
                                                      BiConsumer<Integer, ByteBuffer> payloadConsumer) throws DataFormatException {
         BinaryBuffer remaining = null;
-        ByteBuffer pool = ObjectPool.PACKET_POOL.get();
         while (readBuffer.readableBytes() > 0) {
             final var beginMark = readBuffer.mark();
+            BufferArena.Slab slab = null;
             try {
                 // Ensure that the buffer contains the full packet (or wait for next socket read)
                 final int packetLength = readBuffer.readVarInt();
@@ -216,7 +226,11 @@ public final class PacketUtils {
                         decompressedSize = payloadLength;
                     } else {
                         // Decompress to content buffer
-                        content = BinaryBuffer.wrap(pool);
+                        if (dataLength > ServerFlag.MAX_PACKET_SIZE) {
+                            throw new DataFormatException("Decompressed size " + dataLength + " is above the maximum packet size");
+                        }
+                        slab = BufferArena.NETWORK.allocate(dataLength);
+                        content = slab.binaryBuffer();
                         decompressedSize = dataLength;
                         Inflater inflater = new Inflater(); // TODO: Pool?
                         inflater.setInput(readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength));
@@ -238,9 +252,10 @@ public final class PacketUtils {
                 readBuffer.reset(beginMark);
                 remaining = BinaryBuffer.copy(readBuffer);
                 break;
+            } finally {
+                if (slab != null) slab.close();
             }
         }
-        ObjectPool.PACKET_POOL.add(pool);
         return remaining;
     }
 
@@ -278,8 +293,8 @@ public final class PacketUtils {
         final boolean compressed = packetSize >= compressionThreshold;
         if (compressed) {
             // Packet large enough, compress it
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                final ByteBuffer input = hold.get().put(0, buffer, contentStart, packetSize);
+            try (var slab = BufferArena.NETWORK.allocate(packetSize)) {
+                final ByteBuffer input = slab.buffer().put(0, buffer, contentStart, packetSize);
                 Deflater deflater = LOCAL_DEFLATER.get();
                 deflater.setInput(input.limit(packetSize));
                 deflater.finish();
@@ -309,37 +324,63 @@ public final class PacketUtils {
 
     @ApiStatus.Internal
     public static FramedPacket allocateTrimmedPacket(@NotNull ConnectionState state, @NotNull ServerPacket packet) {
-        try (var hold = ObjectPool.PACKET_POOL.hold()) {
-            final ByteBuffer temp = PacketUtils.createFramedPacket(state, hold.get(), packet);
+        try (var slab = BufferArena.NETWORK.allocate(ServerFlag.MAX_PACKET_SIZE)) {
+            final ByteBuffer temp = PacketUtils.createFramedPacket(state, slab.buffer(), packet);
             final int size = temp.remaining();
             final ByteBuffer buffer = ByteBuffer.allocateDirect(size).put(0, temp, 0, size);
             return new FramedPacket(packet, buffer);
         }
     }
 
-    private static final class ViewableStorage {
+    static final class ViewableStorage {
+        private static final int INITIAL_BUFFER_SIZE = 4096;
+
         // Player id -> list of offsets to ignore (32:32 bits)
         private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
-        private final BinaryBuffer buffer = ObjectPool.BUFFER_POOL.getAndRegister(this);
+        // Only allocated while packets are pending
+        private BufferArena.Slab buffer;
+        private int bufferSize = INITIAL_BUFFER_SIZE;
 
-        private synchronized void append(Viewable viewable, ServerPacket serverPacket, @Nullable Player exception) {
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
+        synchronized void append(Viewable viewable, ServerPacket serverPacket, @Nullable Player exception) {
+            final BufferArena.Slab framingBuffer = BufferArena.NETWORK.allocate(ServerFlag.MAX_PACKET_SIZE);
+            final ByteBuffer framedPacket;
+            try {
                 // Viewable storage is only used for play packets, so fine to assume this.
-                final ByteBuffer framedPacket = createFramedPacket(ConnectionState.PLAY, hold.get(), serverPacket);
-                final int packetSize = framedPacket.limit();
-                if (packetSize >= buffer.capacity()) {
-                    process(viewable);
-                    for (Player viewer : viewable.getViewers()) {
-                        if (!Objects.equals(exception, viewer)) {
-                            writeTo(viewer.getPlayerConnection(), framedPacket, 0, packetSize);
-                        }
+                framedPacket = createFramedPacket(ConnectionState.PLAY, framingBuffer.buffer(), serverPacket);
+            } catch (Throwable t) {
+                framingBuffer.close();
+                throw t;
+            }
+            final int packetSize = framedPacket.limit();
+            if (packetSize >= ServerFlag.POOLED_BUFFER_SIZE) {
+                process(viewable, null);
+                // Too large to be grouped, share the framing buffer instead
+                final SharedBuffer shared = new SharedBuffer(framingBuffer);
+                for (Player viewer : viewable.getViewers()) {
+                    if (!Objects.equals(exception, viewer) &&
+                            viewer.getPlayerConnection() instanceof PlayerSocketConnection connection) {
+                        shared.retain();
+                        connection.write(List.of(framedPacket), shared::release);
                     }
-                    return;
                 }
-                if (!buffer.canWrite(packetSize)) process(viewable);
-                final int start = buffer.writerOffset();
-                this.buffer.write(framedPacket);
-                final int end = buffer.writerOffset();
+                shared.release();
+                return;
+            }
+            try (framingBuffer) {
+                BufferArena.Slab buffer = this.buffer;
+                if (buffer != null && !buffer.binaryBuffer().canWrite(packetSize)) {
+                    process(viewable, null);
+                    // Filled before the end of the tick, use a larger buffer
+                    this.bufferSize = Math.min(ServerFlag.POOLED_BUFFER_SIZE, bufferSize * 2);
+                    buffer = null;
+                }
+                if (buffer == null) {
+                    this.buffer = buffer = BufferArena.NETWORK.allocate(Math.max(bufferSize, packetSize));
+                }
+                final BinaryBuffer binaryBuffer = buffer.binaryBuffer();
+                final int start = binaryBuffer.writerOffset();
+                binaryBuffer.write(framedPacket);
+                final int end = binaryBuffer.writerOffset();
                 if (exception != null) {
                     final long offsets = (long) start << 32 | end & 0xFFFFFFFFL;
                     LongList list = entityIdMap.computeIfAbsent(exception.getEntityId(), id -> new LongArrayList());
@@ -348,42 +389,95 @@ public final class PacketUtils {
             }
         }
 
-        private synchronized void process(Viewable viewable) {
-            if (buffer.writerOffset() == 0) return;
-            ByteBuffer copy = ByteBuffer.allocateDirect(buffer.writerOffset());
-            copy.put(buffer.asByteBuffer(0, copy.capacity()));
-            viewable.getViewers().forEach(player -> processPlayer(player, copy));
-            this.buffer.clear();
+        /**
+         * Hands the pending packets over to the viewers.
+         *
+         * @param writes the writes of the current flush, grouped by connection,
+         *               or null to enqueue them directly
+         */
+        synchronized void process(Viewable viewable, @Nullable Map<PlayerSocketConnection, ConnectionWrites> writes) {
+            final BufferArena.Slab buffer = this.buffer;
+            if (buffer == null) return;
+            this.buffer = null;
+            final int size = buffer.binaryBuffer().writerOffset();
+            // Shrink the next buffer if this one was mostly empty
+            if (writes != null && size < bufferSize / 4) {
+                this.bufferSize = Math.max(INITIAL_BUFFER_SIZE, bufferSize / 2);
+            }
+            // The filled buffer is shared by the viewers instead of being copied,
+            // and goes back to the arena once written to all of them
+            final SharedBuffer shared = new SharedBuffer(buffer);
+            final ByteBuffer content = buffer.binaryBuffer().asByteBuffer(0, size);
+            for (Player player : viewable.getViewers()) {
+                if (!(player.getPlayerConnection() instanceof PlayerSocketConnection connection)) {
+                    continue; // TODO for non-socket connection
+                }
+                final List<ByteBuffer> slices = slices(player, content);
+                if (slices.isEmpty()) continue;
+                shared.retain();
+                if (writes != null) {
+                    writes.computeIfAbsent(connection, c -> new ConnectionWrites()).add(slices, shared);
+                } else {
+                    connection.write(slices, shared::release);
+                }
+            }
+            shared.release();
             this.entityIdMap.clear();
         }
 
-        private void processPlayer(Player player, ByteBuffer buffer) {
+        private List<ByteBuffer> slices(Player player, ByteBuffer buffer) {
             final int size = buffer.limit();
-            final PlayerConnection connection = player.getPlayerConnection();
             final LongArrayList pairs = entityIdMap.get(player.getEntityId());
-            if (pairs != null) {
-                // Ensure that we skip the specified parts of the buffer
-                int lastWrite = 0;
-                final long[] elements = pairs.elements();
-                for (int i = 0; i < pairs.size(); ++i) {
-                    final long offsets = elements[i];
-                    final int start = (int) (offsets >> 32);
-                    if (start != lastWrite) writeTo(connection, buffer, lastWrite, start - lastWrite);
-                    lastWrite = (int) offsets; // End = last 32 bits
-                }
-                if (size != lastWrite) writeTo(connection, buffer, lastWrite, size - lastWrite);
-            } else {
-                // Write all
-                writeTo(connection, buffer, 0, size);
+            if (pairs == null) return List.of(buffer); // Write all
+            // Ensure that we skip the specified parts of the buffer
+            List<ByteBuffer> slices = new ArrayList<>(pairs.size() + 1);
+            int lastWrite = 0;
+            final long[] elements = pairs.elements();
+            for (int i = 0; i < pairs.size(); ++i) {
+                final long offsets = elements[i];
+                final int start = (int) (offsets >> 32);
+                if (start != lastWrite) slices.add(buffer.slice(lastWrite, start - lastWrite));
+                lastWrite = (int) offsets; // End = last 32 bits
             }
+            if (size != lastWrite) slices.add(buffer.slice(lastWrite, size - lastWrite));
+            return slices;
         }
+    }
 
-        private static void writeTo(PlayerConnection connection, ByteBuffer buffer, int offset, int length) {
-            if (connection instanceof PlayerSocketConnection socketConnection) {
-                socketConnection.write(buffer, offset, length);
-                return;
-            }
-            // TODO for non-socket connection
+    /**
+     * An arena buffer referenced by pending connection writes.
+     */
+    private static final class SharedBuffer {
+        private final BufferArena.Slab buffer;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private SharedBuffer(BufferArena.Slab buffer) {
+            this.buffer = buffer;
+        }
+
+        private void retain() {
+            this.references.incrementAndGet();
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) buffer.close();
+        }
+    }
+
+    /**
+     * The writes of a flush targeting a single connection.
+     */
+    private static final class ConnectionWrites {
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        private final List<SharedBuffer> shared = new ArrayList<>();
+
+        private synchronized void add(List<ByteBuffer> slices, SharedBuffer sharedBuffer) {
+            this.buffers.addAll(slices);
+            this.shared.add(sharedBuffer);
+        }
+
+        private void release() {
+            for (SharedBuffer sharedBuffer : shared) sharedBuffer.release();
         }
     }
 
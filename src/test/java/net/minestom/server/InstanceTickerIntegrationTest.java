@@ -0,0 +1,118 @@
+package net.minestom.server;
+
+import net.minestom.server.event.instance.InstanceTickEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.world.DimensionType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceTickerIntegrationTest {
+
+    @Test
+    public void parallel(Env env) {
+        var ticker = new InstanceTicker(2, throwable -> fail(throwable));
+        try {
+            var first = env.createFlatInstance();
+            var second = env.createFlatInstance();
+            // Only passes if both instances tick at the same time
+            var barrier = new CyclicBarrier(2);
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            var failures = new CopyOnWriteArrayList<Exception>();
+            for (Instance instance : List.of(first, second)) {
+                instance.eventNode().addListener(InstanceTickEvent.class, event -> {
+                    threads.add(Thread.currentThread().getName());
+                    try {
+                        barrier.await(5, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        failures.add(e);
+                    }
+                });
+            }
+
+            ticker.tick(List.of(first, second), System.currentTimeMillis());
+            assertEquals(List.of(), failures);
+            assertEquals(2, threads.size());
+            assertTrue(threads.stream().allMatch(name -> name.startsWith("Ms-InstanceTick-")), threads.toString());
+        } finally {
+            ticker.shutdown();
+        }
+    }
+
+    @Test
+    public void ordering(Env env) {
+        var ticker = new InstanceTicker(4, throwable -> fail(throwable));
+        try {
+            List<Instance> instances = new ArrayList<>();
+            List<AtomicInteger> ticking = new ArrayList<>();
+            var overlaps = new AtomicInteger();
+            for (int i = 0; i < 8; i++) {
+                var instance = env.createFlatInstance();
+                var inside = new AtomicInteger();
+                instance.eventNode().addListener(InstanceTickEvent.class, event -> {
+                    if (inside.incrementAndGet() != 1) overlaps.incrementAndGet();
+                    Thread.yield();
+                    inside.decrementAndGet();
+                });
+                instances.add(instance);
+                ticking.add(inside);
+            }
+
+            for (int tick = 1; tick <= 50; tick++) {
+                ticker.tick(instances, System.currentTimeMillis());
+                // Every instance ticked exactly once, and is done ticking
+                for (int i = 0; i < instances.size(); i++) {
+                    assertEquals(tick, instances.get(i).getWorldAge());
+                    assertEquals(0, ticking.get(i).get());
+                }
+            }
+            assertEquals(0, overlaps.get());
+        } finally {
+            ticker.shutdown();
+        }
+    }
+
+    @Test
+    public void exception(Env env) {
+        var exceptions = new CopyOnWriteArrayList<Throwable>();
+        var ticker = new InstanceTicker(2, exceptions::add);
+        try {
+            var broken = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD) {
+                @Override
+                public void tick(long time) {
+                    throw new IllegalStateException("broken");
+                }
+            };
+            var instance = env.createFlatInstance();
+
+            ticker.tick(List.of(broken, instance), System.currentTimeMillis());
+            // Handled without stopping the other instances
+            assertEquals(1, exceptions.size());
+            assertEquals("broken", exceptions.getFirst().getMessage());
+            assertEquals(1, instance.getWorldAge());
+        } finally {
+            ticker.shutdown();
+        }
+    }
+
+    @Test
+    public void tickThread(Env env) {
+        var ticker = new InstanceTicker(0, throwable -> fail(throwable));
+        var instance = env.createFlatInstance();
+        var thread = new CompletableFuture<Thread>();
+        instance.eventNode().addListener(InstanceTickEvent.class, event -> thread.complete(Thread.currentThread()));
+        ticker.tick(List.of(instance, env.createFlatInstance()), System.currentTimeMillis());
+        assertSame(Thread.currentThread(), thread.join());
+    }
+}
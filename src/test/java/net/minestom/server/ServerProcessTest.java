@@ -1,12 +1,13 @@
 package net.minestom.server;
 
+import net.minestom.server.monitoring.StartupReport;
+import net.minestom.server.world.biome.Biome;
 import org.junit.jupiter.api.Test;
 
 import java.net.InetSocketAddress;
 import java.util.concurrent.atomic.AtomicReference;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class ServerProcessTest {
@@ -34,4 +35,18 @@ public class ServerProcessTest {
         assertDoesNotThrow(() -> ticker.tick(System.currentTimeMillis()));
         assertDoesNotThrow(process::stop);
     }
+
+    @Test
+    public void startupReport() {
+        var process = MinecraftServer.updateProcess();
+        var report = process.startupReport();
+        assertTrue(report.totalNanos() >= 0);
+        var names = report.entries().stream().map(StartupReport.Entry::name).toList();
+        assertTrue(names.contains("blocks"));
+        assertTrue(names.contains("enchantments"));
+        assertTrue(names.contains("connection"));
+        // Enchantments depend on every other dynamic registry
+        assertTrue(names.indexOf("biomes") < names.indexOf("enchantments"));
+        assertNotNull(process.biome().get(Biome.PLAINS));
+    }
 }
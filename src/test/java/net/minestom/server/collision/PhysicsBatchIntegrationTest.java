@@ -0,0 +1,113 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PhysicsBatchIntegrationTest {
+    private static final BoundingBox ITEM_BOX = new BoundingBox(0.25, 0.25, 0.25);
+    private static final Aerodynamics ITEM_AERODYNAMICS = new Aerodynamics(0.04, 0.98, 0.98);
+
+    @Test
+    public void sameAsSequential(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.setBlock(2, 40, 2, Block.ICE);
+        instance.setBlock(5, 41, 5, Block.STONE);
+
+        record Body(Pos position, Vec velocity, boolean noGravity, boolean hasPhysics, boolean onGround) {
+        }
+        List<Body> bodies = List.of(
+                new Body(new Pos(0.5, 41, 0.5), Vec.ZERO, false, true, true),
+                new Body(new Pos(0.5, 50, 0.5), new Vec(0, -0.5, 0), false, true, false),
+                new Body(new Pos(2.5, 41, 2.5), new Vec(0.3, 0, 0.1), false, true, true),
+                new Body(new Pos(4.5, 42, 5.5), new Vec(1.5, 0, 0), false, true, false),
+                new Body(new Pos(8.5, 45, 8.5), new Vec(0.2, 0.1, -0.2), true, true, false),
+                new Body(new Pos(8.5, 45, 8.5), new Vec(0.2, 0.1, -0.2), false, false, false)
+        );
+
+        PhysicsBatch batch = new PhysicsBatch(1); // Force growth
+        PhysicsResult[] previous = new PhysicsResult[bodies.size()];
+        Pos[] positions = new Pos[bodies.size()];
+        Vec[] velocities = new Vec[bodies.size()];
+        boolean[] onGround = new boolean[bodies.size()];
+        for (int i = 0; i < bodies.size(); i++) {
+            positions[i] = bodies.get(i).position();
+            velocities[i] = bodies.get(i).velocity();
+            onGround[i] = bodies.get(i).onGround();
+        }
+        // Simulate a few ticks to go through the cached paths
+        for (int tick = 0; tick < 20; tick++) {
+            for (int i = 0; i < bodies.size(); i++) {
+                final Body body = bodies.get(i);
+                batch.add(positions[i], velocities[i], ITEM_BOX, ITEM_AERODYNAMICS, body.noGravity(), body.hasPhysics(),
+                        onGround[i], previous[i]);
+            }
+            batch.simulate(instance.getWorldBorder(), getter(instance));
+            for (int i = 0; i < bodies.size(); i++) {
+                final Body body = bodies.get(i);
+                final PhysicsResult expected = PhysicsUtils.simulateMovement(positions[i], velocities[i], ITEM_BOX,
+                        instance.getWorldBorder(), getter(instance), ITEM_AERODYNAMICS, body.noGravity(), body.hasPhysics(),
+                        onGround[i], false, previous[i]);
+                final PhysicsResult actual = batch.result(i);
+                assertEquals(expected.newPosition(), actual.newPosition());
+                assertEquals(expected.newVelocity(), actual.newVelocity());
+                assertEquals(expected.isOnGround(), actual.isOnGround());
+                assertEquals(expected.collisionX(), actual.collisionX());
+                assertEquals(expected.collisionY(), actual.collisionY());
+                assertEquals(expected.collisionZ(), actual.collisionZ());
+                assertEquals(expected.hasCollision(), actual.hasCollision());
+
+                previous[i] = actual;
+                positions[i] = actual.newPosition();
+                velocities[i] = actual.newVelocity();
+                onGround[i] = actual.isOnGround();
+            }
+            batch.clear();
+            assertEquals(0, batch.size());
+        }
+    }
+
+    @Test
+    public void restingReuse(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        PhysicsBatch batch = new PhysicsBatch();
+        Pos position = new Pos(0.5, 40, 0.5);
+        Vec velocity = new Vec(0, -0.1, 0);
+        PhysicsResult previous = null;
+        for (int tick = 0; tick < 5; tick++) {
+            batch.add(position, velocity, ITEM_BOX, ITEM_AERODYNAMICS, false, true, previous != null && previous.isOnGround(), previous);
+            batch.simulate(instance.getWorldBorder(), getter(instance));
+            PhysicsResult result = batch.result(0);
+            batch.clear();
+            if (tick >= 3) assertSame(previous, result);
+            previous = result;
+            position = result.newPosition();
+            velocity = result.newVelocity();
+        }
+    }
+
+    @Test
+    public void resultBeforeSimulate() {
+        PhysicsBatch batch = new PhysicsBatch();
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.result(0));
+        batch.add(Pos.ZERO, Vec.ZERO, ITEM_BOX, ITEM_AERODYNAMICS, false, false, false, null);
+        assertThrows(IllegalStateException.class, () -> batch.result(0));
+    }
+
+    private static Block.Getter getter(Instance instance) {
+        return new ChunkCache(instance, instance.getChunk(0, 0), Block.STONE);
+    }
+}
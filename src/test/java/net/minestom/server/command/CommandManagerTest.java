@@ -3,10 +3,12 @@ package net.minestom.server.command;
 import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandResult;
 import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.entity.Player;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +34,85 @@ public class CommandManagerTest {
         assertFalse(manager.commandExists("name3"));
     }
 
+    @Test
+    public void commandChangedAfterRegistration() {
+        var manager = new CommandManager();
+        var command = new Command("cmd");
+        manager.register(command);
+        assertNotEquals(CommandResult.Type.SUCCESS, manager.executeServerCommand("cmd a").getType());
+
+        // The cached graph must be rebuilt
+        var check = new AtomicBoolean(false);
+        command.addSyntax((sender, context) -> check.set(true), ArgumentType.Literal("a"));
+        assertEquals(CommandResult.Type.SUCCESS, manager.executeServerCommand("cmd a").getType());
+        assertTrue(check.get());
+
+        manager.unregister(command);
+        assertEquals(CommandResult.Type.UNKNOWN, manager.executeServerCommand("cmd a").getType());
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    public void declareCommandsPacketCache() {
+        var manager = new CommandManager();
+        var command = new Command("cmd");
+        command.setCondition((sender, commandString) -> sender instanceof Player player && player.getUsername().equals("a"));
+        manager.register(command);
+
+        var first = new Player(UUID.randomUUID(), "a", null);
+        var second = new Player(UUID.randomUUID(), "a", null);
+        var other = new Player(UUID.randomUUID(), "b", null);
+        var packet = manager.declareCommandsPacket(first);
+        assertSame(packet, manager.declareCommandsPacket(second));
+        var otherPacket = manager.declareCommandsPacket(other);
+        assertNotSame(packet, otherPacket);
+        assertNotEquals(manager.createDeclareCommandsPacket(first).nodes().size(),
+                manager.createDeclareCommandsPacket(other).nodes().size());
+
+        manager.register(new Command("cmd2"));
+        assertNotSame(packet, manager.declareCommandsPacket(first));
+    }
+
+    @Test
+    public void createdPacketNotShared() {
+        var manager = new CommandManager();
+        manager.register(new Command("cmd"));
+        var packet = manager.createDeclareCommandsPacket(new Player(UUID.randomUUID(), "a", null));
+        packet.nodes().get(packet.rootIndex()).children = new int[0];
+        // Changes made by the caller are not visible to the next packets
+        var next = manager.createDeclareCommandsPacket(new Player(UUID.randomUUID(), "a", null));
+        assertNotSame(packet, next);
+        assertEquals(1, next.nodes().get(next.rootIndex()).children.length);
+    }
+
+    @Test
+    public void argumentChangedAfterRegistration() {
+        var manager = new CommandManager();
+        var command = new Command("cmd");
+        var argument = ArgumentType.Word("word");
+        command.addSyntax((sender, context) -> {}, argument);
+        manager.register(command);
+        var player = new Player(UUID.randomUUID(), "a", null);
+        var packet = manager.declareCommandsPacket(player);
+        assertFalse(hasSuggestions(manager.createDeclareCommandsPacket(player)));
+
+        // The cached graph and packets must be rebuilt
+        argument.setSuggestionCallback((sender, context, suggestion) -> {});
+        assertNotSame(packet, manager.declareCommandsPacket(player));
+        assertTrue(hasSuggestions(manager.createDeclareCommandsPacket(player)));
+
+        packet = manager.declareCommandsPacket(player);
+        argument.setDefaultValue("default");
+        assertNotSame(packet, manager.declareCommandsPacket(player));
+        packet = manager.declareCommandsPacket(player);
+        argument.setCallback((sender, exception) -> {});
+        assertNotSame(packet, manager.declareCommandsPacket(player));
+    }
+
+    private static boolean hasSuggestions(DeclareCommandsPacket packet) {
+        return packet.nodes().stream().anyMatch(node -> (node.flags & 0x10) != 0);
+    }
+
     @Test
     public void testUnknownCommandCallback() {
         var manager = new CommandManager();
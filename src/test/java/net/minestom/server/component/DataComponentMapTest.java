@@ -2,6 +2,10 @@ package net.minestom.server.component;
 
 import net.kyori.adventure.text.Component;
 import net.minestom.server.item.ItemComponent;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.registry.Registries;
+import net.minestom.server.utils.nbt.BinaryTagSerializer;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -98,4 +102,66 @@ public class DataComponentMapTest {
         assertEquals(1, map1.get(ItemComponent.CUSTOM_MODEL_DATA));
         assertEquals(2, map2.get(ItemComponent.CUSTOM_MODEL_DATA));
     }
+
+    @Test
+    void testIntern() {
+        var map1 = DataComponentMap.patchBuilder()
+                .set(ItemComponent.CUSTOM_MODEL_DATA, 1)
+                .remove(ItemComponent.CUSTOM_NAME)
+                .build();
+        var map2 = DataComponentMap.patchBuilder()
+                .set(ItemComponent.CUSTOM_MODEL_DATA, 1)
+                .remove(ItemComponent.CUSTOM_NAME)
+                .build();
+        assertNotSame(map1, map2);
+        var interned = DataComponentMap.intern(map1);
+        assertSame(interned, DataComponentMap.intern(map2));
+        assertSame(interned, DataComponentMap.intern(interned));
+        assertEquals(map1, interned);
+        assertEquals(map1.hashCode(), interned.hashCode());
+
+        // Cached encoding
+        var bytes = NetworkBuffer.makeArray(buffer -> buffer.write(ItemComponent.PATCH_NETWORK_TYPE, interned));
+        assertArrayEquals(bytes, NetworkBuffer.makeArray(buffer -> buffer.write(ItemComponent.PATCH_NETWORK_TYPE, map1)));
+        assertArrayEquals(bytes, NetworkBuffer.makeArray(buffer -> buffer.write(ItemComponent.PATCH_NETWORK_TYPE, interned)));
+    }
+
+    @Test
+    void testInternNbtContext() {
+        var interned = DataComponentMap.intern(DataComponentMap.patchBuilder()
+                .set(ItemComponent.CUSTOM_MODEL_DATA, 3)
+                .build());
+        var context = BinaryTagSerializer.Context.EMPTY;
+        var otherContext = new BinaryTagSerializer.Context() {
+            @Override
+            public @Nullable Registries registries() {
+                return null;
+            }
+
+            @Override
+            public boolean forClient() {
+                return false;
+            }
+        };
+        var tag = ItemComponent.PATCH_NBT_TYPE.write(context, interned);
+        assertSame(tag, ItemComponent.PATCH_NBT_TYPE.write(context, interned));
+        // Not reused for another context
+        var otherTag = ItemComponent.PATCH_NBT_TYPE.write(otherContext, interned);
+        assertNotSame(tag, otherTag);
+        assertEquals(tag, otherTag);
+        assertSame(otherTag, ItemComponent.PATCH_NBT_TYPE.write(otherContext, interned));
+    }
+
+    @Test
+    void testInternDiff() {
+        var prototype = DataComponentMap.patchBuilder().set(ItemComponent.CUSTOM_MODEL_DATA, 1).build();
+        var patch = DataComponentMap.patchBuilder()
+                .set(ItemComponent.CUSTOM_MODEL_DATA, 1)
+                .set(ItemComponent.MAX_STACK_SIZE, 16)
+                .build();
+        var diff = DataComponentMap.internDiff(prototype, patch);
+        assertEquals(DataComponentMap.diff(prototype, patch), diff);
+        // Already minimal
+        assertSame(diff, DataComponentMap.diff(prototype, diff));
+    }
 }
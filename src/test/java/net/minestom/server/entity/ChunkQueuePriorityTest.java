@@ -0,0 +1,88 @@
+package net.minestom.server.entity;
+
+import it.unimi.dsi.fastutil.longs.LongArrayPriorityQueue;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkQueuePriorityTest {
+    // Center of the chunk 0,0, facing +Z
+    private static final Pos POSITION = new Pos(8, 40, 8, 0, 0);
+
+    @Test
+    public void closestFirst() {
+        var priority = new ChunkQueuePriority();
+        priority.update(POSITION, Vec.ZERO);
+        assertEquals(0, priority.priority(0, 0));
+        // A close chunk behind is still sent before a far chunk in front
+        assertTrue(priority.priority(0, -1) < priority.priority(0, 3));
+        assertTrue(priority.priority(0, 2) < priority.priority(0, 3));
+    }
+
+    @Test
+    public void viewDirection() {
+        var priority = new ChunkQueuePriority();
+        priority.update(POSITION, Vec.ZERO);
+        assertEquals(List.of(chunk(0, 0), chunk(0, 3), chunk(3, 0), chunk(0, -3)),
+                order(priority, chunk(0, -3), chunk(3, 0), chunk(0, 3), chunk(0, 0)));
+
+        // Facing +X
+        priority.update(POSITION.withYaw(-90), Vec.ZERO);
+        assertEquals(List.of(chunk(3, 0), chunk(0, 3), chunk(-3, 0)),
+                order(priority, chunk(-3, 0), chunk(0, 3), chunk(3, 0)));
+    }
+
+    @Test
+    public void slowMovement() {
+        var priority = new ChunkQueuePriority();
+        // Walking sideways, the view direction is kept
+        priority.update(POSITION, new Vec(0.1, 0, 0));
+        assertEquals(List.of(chunk(0, 3), chunk(3, 0)),
+                order(priority, chunk(3, 0), chunk(0, 3)));
+    }
+
+    @Test
+    public void movementDirection() {
+        var priority = new ChunkQueuePriority();
+        // Flying toward +X while looking toward +Z
+        priority.update(POSITION, new Vec(2, 0, 0));
+        assertEquals(List.of(chunk(4, 0), chunk(0, 2), chunk(-2, 0)),
+                order(priority, chunk(-2, 0), chunk(0, 2), chunk(4, 0)));
+    }
+
+    @Test
+    public void speedWeight() {
+        var priority = new ChunkQueuePriority();
+        priority.update(POSITION, new Vec(0.4, 0, 0));
+        final double slowFront = priority.priority(4, 0);
+        final double slowBehind = priority.priority(-4, 0);
+        priority.update(POSITION, new Vec(2, 0, 0));
+        final double fastFront = priority.priority(4, 0);
+        final double fastBehind = priority.priority(-4, 0);
+        // Moving faster favors the chunks in front even more
+        assertTrue(fastFront < slowFront);
+        assertTrue(fastBehind > slowBehind);
+        // Capped weight
+        priority.update(POSITION, new Vec(10, 0, 0));
+        assertEquals(fastFront, priority.priority(4, 0), 1e-9);
+        assertEquals(fastBehind, priority.priority(-4, 0), 1e-9);
+    }
+
+    private static long chunk(int chunkX, int chunkZ) {
+        return ChunkUtils.getChunkIndex(chunkX, chunkZ);
+    }
+
+    private static List<Long> order(ChunkQueuePriority priority, long... chunks) {
+        var queue = new LongArrayPriorityQueue(priority::compare);
+        for (long chunk : chunks) queue.enqueue(chunk);
+        List<Long> result = new ArrayList<>();
+        while (!queue.isEmpty()) result.add(queue.dequeueLong());
+        return result;
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -137,4 +138,42 @@ public class EntityMetaIntegrationTest {
             assertEquals(Component.text("Custom Name 2"), entry.value());
         });
     }
+
+    @Test
+    public void coalescing(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.metadata = new MetadataHolder(entity, true);
+        entity.entityMeta = MetadataHolder.createMeta(entity.getEntityType(), entity, entity.metadata);
+        entity.setInstance(instance, new Pos(0, 42, 1)).join();
+
+        var incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
+        var meta = entity.getEntityMeta();
+        meta.setOnFire(true);
+        meta.setInvisible(true);
+        meta.setCustomNameVisible(true);
+        meta.setInvisible(false);
+        meta.setHasGlowingEffect(true);
+        meta.setCustomNameVisible(false);
+        // Sent at the end of the entity tick
+        incomingPackets.assertEmpty();
+
+        entity.tick(System.currentTimeMillis());
+        incomingPackets.assertSingle(packet -> {
+            assertEquals(entity.getEntityId(), packet.entityId());
+            assertEquals(Set.of(0, 3), packet.entries().keySet());
+            assertEquals((byte) 0x41, packet.entries().get(0).value());
+            assertEquals(false, packet.entries().get(3).value());
+        });
+
+        // Unchanged values are not sent
+        incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
+        meta.setOnFire(true);
+        meta.setCustomNameVisible(false);
+        entity.tick(System.currentTimeMillis());
+        incomingPackets.assertEmpty();
+    }
 }
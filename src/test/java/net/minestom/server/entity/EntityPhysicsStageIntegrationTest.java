@@ -0,0 +1,95 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityPhysicsStageIntegrationTest {
+
+    @Test
+    public void sameAsEntityTick(Env env) {
+        // Same world twice, only the first one runs the stage
+        var batchedInstance = createInstance(env);
+        var sequentialInstance = createInstance(env);
+        var batched = spawnItem(batchedInstance);
+        var sequential = spawnItem(sequentialInstance);
+        assertTrue(batched.isPhysicsBatchable());
+
+        var chunk = batchedInstance.getChunk(0, 0);
+        for (int i = 0; i < 40; i++) {
+            EntityPhysicsStage.tick(batchedInstance, chunk);
+            final long time = System.currentTimeMillis();
+            batched.tick(time);
+            sequential.tick(time);
+            assertEquals(sequential.getPosition(), batched.getPosition(), "tick " + i);
+            assertEquals(sequential.getVelocity(), batched.getVelocity(), "tick " + i);
+            assertEquals(sequential.isOnGround(), batched.isOnGround(), "tick " + i);
+        }
+        // Landed and slid over the ice
+        assertTrue(batched.isOnGround());
+    }
+
+    @Test
+    public void discardedAfterVelocityChange(Env env) {
+        var batchedInstance = createInstance(env);
+        var sequentialInstance = createInstance(env);
+        var batched = spawnItem(batchedInstance);
+        var sequential = spawnItem(sequentialInstance);
+
+        var chunk = batchedInstance.getChunk(0, 0);
+        for (int i = 0; i < 10; i++) {
+            EntityPhysicsStage.tick(batchedInstance, chunk);
+            if (i == 5) {
+                // Pushed between the stage and the entity tick, the precomputed result is stale
+                batched.setVelocity(new Vec(0, 10, 0));
+                sequential.setVelocity(new Vec(0, 10, 0));
+            }
+            final long time = System.currentTimeMillis();
+            batched.tick(time);
+            sequential.tick(time);
+            assertEquals(sequential.getPosition(), batched.getPosition(), "tick " + i);
+            assertEquals(sequential.getVelocity(), batched.getVelocity(), "tick " + i);
+        }
+    }
+
+    @Test
+    public void ignoresOtherEntities(Env env) {
+        var instance = createInstance(env);
+        var zombie = new Entity(EntityType.ZOMBIE);
+        zombie.setInstance(instance, new Pos(4.5, 45, 4.5)).join();
+        assertFalse(zombie.isPhysicsBatchable());
+
+        final Pos before = zombie.getPosition();
+        for (int i = 0; i < 3; i++) {
+            EntityPhysicsStage.tick(instance, instance.getChunk(0, 0));
+            zombie.tick(System.currentTimeMillis());
+        }
+        // Simulated by its own tick
+        assertTrue(zombie.getPosition().y() < before.y());
+    }
+
+    private static Instance createInstance(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        for (int x = 0; x < 16; x++) {
+            instance.setBlock(x, 39, 4, Block.ICE);
+        }
+        return instance;
+    }
+
+    private static ItemEntity spawnItem(Instance instance) {
+        var item = new ItemEntity(ItemStack.of(Material.STONE));
+        item.setInstance(instance, new Pos(1.5, 45, 4.5)).join();
+        item.setVelocity(new Vec(3, 4, 0));
+        return item;
+    }
+}
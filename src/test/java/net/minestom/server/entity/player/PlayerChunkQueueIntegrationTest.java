@@ -0,0 +1,81 @@
+package net.minestom.server.entity.player;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.play.ChunkBatchFinishedPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PlayerChunkQueueIntegrationTest {
+
+    @Test
+    public void directionalEmptyQueue(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        // Chunks are sent immediately, the queue stays empty
+        var player = connection.connect(instance, new Pos(0, 40, 0)).join();
+        player.setChunkQueueDirectional(true);
+        assertTrue(player.isChunkQueueDirectional());
+        assertEquals(0, player.getChunkQueueStats().queuedChunks());
+
+        assertDoesNotThrow(() -> player.tick(System.currentTimeMillis()));
+        player.teleport(new Pos(4, 40, 4, 90, 0)).join();
+        assertDoesNotThrow(() -> player.tick(System.currentTimeMillis()));
+    }
+
+    @Test
+    public void stats(Env env) throws InterruptedException {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var chunks = connection.trackIncoming(ChunkDataPacket.class);
+        var player = connection.connect(instance, new Pos(0, 40, 0), Player::new).join();
+        for (int i = 0; i < 20 && player.getChunkQueueStats().sentChunks() == 0; i++) env.tick();
+
+        var stats = player.getChunkQueueStats();
+        assertTrue(stats.sentChunks() > 0);
+        assertTrue(stats.maxQueueNanos() >= stats.averageQueueNanos());
+        // The first batch is not acknowledged yet
+        assertEquals(0, stats.averageBatchNanos());
+        assertEquals(0, stats.maxBatchNanos());
+
+        Thread.sleep(1);
+        player.onChunkBatchReceived(25f);
+        stats = player.getChunkQueueStats();
+        assertTrue(stats.averageBatchNanos() >= 1_000_000);
+        assertEquals(stats.maxBatchNanos(), stats.averageBatchNanos());
+
+        // More chunks are sent once the batch is acknowledged
+        final long sent = stats.sentChunks();
+        final int queued = stats.queuedChunks();
+        env.tick();
+        stats = player.getChunkQueueStats();
+        if (queued > 0) assertTrue(stats.sentChunks() > sent);
+        assertEquals(chunks.collect().size(), stats.sentChunks());
+    }
+
+    @Test
+    public void directionalStats(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var chunks = connection.trackIncoming(ChunkDataPacket.class);
+        var batches = connection.trackIncoming(ChunkBatchFinishedPacket.class);
+        var player = connection.connect(instance, new Pos(0, 40, 0), Player::new).join();
+        player.setChunkQueueDirectional(true);
+        for (int i = 0; i < 20; i++) {
+            // Acknowledge every batch like the client would
+            for (var ignored : batches.collect()) player.onChunkBatchReceived(25f);
+            batches = connection.trackIncoming(ChunkBatchFinishedPacket.class);
+            env.tick();
+        }
+
+        // Every sent chunk left the queue
+        var stats = player.getChunkQueueStats();
+        assertTrue(stats.sentChunks() > 0);
+        assertEquals(chunks.collect().size(), stats.sentChunks());
+    }
+}
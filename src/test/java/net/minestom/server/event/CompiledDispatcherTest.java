@@ -0,0 +1,85 @@
+package net.minestom.server.event;
+
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledDispatcherTest {
+
+    @Test
+    public void empty() {
+        var node = (EventNodeImpl<Event>) EventNode.all("main");
+        assertNull(CompiledDispatcher.compile(node, EventNodeTest.EventTest.class));
+        // Children without listener for the event type
+        var child = EventNode.value("child", EventFilter.ITEM, item -> false);
+        child.addListener(EventNodeTest.ItemTestEvent.class, event -> fail());
+        node.addChild(child);
+        assertNull(CompiledDispatcher.compile(node, EventNodeTest.EventTest.class));
+    }
+
+    @Test
+    public void sameOrderAsTree() {
+        List<String> calls = new ArrayList<>();
+        var node = (EventNodeImpl<Event>) EventNode.all("main");
+        node.addListener(EventNodeTest.ItemTestEvent.class, event -> calls.add("root"));
+
+        var late = EventNode.all("late").setPriority(10);
+        late.addListener(EventNodeTest.ItemTestEvent.class, event -> calls.add("late"));
+        node.addChild(late);
+
+        var filtered = EventNode.value("filtered", EventFilter.ITEM, item -> item.material() == Material.DIAMOND);
+        filtered.addListener(EventNodeTest.ItemTestEvent.class, event -> calls.add("filtered"));
+        var nested = EventNode.type("nested", EventFilter.ITEM);
+        nested.addListener(EventNodeTest.ItemTestEvent.class, event -> calls.add("nested"));
+        filtered.addChild(nested);
+        node.addChild(filtered);
+
+        Consumer<EventNodeTest.ItemTestEvent> dispatcher = CompiledDispatcher.compile(node, EventNodeTest.ItemTestEvent.class);
+        assertNotNull(dispatcher);
+
+        dispatcher.accept(new EventNodeTest.ItemTestEvent(ItemStack.of(Material.DIAMOND)));
+        assertEquals(List.of("root", "filtered", "nested", "late"), calls);
+
+        // Filtered node and its children are skipped
+        calls.clear();
+        dispatcher.accept(new EventNodeTest.ItemTestEvent(ItemStack.of(Material.STONE)));
+        assertEquals(List.of("root", "late"), calls);
+    }
+
+    @Test
+    public void mapped() {
+        var item = ItemStack.of(Material.DIAMOND);
+        var node = (EventNodeImpl<Event>) EventNode.all("main");
+        List<ItemStack> calls = new ArrayList<>();
+        var itemNode = node.map(item, EventFilter.ITEM);
+        itemNode.addListener(EventNodeTest.ItemTestEvent.class, event -> calls.add(event.item()));
+
+        Consumer<EventNodeTest.ItemTestEvent> dispatcher = CompiledDispatcher.compile(node, EventNodeTest.ItemTestEvent.class);
+        assertNotNull(dispatcher);
+        dispatcher.accept(new EventNodeTest.ItemTestEvent(item));
+        dispatcher.accept(new EventNodeTest.ItemTestEvent(ItemStack.of(Material.STONE)));
+        assertEquals(List.of(item), calls);
+    }
+
+    @Test
+    public void expiredListener() {
+        var node = (EventNodeImpl<Event>) EventNode.all("main");
+        List<String> calls = new ArrayList<>();
+        node.addListener(EventListener.builder(EventNodeTest.EventTest.class)
+                .handler(event -> calls.add("once"))
+                .expireCount(1)
+                .build());
+        Consumer<EventNodeTest.EventTest> dispatcher = CompiledDispatcher.compile(node, EventNodeTest.EventTest.class);
+        assertNotNull(dispatcher);
+        dispatcher.accept(new EventNodeTest.EventTest());
+        assertEquals(List.of("once"), calls);
+        // The listener has been removed from the node
+        assertNull(CompiledDispatcher.compile(node, EventNodeTest.EventTest.class));
+    }
+}
@@ -0,0 +1,57 @@
+package net.minestom.server.event;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.event.entity.EntityTickEvent;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EventDispatcherIntegrationTest {
+
+    @Test
+    public void lazyCall(Env env) {
+        var entity = new Entity(EntityType.ZOMBIE);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger called = new AtomicInteger();
+
+        EventDispatcher.call(EntityTickEvent.class, entity, e -> {
+            created.incrementAndGet();
+            return new EntityTickEvent(e);
+        });
+        assertEquals(0, created.get());
+        assertFalse(EventDispatcher.hasListener(EntityTickEvent.class));
+
+        env.process().eventHandler().addListener(EntityTickEvent.class, event -> {
+            assertSame(entity, event.getEntity());
+            called.incrementAndGet();
+        });
+        assertTrue(EventDispatcher.hasListener(EntityTickEvent.class));
+        EventDispatcher.call(EntityTickEvent.class, entity, e -> {
+            created.incrementAndGet();
+            return new EntityTickEvent(e);
+        });
+        assertEquals(1, created.get());
+        assertEquals(1, called.get());
+    }
+
+    @Test
+    public void mappedListener(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+        assertFalse(EventDispatcher.hasListener(EntityTickEvent.class));
+
+        AtomicInteger called = new AtomicInteger();
+        instance.eventNode().addListener(EntityTickEvent.class, event -> called.incrementAndGet());
+        assertTrue(EventDispatcher.hasListener(EntityTickEvent.class));
+        entity.tick(System.currentTimeMillis());
+        assertEquals(1, called.get());
+    }
+}
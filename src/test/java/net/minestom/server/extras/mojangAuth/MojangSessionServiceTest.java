@@ -0,0 +1,134 @@
+package net.minestom.server.extras.mojangAuth;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.minestom.server.network.player.GameProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MojangSessionServiceTest {
+    private static final String PROFILE = """
+            {"id":"069a79f444e94726a5befca90e38aaf5","name":"Notch",
+            "properties":[{"name":"textures","value":"value","signature":"signature"}]}""";
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        // Local stand-in for the session server
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/hasJoined", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        final String query = exchange.getRequestURI().getQuery();
+        if (query.contains("username=Notch&")) {
+            final byte[] body = PROFILE.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } else {
+            exchange.sendResponseHeaders(204, -1);
+        }
+        exchange.close();
+    }
+
+    private MojangSessionService service(int maxConcurrentRequests) {
+        final String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/hasJoined?username=%s&serverId=%s";
+        return new MojangSessionService(url, maxConcurrentRequests, Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void verified() throws Exception {
+        var service = service(4);
+        GameProfile profile = service.hasJoined("Notch", "1234").get(5, TimeUnit.SECONDS);
+        assertNotNull(profile);
+        assertEquals(UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5"), profile.uuid());
+        assertEquals("Notch", profile.name());
+        assertEquals(List.of(new GameProfile.Property("textures", "value", "signature")), profile.properties());
+
+        // Same login, answered by the cache
+        assertEquals(profile, service.hasJoined("Notch", "1234").get(5, TimeUnit.SECONDS));
+        assertEquals(1, requests.get());
+        assertEquals(1, service.metrics().cacheHits());
+        assertEquals(1, service.metrics().request().count());
+
+        // Another login is verified again
+        assertEquals(profile, service.hasJoined("Notch", "5678").get(5, TimeUnit.SECONDS));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void notConfirmed() throws Exception {
+        var service = service(4);
+        assertNull(service.hasJoined("Herobrine", "1234").get(5, TimeUnit.SECONDS));
+        assertNull(service.hasJoined("Herobrine", "1234").get(5, TimeUnit.SECONDS));
+        // Rejected logins are not cached
+        assertEquals(2, requests.get());
+        assertEquals(2, service.metrics().failures());
+    }
+
+    @Test
+    public void boundedConcurrency() throws Exception {
+        this.release = new CountDownLatch(1);
+        var service = service(2);
+        List<CompletableFuture<GameProfile>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(service.hasJoined("Notch", "id" + i));
+        }
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requests.get() < 2 && System.nanoTime() < deadline) Thread.onSpinWait();
+        assertEquals(2, requests.get());
+        assertEquals(2, service.metrics().activeRequests());
+        assertEquals(3, service.metrics().queuedRequests());
+
+        release.countDown();
+        for (CompletableFuture<GameProfile> future : futures) {
+            assertNotNull(future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(5, requests.get());
+        assertEquals(0, service.metrics().activeRequests());
+        assertEquals(5, service.metrics().queueing().count());
+    }
+
+    @Test
+    public void invalidUrl() throws Exception {
+        var service = new MojangSessionService("not a url %s %s", 1, Duration.ofMinutes(1));
+        for (int i = 0; i < 3; i++) {
+            var future = service.hasJoined("Notch", "id" + i);
+            var exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        }
+        // The slot is released every time
+        assertEquals(0, service.metrics().activeRequests());
+        assertEquals(0, service.metrics().queuedRequests());
+        assertEquals(3, service.metrics().failures());
+    }
+}
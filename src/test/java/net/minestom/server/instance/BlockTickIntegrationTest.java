@@ -0,0 +1,172 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class BlockTickIntegrationTest {
+
+    @Test
+    public void everyTick(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var handler = new TickCounter(tick -> {
+            assertEquals(Block.STONE.id(), tick.getBlock().id());
+            assertEquals(1, tick.getBlockX());
+            assertEquals(50, tick.getBlockY());
+            assertEquals(2, tick.getBlockZ());
+        });
+        instance.setBlock(1, 50, 2, Block.STONE.withHandler(handler));
+
+        env.tick();
+        env.tick();
+        assertEquals(2, handler.ticks.get());
+
+        instance.setBlock(1, 50, 2, Block.AIR);
+        env.tick();
+        assertEquals(2, handler.ticks.get());
+    }
+
+    @Test
+    public void delay(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var handler = new TickCounter(tick -> tick.delay(3));
+        instance.setBlock(0, 50, 0, Block.STONE.withHandler(handler));
+
+        env.tick();
+        assertEquals(1, handler.ticks.get());
+        env.tick();
+        env.tick();
+        assertEquals(1, handler.ticks.get());
+        env.tick();
+        assertEquals(2, handler.ticks.get());
+    }
+
+    @Test
+    public void sleepUntilNeighbourChange(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+        var handler = new TickCounter(BlockHandler.Tick::sleep);
+        instance.setBlock(15, 50, 0, Block.STONE.withHandler(handler));
+
+        env.tick();
+        env.tick();
+        assertEquals(1, handler.ticks.get());
+
+        // Neighbour in another chunk
+        instance.setBlock(16, 50, 0, Block.DIRT);
+        env.tick();
+        env.tick();
+        assertEquals(2, handler.ticks.get());
+
+        var chunk = (DynamicChunk) instance.getChunk(0, 0);
+        assertTrue(chunk.wakeBlock(15, 50, 0));
+        assertFalse(chunk.wakeBlock(15, 50, 0));
+        env.tick();
+        assertEquals(3, handler.ticks.get());
+    }
+
+    @Test
+    public void replacedByItself(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var handler = new TickCounter(tick -> {
+            tick.delay(3);
+            // Other state, same handler
+            final Block next = tick.getBlock().compare(Block.STONE) ? Block.DIRT : Block.STONE;
+            tick.getInstance().setBlock(tick.getBlockPosition(), next.withHandler(tick.getBlock().handler()));
+        });
+        instance.setBlock(0, 50, 0, Block.STONE.withHandler(handler));
+
+        env.tick();
+        assertEquals(1, handler.ticks.get());
+        assertTrue(instance.getBlock(0, 50, 0).compare(Block.DIRT));
+        // The delay is kept
+        env.tick();
+        env.tick();
+        assertEquals(1, handler.ticks.get());
+        env.tick();
+        assertEquals(2, handler.ticks.get());
+        assertTrue(instance.getBlock(0, 50, 0).compare(Block.STONE));
+    }
+
+    @Test
+    public void replacedByItselfWhileSleeping(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var handler = new TickCounter(tick -> {
+            tick.sleep();
+            tick.getInstance().setBlock(tick.getBlockPosition(), Block.DIRT.withHandler(tick.getBlock().handler()));
+        });
+        instance.setBlock(0, 50, 0, Block.STONE.withHandler(handler));
+
+        env.tick();
+        env.tick();
+        env.tick();
+        assertEquals(1, handler.ticks.get());
+
+        var chunk = (DynamicChunk) instance.getChunk(0, 0);
+        assertTrue(chunk.wakeBlock(0, 50, 0));
+        env.tick();
+        assertEquals(2, handler.ticks.get());
+    }
+
+    @Test
+    public void replacedByOtherHandler(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var other = new TickCounter(tick -> {
+        });
+        var handler = new TickCounter(tick -> {
+            tick.delay(5);
+            tick.getInstance().setBlock(tick.getBlockPosition(), Block.DIRT.withHandler(other));
+        });
+        instance.setBlock(0, 50, 0, Block.STONE.withHandler(handler));
+
+        env.tick();
+        assertEquals(1, handler.ticks.get());
+        // The new block is ticked like a placed block
+        env.tick();
+        assertEquals(1, handler.ticks.get());
+        assertEquals(1, other.ticks.get());
+        env.tick();
+        assertEquals(2, other.ticks.get());
+    }
+
+    private static final class TickCounter implements BlockHandler {
+        private final AtomicInteger ticks = new AtomicInteger();
+        private final Consumer<Tick> action;
+
+        TickCounter(Consumer<Tick> action) {
+            this.action = action;
+        }
+
+        @Override
+        public void tick(@NotNull Tick tick) {
+            this.ticks.incrementAndGet();
+            this.action.accept(tick);
+        }
+
+        @Override
+        public boolean isTickable() {
+            return true;
+        }
+
+        @Override
+        public @NotNull NamespaceID getNamespaceId() {
+            return NamespaceID.from("minestom:test");
+        }
+    }
+}
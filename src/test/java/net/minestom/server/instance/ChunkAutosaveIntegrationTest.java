@@ -0,0 +1,134 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.anvil.AnvilLoader;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.storage.ChunkStoreLoader;
+import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.world.biome.Biome;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkAutosaveIntegrationTest {
+
+    @Test
+    public void dirtyTracking(Env env) {
+        var loader = new RecordingLoader();
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        var generated = instance.loadChunk(0, 0).join();
+        var stored = instance.loadChunk(1, 0).join();
+        // Generated chunks have never been saved
+        assertTrue(generated.isDirty());
+        assertFalse(stored.isDirty());
+
+        instance.saveDirtyChunksToStorage().join();
+        assertEquals(List.of(generated), loader.saved);
+        assertFalse(generated.isDirty());
+
+        instance.setBlock(16, 50, 0, Block.STONE);
+        assertTrue(stored.isDirty());
+        loader.saved.clear();
+        instance.saveDirtyChunksToStorage().join();
+        assertEquals(List.of(stored), loader.saved);
+
+        synchronized (stored) {
+            stored.setBiome(16, 50, 0, Biome.PLAINS);
+        }
+        assertTrue(stored.isDirty());
+    }
+
+    @Test
+    public void autosave(Env env) {
+        var loader = new RecordingLoader();
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        var chunk = instance.loadChunk(0, 0).join();
+        var stored = instance.loadChunk(1, 0).join();
+        instance.setAutosaveInterval(2);
+
+        env.tick();
+        assertTrue(loader.saved.isEmpty());
+        env.tick();
+        assertEquals(List.of(chunk), loader.saved);
+
+        // Nothing changed
+        env.tick();
+        env.tick();
+        assertEquals(List.of(chunk), loader.saved);
+
+        instance.setBlock(16, 50, 0, Block.STONE);
+        env.tick();
+        env.tick();
+        assertEquals(List.of(chunk, stored), loader.saved);
+
+        instance.setAutosaveInterval(0);
+        instance.setBlock(0, 50, 0, Block.STONE);
+        env.tick();
+        env.tick();
+        assertEquals(2, loader.saved.size());
+        assertTrue(chunk.isDirty());
+    }
+
+    @Test
+    public void saveSnapshot(Env env) throws IOException {
+        var anvilLoader = new AnvilLoader(Files.createTempDirectory("minestom-anvil"));
+        var storeLoader = new ChunkStoreLoader(Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs"));
+        for (IChunkLoader loader : List.of(anvilLoader, storeLoader)) {
+            var instance = (InstanceContainer) env.createFlatInstance(loader);
+            instance.loadChunk(0, 0).join();
+            instance.setBlock(1, 50, 2, Block.STONE);
+            instance.saveChunksToStorage().join();
+            // The saved copy does not delay a copy to the next writes
+            assertEquals(0, instance.getSectionSharing().sharedSections());
+        }
+        storeLoader.store().close();
+    }
+
+    @Test
+    public void failedSave(Env env) throws IOException {
+        var loader = new ChunkStoreLoader(Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs"));
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        var chunk = instance.loadChunk(0, 0).join();
+        // Nothing can be written anymore
+        loader.store().close();
+
+        assertThrows(CompletionException.class, () -> instance.saveChunksToStorage().join());
+        assertTrue(chunk.isDirty());
+        assertThrows(CompletionException.class, () -> instance.saveChunkToStorage(chunk).join());
+        assertTrue(chunk.isDirty());
+    }
+
+    /**
+     * Stores the chunks at chunk X 1, records the saved chunks.
+     */
+    private static final class RecordingLoader implements IChunkLoader {
+        private final List<Chunk> saved = new CopyOnWriteArrayList<>();
+
+        @Override
+        public @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            if (chunkX != 1) return CompletableFuture.completedFuture(null);
+            final Chunk chunk = instance.getChunkSupplier().createChunk(instance, chunkX, chunkZ);
+            synchronized (chunk) {
+                chunk.setBlock(0, 0, 0, Block.STONE);
+            }
+            return CompletableFuture.completedFuture(chunk);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+            this.saved.add(chunk);
+            return AsyncUtils.VOID_FUTURE;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ExplosionIntegrationTest {
+
+    @Test
+    public void apply(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+        // Spans two chunks
+        new CubeExplosion(16, 40, 0).apply(instance);
+        assertEquals(Block.AIR, instance.getBlock(15, 39, 0));
+        assertEquals(Block.AIR, instance.getBlock(16, 39, 0));
+        assertEquals(Block.AIR, instance.getBlock(16, 40, 0));
+        // Outside the explosion
+        assertEquals(Block.STONE, instance.getBlock(16, 38, 0));
+    }
+
+    @Test
+    public void queued(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var future = instance.queueExplosion(new CubeExplosion(8, 40, 8));
+        assertEquals(1, instance.getQueuedExplosionCount());
+        assertFalse(future.isDone());
+        assertEquals(Block.STONE, instance.getBlock(8, 39, 8));
+
+        env.tick();
+        assertTrue(future.isDone());
+        assertEquals(0, instance.getQueuedExplosionCount());
+        assertEquals(Block.AIR, instance.getBlock(8, 39, 8));
+    }
+
+    @Test
+    public void chainReaction(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.queueExplosion(new CubeExplosion(4, 40, 4) {
+            @Override
+            protected void postSend(Instance instance, List<Point> blocks) {
+                instance.queueExplosion(new CubeExplosion(12, 40, 12));
+            }
+        });
+
+        env.tick();
+        assertEquals(Block.AIR, instance.getBlock(4, 39, 4));
+        // The explosion caused by the first one waits for the next tick
+        assertEquals(1, instance.getQueuedExplosionCount());
+        assertEquals(Block.STONE, instance.getBlock(12, 39, 12));
+
+        env.tick();
+        assertEquals(0, instance.getQueuedExplosionCount());
+        assertEquals(Block.AIR, instance.getBlock(12, 39, 12));
+    }
+
+    @Test
+    public void queuedWithoutComputation(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var explosion = new PreparedExplosion(8, 40, 8);
+        assertFalse(ExplosionQueue.computesBlocks(explosion));
+        assertTrue(ExplosionQueue.computesBlocks(new CubeExplosion(8, 40, 8)));
+        assertTrue(ExplosionQueue.computesBlocks(new CubeExplosion(8, 40, 8) {
+        }));
+
+        instance.queueExplosion(explosion);
+        env.tick();
+        assertEquals(0, instance.getQueuedExplosionCount());
+        assertEquals(Block.AIR, instance.getBlock(8, 39, 8));
+    }
+
+    private static class PreparedExplosion extends Explosion {
+        PreparedExplosion(float centerX, float centerY, float centerZ) {
+            super(centerX, centerY, centerZ, 1);
+        }
+
+        @Override
+        protected List<Point> prepare(Instance instance) {
+            return List.of(new Vec(getCenterX(), getCenterY() - 1, getCenterZ()));
+        }
+    }
+
+    private static class CubeExplosion extends Explosion {
+        CubeExplosion(float centerX, float centerY, float centerZ) {
+            super(centerX, centerY, centerZ, 1);
+        }
+
+        @Override
+        protected @Nullable List<Point> computeBlocks(Block.@NotNull Getter blocks) {
+            List<Point> positions = new ArrayList<>();
+            for (int x = -1; x <= 1; x++) {
+                for (int y = -1; y <= 1; y++) {
+                    for (int z = -1; z <= 1; z++) {
+                        positions.add(new Vec(getCenterX() + x, getCenterY() + y, getCenterZ() + z));
+                    }
+                }
+            }
+            return positions;
+        }
+
+        @Override
+        protected List<Point> prepare(Instance instance) {
+            return computeBlocks(instance);
+        }
+    }
+}
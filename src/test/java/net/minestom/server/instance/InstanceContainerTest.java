@@ -1,12 +1,13 @@
 package net.minestom.server.instance;
 
+import net.minestom.server.instance.block.Block;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.world.DimensionType;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class InstanceContainerTest {
 
@@ -23,4 +24,19 @@ public class InstanceContainerTest {
         var result = copyInstance.getTag(tag);
         assertEquals("123", result);
     }
+
+    @Test
+    public void copySharesSections() {
+        var section = new Section();
+        section.blockPalette().set(0, 0, 0, Block.STONE.stateId());
+        var copy = section.copyOnWrite();
+        assertTrue(section.isShared());
+        assertTrue(copy.isShared());
+        assertEquals(Block.STONE.stateId(), copy.blockPalette().get(0, 0, 0));
+
+        copy.blockPalette().set(0, 0, 0, Block.DIRT.stateId());
+        assertFalse(copy.isShared());
+        assertEquals(Block.STONE.stateId(), section.blockPalette().get(0, 0, 0));
+        assertEquals(Block.DIRT.stateId(), copy.blockPalette().get(0, 0, 0));
+    }
 }
@@ -0,0 +1,49 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceCopyIntegrationTest {
+
+    @Test
+    public void copyOnWrite(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+        assertEquals(0, instance.getSectionSharing().sharedSections());
+
+        var copy = instance.copy();
+        env.process().instance().registerInstance(copy);
+        final var sharing = instance.getSectionSharing();
+        // The sections with both stone and air are shared by both instances
+        assertTrue(sharing.sharedSections() >= 2);
+        assertEquals(sharing, copy.getSectionSharing());
+
+        // Written by the source
+        instance.setBlock(0, 45, 0, Block.DIAMOND_BLOCK);
+        assertEquals(Block.DIAMOND_BLOCK, instance.getBlock(0, 45, 0));
+        assertEquals(Block.AIR, copy.getBlock(0, 45, 0));
+        assertEquals(sharing.sharedSections() - 1, instance.getSectionSharing().sharedSections());
+        // The copy is the last one using the section memory
+        assertEquals(sharing.sharedSections() - 1, copy.getSectionSharing().sharedSections());
+
+        // Written by the copy, in the same section and in another chunk
+        copy.setBlock(0, 46, 0, Block.GOLD_BLOCK);
+        copy.setBlock(16, 45, 0, Block.GOLD_BLOCK);
+        assertEquals(Block.GOLD_BLOCK, copy.getBlock(0, 46, 0));
+        assertEquals(Block.AIR, instance.getBlock(0, 46, 0));
+        assertEquals(Block.AIR, instance.getBlock(16, 45, 0));
+        assertEquals(Block.AIR, copy.getBlock(0, 45, 0));
+        assertEquals(sharing.sharedSections() - 2, instance.getSectionSharing().sharedSections());
+        assertEquals(sharing.sharedSections() - 2, copy.getSectionSharing().sharedSections());
+        assertEquals(sharing.sharedSections() + sharing.privateSections(),
+                copy.getSectionSharing().sharedSections() + copy.getSectionSharing().privateSections());
+
+        env.destroyInstance(copy);
+    }
+}
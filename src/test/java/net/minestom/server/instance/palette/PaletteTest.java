@@ -285,6 +285,48 @@ public class PaletteTest {
         assertDoesNotThrow(() -> Palette.newPalette(16, 5, 3));
     }
 
+    @Test
+    public void copyOnWrite() {
+        var palette = Palette.blocks();
+        palette.set(0, 0, 0, 1);
+        var copy = palette.copyOnWrite();
+        assertTrue(palette.isShared());
+        assertTrue(copy.isShared());
+        assertEquals(1, copy.get(0, 0, 0));
+
+        copy.set(0, 0, 0, 2);
+        assertFalse(copy.isShared());
+        // The copy has its own storage, the palette is the last one using the shared one
+        assertFalse(palette.isShared());
+        assertEquals(1, palette.get(0, 0, 0));
+        assertEquals(2, copy.get(0, 0, 0));
+
+        palette.set(1, 0, 0, 3);
+        assertFalse(palette.isShared());
+        assertEquals(0, copy.get(1, 0, 0));
+
+        // Copy of a copy
+        var second = palette.copyOnWrite();
+        var third = second.copyOnWrite();
+        assertTrue(palette.isShared());
+        third.set(0, 0, 0, 4);
+        assertTrue(palette.isShared());
+        assertTrue(second.isShared());
+        second.set(0, 0, 0, 5);
+        assertFalse(palette.isShared());
+        assertEquals(1, palette.get(0, 0, 0));
+        assertEquals(5, second.get(0, 0, 0));
+        assertEquals(4, third.get(0, 0, 0));
+
+        // Filled palettes are immutable
+        var filled = Palette.blocks();
+        filled.fill(5);
+        var filledCopy = filled.copyOnWrite();
+        assertFalse(filledCopy.isShared());
+        filledCopy.set(0, 0, 0, 6);
+        assertEquals(5, filled.get(0, 0, 0));
+    }
+
     private static List<Palette> testPalettes() {
         return List.of(
                 Palette.newPalette(2, 5, 3),
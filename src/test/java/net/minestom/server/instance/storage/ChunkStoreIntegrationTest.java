@@ -0,0 +1,282 @@
+package net.minestom.server.instance.storage;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkStoreIntegrationTest {
+    // Header and payload of a record of a single byte
+    private static final int RECORD_SIZE = 37;
+
+    @Test
+    public void writeRead() throws IOException {
+        var path = Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs");
+        var compressible = new byte[4096];
+        var random = new byte[4096];
+        new Random(42).nextBytes(random);
+        try (var store = ChunkStore.open(path, 1)) {
+            assertTrue(store.write(0, 0, compressible));
+            assertTrue(store.write(0, 1, random));
+            assertTrue(store.write(5, 0, new byte[]{1, 2, 3}));
+            // Unchanged
+            assertFalse(store.write(0, 0, compressible));
+            assertArrayEquals(compressible, store.read(0, 0));
+            assertNull(store.read(1, 0));
+        }
+        try (var store = ChunkStore.open(path, 2)) {
+            assertEquals(1, store.dataVersion());
+            assertEquals(3, store.stats().records());
+            assertArrayEquals(random, store.read(0, 1));
+            assertArrayEquals(new byte[]{1, 2, 3}, store.read(5, 0));
+        }
+    }
+
+    @Test
+    public void compact() throws IOException {
+        var path = Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs");
+        try (var store = ChunkStore.open(path, 1)) {
+            for (byte i = 0; i < 10; i++) store.write(0, 0, new byte[]{i});
+            store.write(1, 0, new byte[]{42});
+            var stats = store.stats();
+            assertTrue(stats.liveBytes() < stats.fileBytes());
+
+            store.compact();
+            assertEquals(stats.liveBytes(), store.stats().fileBytes());
+            assertEquals(stats.liveBytes(), Files.size(path));
+            assertArrayEquals(new byte[]{9}, store.read(0, 0));
+            assertArrayEquals(new byte[]{42}, store.read(1, 0));
+            // Still writable
+            store.write(1, 0, new byte[]{43});
+            assertArrayEquals(new byte[]{43}, store.read(1, 0));
+        }
+    }
+
+    @Test
+    public void incompleteRecord() throws IOException {
+        var path = Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs");
+        try (var store = ChunkStore.open(path, 1)) {
+            store.write(0, 0, new byte[]{1});
+            store.write(0, 0, new byte[]{2, 3, 4});
+        }
+        // Interrupted while writing the second version
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        try (var store = ChunkStore.open(path, 1)) {
+            assertArrayEquals(new byte[]{1}, store.read(0, 0));
+            assertEquals(Files.size(path), store.stats().fileBytes());
+        }
+    }
+
+    @Test
+    public void incompleteBatch() throws IOException {
+        var path = Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs");
+        try (var store = ChunkStore.open(path, 1)) {
+            assertEquals(2, store.write(List.of(new ChunkStore.Entry(0, 0, new byte[]{1}), new ChunkStore.Entry(0, 1, new byte[]{1}))));
+            assertEquals(3, store.write(List.of(new ChunkStore.Entry(0, 0, new byte[]{2}), new ChunkStore.Entry(0, 1, new byte[]{2}),
+                    new ChunkStore.Entry(0, 2, new byte[]{2}))));
+            // Only the changed record is written
+            assertEquals(1, store.write(List.of(new ChunkStore.Entry(0, 0, new byte[]{2}), new ChunkStore.Entry(0, 1, new byte[]{3}))));
+        }
+        // Interrupted after the first record of the second batch, its complete records are not used either
+        final long firstBatchEnd = Files.size(path) - 4 * RECORD_SIZE;
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(firstBatchEnd + RECORD_SIZE + 1);
+        }
+        try (var store = ChunkStore.open(path, 1)) {
+            assertArrayEquals(new byte[]{1}, store.read(0, 0));
+            assertArrayEquals(new byte[]{1}, store.read(0, 1));
+            assertNull(store.read(0, 2));
+            assertEquals(firstBatchEnd, Files.size(path));
+        }
+    }
+
+    @Test
+    public void corruptedBatch() throws IOException {
+        var path = Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs");
+        try (var store = ChunkStore.open(path, 1)) {
+            store.write(List.of(new ChunkStore.Entry(0, 0, new byte[]{1}), new ChunkStore.Entry(0, 1, new byte[]{1})));
+            store.write(List.of(new ChunkStore.Entry(0, 0, new byte[]{2}), new ChunkStore.Entry(0, 1, new byte[]{2})));
+            store.write(1, 0, new byte[]{3});
+        }
+        // Damaged payload in the middle of the file
+        final long size = Files.size(path);
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), size - 2 * RECORD_SIZE - 1);
+        }
+        try (var store = ChunkStore.open(path, 1)) {
+            // The whole batch is ignored, the following records are kept
+            assertArrayEquals(new byte[]{1}, store.read(0, 0));
+            assertArrayEquals(new byte[]{1}, store.read(0, 1));
+            assertArrayEquals(new byte[]{3}, store.read(1, 0));
+            assertEquals(size, Files.size(path));
+        }
+    }
+
+    @Test
+    public void checksumCollision() throws IOException {
+        var path = Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs");
+        var data = new byte[64];
+        var collision = collision(data);
+        assertFalse(Arrays.equals(data, collision));
+        try (var store = ChunkStore.open(path, 1)) {
+            assertTrue(store.write(0, 0, data));
+            // Same length and checksum, but a different payload
+            assertTrue(store.write(0, 0, collision));
+            assertArrayEquals(collision, store.read(0, 0));
+        }
+    }
+
+    @Test
+    public void loaderRoundTrip(Env env) throws IOException {
+        var path = Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs");
+        var loader = new ChunkStoreLoader(path);
+        Instance instance = env.createFlatInstance(loader);
+        instance.loadChunk(0, 0).join();
+        instance.setBlock(1, 50, 2, Block.CHEST);
+        instance.setBlock(3, -20, 4, Block.DIAMOND_BLOCK);
+        instance.saveChunksToStorage().join();
+
+        Chunk chunk = instance.getChunk(0, 0);
+        assertNotNull(chunk);
+        instance.unloadChunk(chunk);
+        env.tick();
+
+        instance.loadChunk(0, 0).join();
+        assertEquals(Block.CHEST, instance.getBlock(1, 50, 2));
+        assertEquals(Block.DIAMOND_BLOCK, instance.getBlock(3, -20, 4));
+        assertEquals(Block.STONE, instance.getBlock(0, 39, 0));
+        assertEquals(Block.AIR, instance.getBlock(0, 41, 0));
+        loader.store().close();
+    }
+
+    @Test
+    public void loaderBatch(Env env) throws IOException {
+        var path = Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs");
+        var loader = new ChunkStoreLoader(path);
+        Instance instance = env.createFlatInstance(loader);
+        instance.loadChunk(0, 0).join();
+        instance.saveChunksToStorage().join();
+        final long saved = Files.size(path);
+
+        instance.setBlock(1, 50, 2, Block.STONE);
+        instance.saveChunksToStorage().join();
+        loader.store().close();
+        // Interrupted before the end of the second save, the section is not loaded without its chunk record
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(path) - 1);
+        }
+        try (var store = ChunkStore.open(path, MinecraftServer.DATA_VERSION)) {
+            assertEquals(saved, store.stats().fileBytes());
+            instance = env.createFlatInstance(new ChunkStoreLoader(store));
+            instance.loadChunk(0, 0).join();
+            assertEquals(Block.AIR, instance.getBlock(1, 50, 2));
+        }
+    }
+
+    @Test
+    public void loaderCorruptedRecord(Env env) throws IOException {
+        var path = Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs");
+        var loader = new ChunkStoreLoader(path);
+        Instance instance = env.createFlatInstance(loader);
+        instance.loadChunk(0, 0).join();
+        instance.setBlock(1, 50, 2, Block.DIAMOND_BLOCK);
+        instance.saveChunksToStorage().join();
+        instance.unloadChunk(instance.getChunk(0, 0));
+        env.tick();
+
+        // Damaged after the store has been opened, the chunk record is the last one written
+        final long size = Files.size(path);
+        final ByteBuffer original = ByteBuffer.allocate(1);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.read(original, size - 1);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) ~original.get(0)}), size - 1);
+        }
+        assertThrows(CompletionException.class, () -> instance.loadChunk(0, 0).join());
+        assertNull(instance.getChunk(0, 0));
+        // Nothing has been generated in place of the stored chunk
+        instance.saveChunksToStorage().join();
+        assertEquals(size, Files.size(path));
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(original.flip(), size - 1);
+        }
+        instance.loadChunk(0, 0).join();
+        assertEquals(Block.DIAMOND_BLOCK, instance.getBlock(1, 50, 2));
+        loader.store().close();
+    }
+
+    @Test
+    public void dataVersionMismatch() throws IOException {
+        var path = Files.createTempDirectory("minestom-chunk-store").resolve("chunks.mcs");
+        try (var store = ChunkStore.open(path, MinecraftServer.DATA_VERSION - 1)) {
+            assertThrows(IllegalStateException.class, () -> new ChunkStoreLoader(store));
+        }
+    }
+
+    /**
+     * Flips bits of the data until the CRC32C checksum is the same, the checksum being linear.
+     */
+    private static byte[] collision(byte[] data) {
+        final int bits = 33;
+        int[] deltas = new int[bits];
+        long[] flips = new long[bits];
+        for (int i = 0; i < bits; i++) {
+            var flipped = data.clone();
+            flipped[i / 8] ^= (byte) (1 << (i % 8));
+            deltas[i] = checksum(flipped) ^ checksum(data);
+            flips[i] = 1L << i;
+        }
+        // 33 deltas of 32 bits, a combination of them cancels out
+        int row = 0;
+        for (int bit = 31; bit >= 0; bit--) {
+            int pivot = row;
+            while (pivot < bits && (deltas[pivot] >>> bit & 1) == 0) pivot++;
+            if (pivot == bits) continue;
+            final int delta = deltas[pivot];
+            deltas[pivot] = deltas[row];
+            deltas[row] = delta;
+            final long flip = flips[pivot];
+            flips[pivot] = flips[row];
+            flips[row] = flip;
+            for (int i = 0; i < bits; i++) {
+                if (i != row && (deltas[i] >>> bit & 1) != 0) {
+                    deltas[i] ^= deltas[row];
+                    flips[i] ^= flips[row];
+                }
+            }
+            row++;
+        }
+        var collision = data.clone();
+        for (int i = 0; i < bits; i++) {
+            if ((flips[row] >>> i & 1) != 0) collision[i / 8] ^= (byte) (1 << (i % 8));
+        }
+        assertEquals(checksum(data), checksum(collision));
+        return collision;
+    }
+
+    private static int checksum(byte[] data) {
+        var crc = new CRC32C();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+}
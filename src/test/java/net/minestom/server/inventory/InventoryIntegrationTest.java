@@ -11,8 +11,11 @@ import net.minestom.server.item.Material;
 import net.minestom.server.network.packet.server.play.EntityEquipmentPacket;
 import net.minestom.server.network.packet.server.play.SetSlotPacket;
 import net.minestom.server.network.packet.server.play.WindowItemsPacket;
+import net.minestom.server.network.packet.client.play.ClientClickWindowPacket;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
@@ -222,4 +225,39 @@ public class InventoryIntegrationTest {
         });
     }
 
+    @Test
+    public void updateSendsDifferingSlots(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, Component.empty());
+        player.openInventory(inventory);
+        inventory.setItemStack(3, MAGIC_STACK);
+
+        // Nothing changed since the last packets
+        var setSlotTracker = connection.trackIncoming(SetSlotPacket.class);
+        var windowItemsTracker = connection.trackIncoming(WindowItemsPacket.class);
+        inventory.update();
+        setSlotTracker.assertEmpty();
+        windowItemsTracker.assertEmpty();
+
+        // Wrong client prediction, only the predicted slot is corrected
+        final int stateId = inventory.stateId(player);
+        inventory.clientChanges(player, stateId, List.of(new ClientClickWindowPacket.ChangedSlot((short) 5, MAGIC_STACK)));
+        setSlotTracker = connection.trackIncoming(SetSlotPacket.class);
+        windowItemsTracker = connection.trackIncoming(WindowItemsPacket.class);
+        inventory.update(player);
+        setSlotTracker.assertSingle(slot -> {
+            assertEquals(5, slot.slot());
+            assertEquals(ItemStack.AIR, slot.itemStack());
+            assertNotEquals(stateId, slot.stateId());
+        });
+        windowItemsTracker.assertEmpty();
+
+        // Click made on an outdated state, everything is resent
+        windowItemsTracker = connection.trackIncoming(WindowItemsPacket.class);
+        inventory.clientChanges(player, stateId, List.of());
+        windowItemsTracker.assertSingle(packet -> assertEquals(MAGIC_STACK, packet.items().get(3)));
+    }
 }
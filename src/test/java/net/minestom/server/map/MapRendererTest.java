@@ -0,0 +1,64 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.DirectFramebuffer;
+import net.minestom.server.map.framebuffers.LargeDirectFramebuffer;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapRendererTest {
+
+    @Test
+    public void firstFrameIsFull() {
+        var renderer = new MapRenderer(1);
+        var packets = renderer.render(new DirectFramebuffer());
+        assertEquals(1, packets.size());
+        var content = packets.getFirst().colorContent();
+        assertNotNull(content);
+        assertEquals(Framebuffer.WIDTH * Framebuffer.HEIGHT, content.data().length);
+        // Nothing changed
+        assertTrue(renderer.render(new DirectFramebuffer()).isEmpty());
+    }
+
+    @Test
+    public void dirtyRectangles() {
+        var renderer = new MapRenderer(1);
+        var framebuffer = new DirectFramebuffer();
+        renderer.render(framebuffer);
+
+        framebuffer.set(10, 20, MapColors.COLOR_RED.baseColor());
+        framebuffer.set(12, 21, MapColors.COLOR_RED.baseColor());
+        var packets = renderer.render(framebuffer);
+        assertEquals(1, packets.size());
+        var content = packets.getFirst().colorContent();
+        assertEquals(10, content.x());
+        assertEquals(20, content.z());
+        assertEquals(3, content.columns());
+        assertEquals(2, content.rows());
+        assertEquals(MapColors.COLOR_RED.baseColor(), content.data()[0]);
+        assertEquals(MapColors.COLOR_RED.baseColor(), content.data()[5]);
+
+        // Far apart changes are sent separately
+        framebuffer.set(0, 0, MapColors.COLOR_BLUE.baseColor());
+        framebuffer.set(127, 127, MapColors.COLOR_BLUE.baseColor());
+        packets = renderer.render(framebuffer);
+        assertEquals(2, packets.size());
+        for (MapDataPacket packet : packets) {
+            assertEquals(1, packet.colorContent().data().length);
+        }
+    }
+
+    @Test
+    public void largeWall() {
+        var framebuffer = new LargeDirectFramebuffer(256, 128);
+        var renderer = new LargeMapRenderer(2, 1, 5, 6);
+        assertEquals(2, renderer.render(framebuffer).size());
+
+        framebuffer.setMapColor(200, 5, MapColors.COLOR_GREEN.baseColor());
+        var packets = renderer.render(framebuffer);
+        assertEquals(1, packets.size());
+        assertEquals(6, packets.getFirst().mapId());
+        assertEquals(200 - Framebuffer.WIDTH, packets.getFirst().colorContent().x());
+    }
+}
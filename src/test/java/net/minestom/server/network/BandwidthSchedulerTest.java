@@ -0,0 +1,76 @@
+package net.minestom.server.network;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BandwidthSchedulerTest {
+
+    @Test
+    public void unlimited() {
+        var scheduler = new BandwidthScheduler(0);
+        assertFalse(scheduler.isLimited());
+        scheduler.tick();
+        assertEquals(0, scheduler.budget());
+    }
+
+    @Test
+    public void budget() {
+        var scheduler = new BandwidthScheduler(1000);
+        assertTrue(scheduler.tryAcquire(600));
+        // Going over budget is allowed once
+        assertTrue(scheduler.tryAcquire(600));
+        assertFalse(scheduler.tryAcquire(1));
+        assertEquals(-200, scheduler.remaining());
+
+        // The overshoot is taken from the next tick
+        scheduler.tick();
+        assertEquals(800, scheduler.remaining());
+        // Unused bytes are not carried over
+        scheduler.tick();
+        assertEquals(1000, scheduler.remaining());
+    }
+
+    @Test
+    public void weightedShares() {
+        var scheduler = new BandwidthScheduler(1000);
+        // Nobody asked during the previous tick
+        assertEquals(1000, scheduler.share(1));
+        assertEquals(1000, scheduler.share(3));
+        assertEquals(0, scheduler.share(0));
+
+        scheduler.tick();
+        assertEquals(250, scheduler.share(1));
+        assertEquals(750, scheduler.share(3));
+    }
+
+    @Test
+    public void cappedCredit() {
+        var scheduler = new BandwidthScheduler(1000);
+        final long size = 2500;
+        long credit = 0;
+        // The budget is used by other players for a while
+        for (int tick = 0; tick < 20; tick++) {
+            scheduler.tick();
+            assertTrue(scheduler.tryAcquire(1000));
+            final long share = scheduler.share(1);
+            credit += share;
+            assertFalse(credit >= size && scheduler.tryAcquire(size));
+            credit = BandwidthScheduler.capCredit(credit, share, size);
+            assertTrue(credit <= size);
+        }
+        assertEquals(size, credit);
+
+        // Sent once the budget is available, without leftover credit for a burst
+        scheduler.tick();
+        final long share = scheduler.share(1);
+        credit += share;
+        assertTrue(credit >= size && scheduler.tryAcquire(size));
+        credit -= size;
+        assertEquals(share, credit);
+
+        // A share larger than the next packet is kept
+        assertEquals(1000, BandwidthScheduler.capCredit(1500, 1000, 200));
+        assertEquals(200, BandwidthScheduler.capCredit(200, 1000, 200));
+    }
+}
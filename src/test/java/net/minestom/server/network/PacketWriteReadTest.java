@@ -4,6 +4,7 @@ import com.google.gson.JsonObject;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.EquipmentSlot;
 import net.minestom.server.entity.GameMode;
@@ -13,6 +14,10 @@ import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.common.DisconnectPacket;
 import net.minestom.server.network.packet.server.common.PingResponsePacket;
@@ -27,6 +32,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -170,6 +176,27 @@ public class PacketWriteReadTest {
         CLIENT_PACKETS.forEach(PacketWriteReadTest::testPacket);
     }
 
+    @Test
+    public void clientDirectTest() {
+        List.of(new ClientPlayerPositionPacket(new Vec(1.5, -64, 3.25), true),
+                new ClientPlayerPositionAndRotationPacket(new Pos(-7, 80.5, 12, 90f, -45f), false),
+                new ClientPlayerRotationPacket(180f, 30f, true),
+                new ClientPlayerPacket(false)
+        ).forEach(PacketWriteReadTest::testDirectPacket);
+    }
+
+    private static void testDirectPacket(ClientPacket packet) {
+        try {
+            byte[] bytes = NetworkBuffer.makeArray(buffer -> buffer.write(packet));
+            var reader = packet.getClass().getMethod("read", ByteBuffer.class);
+            ByteBuffer body = ByteBuffer.wrap(bytes);
+            assertEquals(packet, reader.invoke(null, body));
+            assertEquals(body.limit(), body.position());
+        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+            fail(packet.toString(), e);
+        }
+    }
+
     private static void testPacket(NetworkBuffer.Writer writeable) {
         try {
             byte[] bytes = NetworkBuffer.makeArray(buffer -> buffer.write(writeable));
@@ -0,0 +1,157 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.common.ClientKeepAlivePacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClientPacketQueueTest {
+
+    @Test
+    public void fixedBudget() {
+        var queue = new ClientPacketQueue(16, false);
+        var received = new ArrayList<ClientPacket>();
+        for (int i = 0; i < 5; i++) assertTrue(queue.offer(new ClientKeepAlivePacket(i)));
+        queue.offer(new ClientPlayerPacket(true));
+        queue.offer(new ClientPlayerPacket(false));
+
+        queue.process(manager(received), new DummyConnection(), 3);
+        assertEquals(List.of(new ClientKeepAlivePacket(0), new ClientKeepAlivePacket(1), new ClientKeepAlivePacket(2)), received);
+        // Movement is not coalesced and counts toward the budget
+        received.clear();
+        queue.process(manager(received), new DummyConnection(), 3);
+        assertEquals(List.of(new ClientKeepAlivePacket(3), new ClientKeepAlivePacket(4), new ClientPlayerPacket(true)), received);
+
+        var metrics = queue.metrics();
+        assertEquals(1, metrics.depth());
+        assertEquals(4, metrics.lastDepth());
+        assertEquals(7, metrics.peakDepth());
+        assertEquals(3, metrics.lastBudget());
+        assertEquals(6, metrics.processed());
+        assertEquals(0, metrics.coalesced());
+    }
+
+    @Test
+    public void coalescing() {
+        var queue = new ClientPacketQueue(16, true);
+        var received = new ArrayList<ClientPacket>();
+        queue.offer(new ClientPlayerPositionPacket(new Vec(1, 2, 3), false));
+        queue.offer(new ClientPlayerRotationPacket(90, 10, false));
+        queue.offer(new ClientPlayerPositionPacket(new Vec(4, 5, 6), true));
+        queue.offer(new ClientKeepAlivePacket(1));
+        queue.offer(new ClientPlayerRotationPacket(45, 5, true));
+        queue.offer(new ClientPlayerPacket(false));
+        queue.offer(new ClientPlayerPositionPacket(new Vec(7, 8, 9), true));
+
+        queue.process(manager(received), new DummyConnection(), 10);
+        // Runs are merged into their latest state, packets stay in reception order
+        assertEquals(List.of(
+                new ClientPlayerPositionAndRotationPacket(new Pos(4, 5, 6, 90, 10), true),
+                new ClientKeepAlivePacket(1),
+                new ClientPlayerPositionAndRotationPacket(new Pos(7, 8, 9, 45, 5), true)
+        ), received);
+
+        var metrics = queue.metrics();
+        assertEquals(0, metrics.depth());
+        assertEquals(3, metrics.processed());
+        assertEquals(4, metrics.coalesced());
+    }
+
+    @Test
+    public void singleMovementUnchanged() {
+        var queue = new ClientPacketQueue(16, true);
+        var received = new ArrayList<ClientPacket>();
+        var rotation = new ClientPlayerRotationPacket(90, 10, false);
+        queue.offer(rotation);
+        queue.offer(new ClientKeepAlivePacket(1));
+        queue.offer(new ClientPlayerPacket(true));
+        queue.offer(new ClientPlayerPacket(false));
+
+        queue.process(manager(received), new DummyConnection(), 10);
+        assertSame(rotation, received.get(0));
+        assertEquals(List.of(rotation, new ClientKeepAlivePacket(1), new ClientPlayerPacket(false)), received);
+    }
+
+    @Test
+    public void movementOutsideBudget() {
+        var queue = new ClientPacketQueue(16, true);
+        var received = new ArrayList<ClientPacket>();
+        queue.offer(new ClientKeepAlivePacket(1));
+        queue.offer(new ClientKeepAlivePacket(2));
+        queue.offer(new ClientPlayerPositionPacket(new Vec(1, 2, 3), false));
+        queue.offer(new ClientKeepAlivePacket(3));
+
+        queue.process(manager(received), new DummyConnection(), 1);
+        assertEquals(List.of(new ClientKeepAlivePacket(1)), received);
+        assertEquals(3, queue.metrics().depth());
+
+        // The movement after the exhausted budget waits for its turn
+        received.clear();
+        queue.process(manager(received), new DummyConnection(), 1);
+        assertEquals(List.of(new ClientKeepAlivePacket(2), new ClientPlayerPositionPacket(new Vec(1, 2, 3), false)), received);
+        assertEquals(1, queue.metrics().depth());
+    }
+
+    @Test
+    public void movementWithoutBudget() {
+        var queue = new ClientPacketQueue(16, true);
+        var received = new ArrayList<ClientPacket>();
+        queue.offer(new ClientPlayerPacket(true));
+        queue.offer(new ClientKeepAlivePacket(1));
+        queue.offer(new ClientPlayerPacket(false));
+
+        queue.process(manager(received), new DummyConnection(), 0);
+        // Stops at the first packet needing budget, order is kept
+        assertEquals(List.of(new ClientPlayerPacket(true)), received);
+        assertEquals(2, queue.metrics().depth());
+    }
+
+    @Test
+    public void full() {
+        var queue = new ClientPacketQueue(4, true);
+        var capacity = queue.metrics().capacity();
+        for (int i = 0; i < capacity; i++) assertTrue(queue.offer(new ClientKeepAlivePacket(i)));
+        assertFalse(queue.offer(new ClientKeepAlivePacket(-1)));
+
+        queue.clear();
+        assertEquals(0, queue.metrics().depth());
+        assertTrue(queue.offer(new ClientKeepAlivePacket(-1)));
+    }
+
+    private static PacketListenerManager manager(List<ClientPacket> received) {
+        var manager = new PacketListenerManager();
+        // Handshake state, so that no event is called
+        for (var type : List.of(ClientKeepAlivePacket.class, ClientPlayerPacket.class, ClientPlayerPositionPacket.class,
+                ClientPlayerRotationPacket.class, ClientPlayerPositionAndRotationPacket.class)) {
+            manager.setListener(ConnectionState.HANDSHAKE, type, (packet, connection) -> received.add(packet));
+        }
+        return manager;
+    }
+
+    private static final class DummyConnection extends PlayerConnection {
+        @Override
+        public void sendPacket(@NotNull SendablePacket packet) {
+        }
+
+        @Override
+        public @NotNull SocketAddress getRemoteAddress() {
+            return new InetSocketAddress("localhost", 25565);
+        }
+    }
+}
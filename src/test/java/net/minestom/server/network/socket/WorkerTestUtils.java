@@ -0,0 +1,56 @@
+package net.minestom.server.network.socket;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkerTestUtils {
+
+    /**
+     * Starts a worker without accepting connections, to run the tasks of the connections created on it.
+     */
+    public static Worker startWorker(Server server) {
+        var worker = new Worker(server);
+        worker.start();
+        return worker;
+    }
+
+    /**
+     * Waits for the worker to run all the tasks queued before this call.
+     */
+    public static void await(Worker worker) throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        worker.queue().offer(latch::countDown);
+        worker.tick();
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Worker did not run its tasks");
+    }
+
+    /**
+     * Blocks the worker until the returned latch is released.
+     */
+    public static CountDownLatch block(Worker worker) throws InterruptedException {
+        var gate = new CountDownLatch(1);
+        var blocked = new CountDownLatch(1);
+        worker.queue().offer(() -> {
+            blocked.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        worker.tick();
+        assertTrue(blocked.await(5, TimeUnit.SECONDS), "Worker did not block");
+        return gate;
+    }
+
+    public static void stop(Server server, Worker... workers) throws InterruptedException {
+        server.stop();
+        for (Worker worker : workers) {
+            worker.tick();
+            worker.join(5000);
+            worker.close();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package net.minestom.server.registry;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryRegistryFormatTest {
+    private static final long HASH = 42;
+
+    @Test
+    public void roundTrip() throws IOException {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("id", 5L);
+        entry.put("negative", -12L);
+        entry.put("large", Long.MAX_VALUE);
+        entry.put("friction", 0.6);
+        entry.put("solid", true);
+        entry.put("liquid", false);
+        entry.put("name", "minecraft:stone");
+        entry.put("unicode", "☃ snowman");
+        entry.put("list", List.of(1L, "minecraft:stone", List.of(), Map.of()));
+        entry.put("section", Map.of("key", "value"));
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("minecraft:stone", entry);
+        root.put("minecraft:air", Map.of());
+
+        var read = BinaryRegistryFormat.read(ByteBuffer.wrap(write(root)), HASH);
+        assertEquals(root, read);
+        assertInstanceOf(Long.class, read.get("minecraft:stone").get("id"));
+        assertInstanceOf(Double.class, read.get("minecraft:stone").get("friction"));
+        // Strings are shared
+        assertSame(read.get("minecraft:stone").get("name"), ((List<?>) read.get("minecraft:stone").get("list")).get(1));
+    }
+
+    @Test
+    public void sameAsRegistry() {
+        for (Registry.Resource resource : Registry.Resource.values()) {
+            if (!resource.fileName().endsWith(".json")) continue;
+            // Precompiled snapshot against the parsed json
+            var snapshot = Registry.loadBinary(resource);
+            assertNotNull(snapshot, resource.name());
+            assertEquals(Registry.loadJson(resource), snapshot, resource.name());
+        }
+    }
+
+    @Test
+    public void invalid() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> BinaryRegistryFormat.read(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}), HASH));
+        byte[] data = write(Map.of());
+        data[4] = (byte) (BinaryRegistryFormat.VERSION + 1);
+        assertThrows(IllegalArgumentException.class, () -> BinaryRegistryFormat.read(ByteBuffer.wrap(data), HASH));
+    }
+
+    @Test
+    public void otherSource() throws IOException {
+        var oldSource = "{\"minecraft:stone\":{\"id\":1}}".getBytes(StandardCharsets.UTF_8);
+        var newSource = "{\"minecraft:stone\":{\"id\":2}}".getBytes(StandardCharsets.UTF_8);
+        assertNotEquals(BinaryRegistryFormat.sourceHash(oldSource), BinaryRegistryFormat.sourceHash(newSource));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryRegistryFormat.write(Map.of("minecraft:stone", Map.of("id", 1L)), BinaryRegistryFormat.sourceHash(oldSource), out);
+        var data = out.toByteArray();
+        // Snapshot left over from older data
+        assertThrows(IllegalArgumentException.class,
+                () -> BinaryRegistryFormat.read(ByteBuffer.wrap(data), BinaryRegistryFormat.sourceHash(newSource)));
+        assertEquals(Map.of("minecraft:stone", Map.of("id", 1L)),
+                BinaryRegistryFormat.read(ByteBuffer.wrap(data), BinaryRegistryFormat.sourceHash(oldSource)));
+    }
+
+    @Test
+    public void binaryFileName() {
+        assertEquals("blocks.bin", BinaryRegistryFormat.binaryFileName("blocks.json"));
+        assertEquals("tags/block.bin", Registry.Resource.BLOCK_TAGS.binaryFileName());
+    }
+
+    private static byte[] write(Map<String, ?> root) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryRegistryFormat.write(root, HASH, out);
+        return out.toByteArray();
+    }
+}
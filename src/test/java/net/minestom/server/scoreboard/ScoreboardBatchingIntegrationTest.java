@@ -0,0 +1,127 @@
+package net.minestom.server.scoreboard;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.ScoreboardObjectivePacket;
+import net.minestom.server.network.packet.server.play.TeamsPacket;
+import net.minestom.server.network.packet.server.play.UpdateScorePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ScoreboardBatchingIntegrationTest {
+
+    @Test
+    public void sidebar(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var sidebar = new Sidebar(Component.text("Title"), true);
+        sidebar.createLine(new Sidebar.ScoreboardLine("a", Component.text("A"), 1));
+        sidebar.createLine(new Sidebar.ScoreboardLine("b", Component.text("B"), 2));
+        sidebar.addViewer(player);
+
+        var teams = connection.trackIncoming(TeamsPacket.class);
+        var scores = connection.trackIncoming(UpdateScorePacket.class);
+        var objectives = connection.trackIncoming(ScoreboardObjectivePacket.class);
+        sidebar.updateLineContent("a", Component.text("A1"));
+        sidebar.updateLineContent("a", Component.text("A2"));
+        sidebar.updateLineScore("a", 4);
+        sidebar.updateLineScore("a", 5);
+        // Back to the state the viewers already have
+        sidebar.updateLineContent("b", Component.text("B1"));
+        sidebar.updateLineContent("b", Component.text("B"));
+        sidebar.setTitle(Component.text("Title 1"));
+        sidebar.setTitle(Component.text("Title 2"));
+        // Nothing is sent before the end of the tick
+        assertEquals(0, teams.collect().size() + scores.collect().size() + objectives.collect().size());
+
+        env.tick();
+        teams.assertSingle(packet -> {
+            var action = assertInstanceOf(TeamsPacket.UpdateTeamAction.class, packet.action());
+            assertEquals(Component.text("A2"), action.teamPrefix());
+        });
+        scores.assertSingle(packet -> {
+            assertEquals(sidebar.getObjectiveName(), packet.objectiveName());
+            assertEquals(5, packet.score());
+        });
+        objectives.assertSingle(packet -> {
+            assertEquals(2, packet.mode());
+            assertEquals(Component.text("Title 2"), packet.objectiveValue());
+        });
+
+        // Nothing changed since the last flush
+        teams = connection.trackIncoming(TeamsPacket.class);
+        scores = connection.trackIncoming(UpdateScorePacket.class);
+        sidebar.updateLineScore("a", 5);
+        sidebar.updateLineContent("a", Component.text("A2"));
+        env.tick();
+        teams.assertEmpty();
+        scores.assertEmpty();
+    }
+
+    @Test
+    public void sidebarRemovedLine(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var sidebar = new Sidebar(Component.text("Title"), true);
+        sidebar.createLine(new Sidebar.ScoreboardLine("a", Component.text("A"), 1));
+        sidebar.addViewer(player);
+
+        sidebar.updateLineScore("a", 2);
+        sidebar.removeLine("a");
+        var scores = connection.trackIncoming(UpdateScorePacket.class);
+        env.tick();
+        scores.assertEmpty();
+    }
+
+    @Test
+    public void team(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var team = new Team("batched", true);
+        var tracker = connection.trackIncoming(TeamsPacket.class);
+        team.updateTeamColor(NamedTextColor.RED);
+        team.updatePrefix(Component.text("[A] "));
+        team.updateSuffix(Component.text(" !"));
+        team.updateTeamColor(NamedTextColor.BLUE);
+        tracker.assertEmpty();
+
+        env.tick();
+        tracker.assertSingle(packet -> {
+            assertEquals("batched", packet.teamName());
+            var action = assertInstanceOf(TeamsPacket.UpdateTeamAction.class, packet.action());
+            assertEquals(NamedTextColor.BLUE, action.teamColor());
+            assertEquals(Component.text("[A] "), action.teamPrefix());
+            assertEquals(Component.text(" !"), action.teamSuffix());
+        });
+
+        // Same state as the last packet
+        tracker = connection.trackIncoming(TeamsPacket.class);
+        team.updateTeamColor(NamedTextColor.BLUE);
+        env.tick();
+        tracker.assertEmpty();
+    }
+
+    @Test
+    public void teamWithoutBatching(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var team = new Team("immediate", false);
+        var tracker = connection.trackIncoming(TeamsPacket.class);
+        team.updateTeamColor(NamedTextColor.RED);
+        team.updatePrefix(Component.text("[A] "));
+        tracker.assertCount(2);
+    }
+}
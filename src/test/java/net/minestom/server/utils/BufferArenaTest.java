@@ -0,0 +1,139 @@
+package net.minestom.server.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BufferArenaTest {
+
+    @Test
+    public void sizeClasses() {
+        var arena = new BufferArena(262_144, 0);
+        assertEquals(262_144, arena.maxSize());
+        try (var slab = arena.allocate(1)) {
+            assertEquals(4096, slab.capacity());
+        }
+        try (var slab = arena.allocate(4097)) {
+            assertEquals(8192, slab.capacity());
+        }
+        try (var slab = arena.allocate(262_144)) {
+            assertEquals(262_144, slab.capacity());
+        }
+        assertThrows(IllegalArgumentException.class, () -> arena.allocate(262_145));
+        assertThrows(IllegalArgumentException.class, () -> arena.allocate(0));
+    }
+
+    @Test
+    public void reuse() {
+        var arena = new BufferArena(262_144, 0);
+        var slab = arena.allocate(100_000);
+        var buffer = slab.buffer();
+        buffer.put((byte) 1);
+        slab.close();
+        assertThrows(IllegalStateException.class, slab::close);
+
+        try (var reused = arena.allocate(100_000)) {
+            assertSame(buffer, reused.buffer());
+            assertEquals(0, reused.buffer().position());
+        }
+    }
+
+    @Test
+    public void smallBuffersShareChunks() {
+        var arena = new BufferArena(262_144, 0);
+        var first = arena.allocate(4096);
+        var second = arena.allocate(4096);
+        // Both come from the same 64 KiB chunk
+        assertEquals(65_536, arena.stats().reservedBytes());
+        second.buffer().put(0, (byte) 1);
+        assertEquals(0, first.buffer().get(0));
+        first.close();
+        second.close();
+    }
+
+    @Test
+    public void stats() {
+        var arena = new BufferArena(262_144, 0);
+        var slab = arena.allocate(131_072);
+        var sizeClass = arena.stats().sizeClasses().stream()
+                .filter(stats -> stats.size() == 131_072).findFirst().orElseThrow();
+        assertEquals(1, sizeClass.slabs());
+        assertEquals(1, sizeClass.leased());
+        assertEquals(1, sizeClass.allocations());
+        slab.close();
+        sizeClass = arena.stats().sizeClasses().stream()
+                .filter(stats -> stats.size() == 131_072).findFirst().orElseThrow();
+        assertEquals(0, sizeClass.leased());
+    }
+
+    @Test
+    public void limit() {
+        var arena = new BufferArena(262_144, 262_144);
+        var slab = arena.allocate(262_144);
+        assertThrows(OutOfMemoryError.class, () -> arena.allocate(65_536));
+        slab.close();
+        // Pooled buffers are reused without reserving more memory
+        arena.allocate(262_144).close();
+        assertEquals(262_144, arena.stats().reservedBytes());
+    }
+
+    @Test
+    public void trimSharedChunk() {
+        var arena = new BufferArena(262_144, 0);
+        var leased = arena.allocate(4096);
+        arena.trim();
+        // The chunk is still used by the leased slice
+        assertEquals(65_536, arena.stats().reservedBytes());
+        assertEquals(1, sizeClass(arena, 4096).slabs());
+
+        leased.close();
+        arena.trim();
+        assertEquals(0, arena.stats().reservedBytes());
+        assertEquals(0, sizeClass(arena, 4096).slabs());
+    }
+
+    @Test
+    public void trimThreadCache() throws Exception {
+        var arena = new BufferArena(262_144, 0);
+        var cached = new CountDownLatch(1);
+        var trimmed = new CountDownLatch(1);
+        var leased = new AtomicReference<BufferArena.Slab>();
+        var thread = new Thread(() -> {
+            arena.allocate(131_072).close();
+            cached.countDown();
+            assertDoesNotThrow(() -> trimmed.await());
+            // Drops the cached buffer first
+            leased.set(arena.allocate(262_144));
+        });
+        thread.start();
+        cached.await();
+        arena.trim();
+        // Owned by the other thread until its next use
+        assertEquals(1, sizeClass(arena, 131_072).slabs());
+
+        trimmed.countDown();
+        thread.join();
+        assertEquals(0, sizeClass(arena, 131_072).slabs());
+        assertEquals(262_144, arena.stats().reservedBytes());
+        leased.get().close();
+    }
+
+    @Test
+    public void limitTrimsThreadCache() {
+        var arena = new BufferArena(262_144, 131_072);
+        arena.allocate(131_072).close();
+        // The cached buffer is dropped to make room
+        try (var slab = arena.allocate(65_536)) {
+            assertEquals(65_536, slab.capacity());
+        }
+        assertEquals(65_536, arena.stats().reservedBytes());
+    }
+
+    private static BufferArena.SizeClassStats sizeClass(BufferArena arena, int size) {
+        return arena.stats().sizeClasses().stream()
+                .filter(stats -> stats.size() == size).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,175 @@
+package net.minestom.server.utils;
+
+import net.minestom.server.Viewable;
+import net.minestom.server.entity.Player;
+import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.network.socket.Server;
+import net.minestom.server.network.socket.Worker;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.*;
+
+import static net.minestom.server.network.NetworkBuffer.INT;
+import static net.minestom.server.network.socket.WorkerTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ViewablePacketIntegrationTest {
+
+    record IntPacket(int value) implements ServerPacket.Play {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(INT, value);
+        }
+
+        @Override
+        public int playId() {
+            return 1;
+        }
+    }
+
+    record TestViewable(Set<Player> viewers) implements Viewable {
+        @Override
+        public boolean addViewer(@NotNull Player player) {
+            return viewers.add(player);
+        }
+
+        @Override
+        public boolean removeViewer(@NotNull Player player) {
+            return viewers.remove(player);
+        }
+
+        @Override
+        public @NotNull Set<@NotNull Player> getViewers() {
+            return viewers;
+        }
+    }
+
+    @Test
+    public void sharedBuffer(Env env) throws Exception {
+        var server = new Server(new PacketProcessor(new PacketListenerManager()));
+        var first = startWorker(server);
+        var second = startWorker(server);
+        List<SocketChannel> channels = new ArrayList<>();
+        try (var listener = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            var a = connect(listener, first, channels);
+            var b = connect(listener, second, channels);
+            var c = connect(listener, first, channels);
+            var d = connect(listener, first, channels);
+
+            final int initialBuffers = leased(4096);
+            final int initialConnectionBuffers = leased(16_384);
+            var viewable = new TestViewable(new LinkedHashSet<>(List.of(a.player(), b.player(), c.player(), d.player())));
+            var otherViewable = new TestViewable(new LinkedHashSet<>(List.of(a.player(), b.player())));
+            var storage = new PacketUtils.ViewableStorage();
+            var otherStorage = new PacketUtils.ViewableStorage();
+            storage.append(viewable, new IntPacket(1), null);
+            storage.append(viewable, new IntPacket(2), a.player());
+            storage.append(viewable, new IntPacket(3), null);
+            otherStorage.append(otherViewable, new IntPacket(4), null);
+            assertEquals(initialBuffers + 2, leased(4096));
+
+            // Disconnected before its write, and during the write
+            var gate = block(second);
+            c.connection().disconnect();
+            PacketUtils.flush(Map.of(viewable, storage, otherViewable, otherStorage));
+            d.connection().disconnect();
+            await(first);
+            // Still referenced by the blocked connection
+            assertEquals(initialBuffers + 2, leased(4096));
+            assertEquals(initialConnectionBuffers - 2, leased(16_384));
+
+            gate.countDown();
+            await(second);
+            assertEquals(initialBuffers, leased(4096));
+
+            // Each connection receives its packets in order
+            var viewablePackets = frame(new IntPacket(1), new IntPacket(2), new IntPacket(3));
+            var otherPackets = frame(new IntPacket(4));
+            assertSentEither(a, first, concat(frame(new IntPacket(1), new IntPacket(3)), otherPackets),
+                    concat(otherPackets, frame(new IntPacket(1), new IntPacket(3))));
+            assertSentEither(b, second, concat(viewablePackets, otherPackets), concat(otherPackets, viewablePackets));
+        } finally {
+            for (SocketChannel channel : channels) channel.close();
+            stop(server, first, second);
+        }
+    }
+
+    private record Client(SocketChannel channel, PlayerSocketConnection connection, Player player) {
+    }
+
+    private static Client connect(ServerSocketChannel listener, Worker worker, List<SocketChannel> channels) throws IOException {
+        var client = SocketChannel.open(listener.getLocalAddress());
+        channels.add(client);
+        var accepted = listener.accept();
+        channels.add(accepted);
+        var connection = new PlayerSocketConnection(worker, accepted, accepted.getRemoteAddress());
+        var player = new Player(UUID.randomUUID(), "player", connection);
+        return new Client(client, connection, player);
+    }
+
+    private static void assertSentEither(Client client, Worker worker, byte[] expected, byte[] alternative) throws Exception {
+        worker.queue().offer(() -> {
+            try {
+                client.connection().flushSync();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        await(worker);
+        final byte[] received = read(client.channel(), expected.length);
+        assertTrue(Arrays.equals(expected, received) || Arrays.equals(alternative, received),
+                "Unexpected bytes: " + Arrays.toString(received));
+    }
+
+    private static byte[] read(SocketChannel channel, int length) throws IOException {
+        channel.configureBlocking(false);
+        var buffer = ByteBuffer.allocate(length);
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while (buffer.hasRemaining() && System.nanoTime() < deadline) {
+            if (channel.read(buffer) < 0) break;
+        }
+        // Nothing else must have been sent
+        assertEquals(0, channel.read(ByteBuffer.allocate(1)));
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static byte[] frame(ServerPacket... packets) {
+        var output = new ByteArrayOutputStream();
+        for (ServerPacket packet : packets) {
+            var buffer = PacketUtils.createFramedPacket(ConnectionState.PLAY, ByteBuffer.allocateDirect(1024), packet);
+            var bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            output.writeBytes(bytes);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        var result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static int leased(int size) {
+        return BufferArena.NETWORK.stats().sizeClasses().stream()
+                .filter(sizeClass -> sizeClass.size() == size)
+                .findFirst().orElseThrow().leased();
+    }
+}
@@ -8,6 +8,7 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.event.player.AsyncPlayerConfigurationEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.PlayerProvider;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.configuration.SelectKnownPacksPacket;
@@ -35,9 +36,9 @@ final class TestConnectionImpl implements TestConnection {
     }
 
     @Override
-    public @NotNull CompletableFuture<Player> connect(@NotNull Instance instance, @NotNull Pos pos) {
-        // Use player provider to disable queued chunk sending
-        process.connection().setPlayerProvider(TestPlayerImpl::new);
+    public @NotNull CompletableFuture<Player> connect(@NotNull Instance instance, @NotNull Pos pos,
+                                                      @NotNull PlayerProvider playerProvider) {
+        process.connection().setPlayerProvider(playerProvider);
 
         playerConnection.setConnectionState(ConnectionState.LOGIN);
         var player = process.connection().createPlayer(playerConnection, UUID.randomUUID(), "RandName");